@@ -0,0 +1,168 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * The benchmark class {@link CompactStringMapBenchmark} compares the read of a json object into a
+ * {@link java.util.LinkedHashMap} against the read into the compact maps, and the lookup of all
+ * keys in both. The allocation per operation and the retained size are shown with
+ * <code>./gradlew jmh -PjmhIncludes=CompactStringMapBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompactStringMapBenchmark
+{
+
+	/** The type reference for a map with long values */
+	private static final TypeReference<Map<String, Long>> LONG_MAP_TYPE = new TypeReference<>()
+	{
+	};
+
+	/** The number of keys in the json object */
+	@Param({ "16", "10000" })
+	public int entries;
+
+	/** The json object */
+	private String jsonString;
+
+	/** The keys of the json object */
+	private String[] keys;
+
+	/** The json object read into a map */
+	private Map<String, Long> map;
+
+	/** The json object read into a compact long map */
+	private CompactStringLongMap compactLongMap;
+
+	/**
+	 * Creates the json object and reads it into both map representations
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		keys = new String[entries];
+		final StringBuilder jsonObject = new StringBuilder("{");
+		for (int i = 0; i < entries; i++)
+		{
+			keys[i] = "counter" + i;
+			jsonObject.append(0 < i ? "," : "").append('"').append(keys[i]).append("\":")
+				.append(1_000_000L * i);
+		}
+		jsonString = jsonObject.append('}').toString();
+		map = JsonStringToObjectExtensions.toMapObject(jsonString, LONG_MAP_TYPE);
+		compactLongMap = JsonStringToObjectExtensions.toCompactLongMapObject(jsonString);
+	}
+
+	/**
+	 * Reads the json object into a map
+	 *
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public Map<String, Long> toMapObject() throws IOException
+	{
+		return JsonStringToObjectExtensions.toMapObject(jsonString, LONG_MAP_TYPE);
+	}
+
+	/**
+	 * Reads the json object into a compact map with boxed values
+	 *
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public CompactStringMap<Long> toCompactMapObject() throws IOException
+	{
+		return JsonStringToObjectExtensions.toCompactMapObject(jsonString, Long.class);
+	}
+
+	/**
+	 * Reads the json object into a compact map with primitive values
+	 *
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public CompactStringLongMap toCompactLongMapObject() throws IOException
+	{
+		return JsonStringToObjectExtensions.toCompactLongMapObject(jsonString);
+	}
+
+	/**
+	 * Looks up all keys in the map
+	 *
+	 * @return the sum of the values
+	 */
+	@Benchmark
+	public long getFromMap()
+	{
+		long sum = 0;
+		for (final String key : keys)
+		{
+			sum += map.get(key);
+		}
+		return sum;
+	}
+
+	/**
+	 * Looks up all keys in the compact long map without boxing
+	 *
+	 * @return the sum of the values
+	 */
+	@Benchmark
+	public long getFromCompactLongMap()
+	{
+		long sum = 0;
+		for (final String key : keys)
+		{
+			sum += compactLongMap.getLong(key, 0L);
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.json.JsonStringToObjectExtensionsBenchmark.Message;
+
+/**
+ * The benchmark class {@link JsonBatchBenchmark} compares the deserialization of a batch of json
+ * strings one call at a time against the sequential and the parallel batch deserialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonBatchBenchmark
+{
+
+	/** The number of json strings in the batch */
+	@Param({ "5000" })
+	public int batchSize;
+
+	/** The percentage of malformed json strings in the batch */
+	@Param({ "0", "1" })
+	public int malformedPercentage;
+
+	/** The batch of json strings */
+	private List<String> jsonStrings;
+
+	/**
+	 * Creates the batch of json strings
+	 */
+	@Setup
+	public void setUp()
+	{
+		jsonStrings = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++)
+		{
+			final boolean malformed = i % 100 < malformedPercentage;
+			jsonStrings.add("{\"id\":" + i + ",\"sender\":\"foo\",\"receiver\":\"bar\","
+				+ "\"text\":\"hello world\",\"read\":" + (malformed ? "fals}" : "false}"));
+		}
+	}
+
+	/**
+	 * Deserializes the json strings one call at a time and skips the malformed ones
+	 *
+	 * @return the deserialized messages
+	 */
+	@Benchmark
+	public List<Message> toObjectPerElement()
+	{
+		final List<Message> messages = new ArrayList<>(jsonStrings.size());
+		for (final String jsonString : jsonStrings)
+		{
+			try
+			{
+				messages.add(JsonStringToObjectExtensions.toObject(jsonString, Message.class));
+			}
+			catch (final IOException exception)
+			{
+				messages.add(null);
+			}
+		}
+		return messages;
+	}
+
+	/**
+	 * Deserializes the json strings as a sequential batch
+	 *
+	 * @return the batch result
+	 */
+	@Benchmark
+	public BatchResult<Message> toObjects()
+	{
+		return JsonStringToObjectExtensions.toObjects(jsonStrings, Message.class);
+	}
+
+	/**
+	 * Deserializes the json strings as a parallel batch
+	 *
+	 * @return the batch result
+	 */
+	@Benchmark
+	public BatchResult<Message> toObjectsParallel()
+	{
+		return JsonStringToObjectExtensions.toObjects(jsonStrings, Message.class, true);
+	}
+
+}
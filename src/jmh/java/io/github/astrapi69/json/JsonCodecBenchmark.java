@@ -0,0 +1,147 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The benchmark class {@link JsonCodecBenchmark} compares the static helpers of
+ * {@link JsonStringToObjectExtensions} and {@link ObjectToJsonExtensions} against a
+ * {@link JsonCodec} that is obtained once for the message type
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonCodecBenchmark
+{
+
+	/** The codec for the message type */
+	private JsonCodec<Message> codec;
+
+	/** The json document to read */
+	private String jsonString;
+
+	/** The message to write */
+	private Message message;
+
+	/**
+	 * Creates the codec, the json document and the message
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		codec = ObjectMapperFactory.getJsonCodec(Message.class);
+		jsonString = "{\"id\":42,\"sender\":\"foo\",\"receiver\":\"bar\",\"text\":\"hello world\",\"read\":false}";
+		message = codec.read(jsonString);
+	}
+
+	/**
+	 * Reads the json document with the static helper
+	 *
+	 * @return the read message
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public Message readWithStaticHelper() throws IOException
+	{
+		return JsonStringToObjectExtensions.toObject(jsonString, Message.class);
+	}
+
+	/**
+	 * Reads the json document with the codec
+	 *
+	 * @return the read message
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public Message readWithCodec() throws IOException
+	{
+		return codec.read(jsonString);
+	}
+
+	/**
+	 * Writes the message with the static helper
+	 *
+	 * @return the json string
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public String writeWithStaticHelper() throws IOException
+	{
+		return ObjectToJsonExtensions.toJson(message);
+	}
+
+	/**
+	 * Writes the message with the codec
+	 *
+	 * @return the json string
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public String writeWithCodec() throws IOException
+	{
+		return codec.writeAsString(message);
+	}
+
+	/**
+	 * The class {@link Message} is a small message object for the benchmark
+	 */
+	public static class Message
+	{
+		/** The id */
+		public long id;
+
+		/** The sender */
+		public String sender;
+
+		/** The receiver */
+		public String receiver;
+
+		/** The text */
+		public String text;
+
+		/** The read flag */
+		public boolean read;
+	}
+
+}
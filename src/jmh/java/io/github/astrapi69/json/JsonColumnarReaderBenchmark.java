@@ -0,0 +1,142 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link JsonColumnarReaderBenchmark} compares the read of a json array of
+ * flat records into a list of objects that is copied into column arrays against the columnar
+ * read. The allocation per operation is shown with
+ * <code>./gradlew jmh -PjmhIncludes=JsonColumnarReaderBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonColumnarReaderBenchmark
+{
+
+	/** The symbols of the records */
+	private static final String[] SYMBOLS = { "AAPL", "MSFT", "AMZN", "GOOG", "NVDA" };
+
+	/** The number of records in the json array */
+	@Param({ "100000" })
+	public int records;
+
+	/** The json array as utf-8 bytes */
+	private byte[] jsonBytes;
+
+	/** The columnar reader */
+	private JsonColumnarReader columnarReader;
+
+	/**
+	 * Creates the json array and the columnar reader
+	 */
+	@Setup
+	public void setUp()
+	{
+		final StringBuilder jsonArray = new StringBuilder("[");
+		for (int i = 0; i < records; i++)
+		{
+			jsonArray.append(0 < i ? "," : "").append("{\"timestamp\":")
+				.append(1_700_000_000_000L + i).append(",\"symbol\":\"")
+				.append(SYMBOLS[i % SYMBOLS.length]).append("\",\"bid\":").append(100 + i % 50)
+				.append(".25,\"ask\":").append(100 + i % 50).append(".5}");
+		}
+		jsonBytes = jsonArray.append(']').toString().getBytes(StandardCharsets.UTF_8);
+		columnarReader = JsonColumnarReader.newJsonColumnarReader(Quote.class);
+	}
+
+	/**
+	 * Reads the records into a list of objects and copies them into column arrays
+	 *
+	 * @return the bid column
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public double[] toObjectListAndCopy() throws IOException
+	{
+		final List<Quote> quotes = JsonStringToObjectExtensions.toObjectList(jsonBytes,
+			Quote.class);
+		final long[] timestamps = new long[quotes.size()];
+		final String[] symbols = new String[quotes.size()];
+		final double[] bids = new double[quotes.size()];
+		final double[] asks = new double[quotes.size()];
+		for (int i = 0; i < quotes.size(); i++)
+		{
+			final Quote quote = quotes.get(i);
+			timestamps[i] = quote.timestamp;
+			symbols[i] = quote.symbol;
+			bids[i] = quote.bid;
+			asks[i] = quote.ask;
+		}
+		return bids;
+	}
+
+	/**
+	 * Reads the records into columns
+	 *
+	 * @return the columns
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public JsonColumns columnar() throws IOException
+	{
+		return columnarReader.read(jsonBytes);
+	}
+
+	/**
+	 * The class {@link Quote} is a flat market data record for the benchmark
+	 */
+	public static class Quote
+	{
+		/** The timestamp */
+		public long timestamp;
+
+		/** The symbol */
+		public String symbol;
+
+		/** The bid */
+		public double bid;
+
+		/** The ask */
+		public double ask;
+	}
+
+}
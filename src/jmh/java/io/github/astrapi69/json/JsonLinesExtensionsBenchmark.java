@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class {@link JsonLinesExtensionsBenchmark} compares the sequential and the
+ * parallel decoding of a json lines file with the number of lines as parameter. Run it with
+ * <code>./gradlew jmh -PjmhIncludes=JsonLinesExtensionsBenchmark</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonLinesExtensionsBenchmark
+{
+
+	/** The number of lines of the generated json lines file */
+	@Param({ "100000", "1000000" })
+	public int lines;
+
+	/** The generated json lines file */
+	private Path jsonLinesPath;
+
+	/**
+	 * Generates the json lines file
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		jsonLinesPath = Files.createTempFile("records", ".jsonl");
+		JsonLinesExtensions.writeObjects(LongStream.range(0, lines).mapToObj(id -> {
+			final Record record = new Record();
+			record.id = id;
+			record.name = "record number " + id;
+			record.score = id * 0.5d;
+			record.active = id % 2 == 0;
+			return record;
+		}), jsonLinesPath);
+	}
+
+	/**
+	 * Deletes the json lines file
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(jsonLinesPath);
+	}
+
+	/**
+	 * Decodes the json lines file line by line on the calling thread
+	 *
+	 * @return the number of active records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public long sequential() throws IOException
+	{
+		try (Stream<Record> stream = JsonLinesExtensions.streamObjects(jsonLinesPath,
+			Record.class))
+		{
+			return stream.filter(record -> record.active).count();
+		}
+	}
+
+	/**
+	 * Decodes the chunks of the json lines file in parallel
+	 *
+	 * @return the number of active records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public long parallel() throws IOException
+	{
+		try (Stream<Record> stream = JsonLinesExtensions.streamObjects(jsonLinesPath,
+			Record.class, true))
+		{
+			return stream.filter(record -> record.active).count();
+		}
+	}
+
+	/**
+	 * The class {@link Record} is one line of the generated json lines file
+	 */
+	public static class Record
+	{
+		/** The id */
+		public long id;
+
+		/** The name */
+		public String name;
+
+		/** The score */
+		public double score;
+
+		/** The active flag */
+		public boolean active;
+	}
+
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The benchmark class {@link JsonObjectPoolBenchmark} compares the deserialization of a small
+ * message into a new instance against the update of a reused instance and of a pooled instance.
+ * The allocation per message is shown with
+ * <code>./gradlew jmh -PjmhIncludes=JsonObjectPoolBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonObjectPoolBenchmark
+{
+
+	/** The message as utf-8 bytes */
+	private byte[] jsonBytes;
+
+	/** The reused instance */
+	private Quote target;
+
+	/** The pool with the shared mapper */
+	private JsonObjectPool<Quote> pool;
+
+	/** The pool with a merging mapper that updates the nested list in place */
+	private JsonObjectPool<Quote> mergingPool;
+
+	/**
+	 * Creates the message and the pools
+	 */
+	@Setup
+	public void setUp()
+	{
+		jsonBytes = ("{\"symbol\":\"FOO\",\"bid\":101.25,\"ask\":101.5,\"volume\":1200,"
+			+ "\"levels\":[101.0,100.75,100.5,100.25]}").getBytes(StandardCharsets.UTF_8);
+		target = new Quote();
+		pool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset);
+		final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper(true);
+		mapper.setDefaultMergeable(true);
+		mergingPool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new,
+			Quote::reset, JsonObjectPool.DEFAULT_MAX_IDLE, mapper);
+	}
+
+	/**
+	 * Deserializes the message into a new instance
+	 *
+	 * @return the new instance
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public Quote toObject() throws IOException
+	{
+		return JsonStringToObjectExtensions.toObject(jsonBytes, Quote.class);
+	}
+
+	/**
+	 * Overwrites the reused instance with the message
+	 *
+	 * @return the reused instance
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public Quote updateObject() throws IOException
+	{
+		return JsonStringToObjectExtensions.updateObject(jsonBytes, target);
+	}
+
+	/**
+	 * Reads the message into a pooled instance and releases it
+	 *
+	 * @return the symbol of the message
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public String pooled() throws IOException
+	{
+		final Quote quote = pool.readValue(jsonBytes);
+		final String symbol = quote.symbol;
+		pool.release(quote);
+		return symbol;
+	}
+
+	/**
+	 * Reads the message into a pooled instance with a merging mapper and releases it
+	 *
+	 * @return the symbol of the message
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public String pooledMerging() throws IOException
+	{
+		final Quote quote = mergingPool.readValue(jsonBytes);
+		final String symbol = quote.symbol;
+		mergingPool.release(quote);
+		return symbol;
+	}
+
+	/**
+	 * The class {@link Quote} is a small market data message for the benchmark
+	 */
+	public static class Quote
+	{
+		/** The symbol */
+		public String symbol;
+
+		/** The bid */
+		public double bid;
+
+		/** The ask */
+		public double ask;
+
+		/** The volume */
+		public long volume;
+
+		/** The price levels */
+		public List<Double> levels = new ArrayList<>();
+
+		/**
+		 * Resets all properties of this quote
+		 */
+		public void reset()
+		{
+			symbol = null;
+			bid = 0.0d;
+			ask = 0.0d;
+			volume = 0L;
+			levels.clear();
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link JsonStringToObjectExtensionsBenchmark} compares the read of utf-8
+ * bytes that are decoded to a string first against the direct read of the bytes with the byte
+ * parser. The allocation per operation is shown with
+ * <code>./gradlew jmh -PjmhIncludes=JsonStringToObjectExtensionsBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonStringToObjectExtensionsBenchmark
+{
+
+	/** The number of messages in the json array */
+	@Param({ "1", "1000" })
+	public int messages;
+
+	/** The json array as utf-8 bytes */
+	private byte[] jsonBytes;
+
+	/** The json array in a direct byte buffer */
+	private ByteBuffer jsonBuffer;
+
+	/**
+	 * Creates the json array
+	 */
+	@Setup
+	public void setUp()
+	{
+		final StringBuilder jsonArray = new StringBuilder("[");
+		for (int i = 0; i < messages; i++)
+		{
+			jsonArray.append(0 < i ? "," : "").append("{\"id\":").append(i)
+				.append(",\"sender\":\"foo\",\"receiver\":\"bar\",\"text\":\"hello w\u00f6rld\",")
+				.append("\"read\":false}");
+		}
+		jsonBytes = jsonArray.append(']').toString().getBytes(StandardCharsets.UTF_8);
+		jsonBuffer = ByteBuffer.allocateDirect(jsonBytes.length);
+		jsonBuffer.put(jsonBytes).flip();
+	}
+
+	/**
+	 * Decodes the bytes to a string and reads the string
+	 *
+	 * @return the read messages
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public List<Message> toObjectListFromDecodedBytes() throws IOException
+	{
+		return JsonStringToObjectExtensions
+			.toObjectList(new String(jsonBytes, StandardCharsets.UTF_8), Message.class);
+	}
+
+	/**
+	 * Reads the bytes with the byte parser
+	 *
+	 * @return the read messages
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public List<Message> toObjectListFromBytes() throws IOException
+	{
+		return JsonStringToObjectExtensions.toObjectList(jsonBytes, Message.class);
+	}
+
+	/**
+	 * Reads the direct byte buffer with the byte parser
+	 *
+	 * @return the read messages
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public List<Message> toObjectListFromByteBuffer() throws IOException
+	{
+		return JsonStringToObjectExtensions.toObjectList(jsonBuffer, Message.class);
+	}
+
+	/**
+	 * The class {@link Message} is a small message object for the benchmark
+	 */
+	public static class Message
+	{
+		/** The id */
+		public long id;
+
+		/** The sender */
+		public String sender;
+
+		/** The receiver */
+		public String receiver;
+
+		/** The text */
+		public String text;
+
+		/** The read flag */
+		public boolean read;
+	}
+
+}
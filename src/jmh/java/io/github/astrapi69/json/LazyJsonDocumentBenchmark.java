@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The benchmark class {@link LazyJsonDocumentBenchmark} compares the eager tree of
+ * <code>readTree</code> with the {@link LazyJsonDocument} for the access of a few fields of a
+ * large json document. The allocation is shown with
+ * <code>./gradlew jmh -PjmhIncludes=LazyJsonDocumentBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class LazyJsonDocumentBenchmark
+{
+
+	/** The size of the generated json file in megabytes */
+	@Param({ "64", "256" })
+	public int fileSizeMegabytes;
+
+	/** The generated json file */
+	private Path jsonFile;
+
+	/** The number of records in the generated json file */
+	private long records;
+
+	/**
+	 * Generates the json file with an object that holds an array of records
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		jsonFile = Files.createTempFile("lazy-document", ".json");
+		final long maxBytes = fileSizeMegabytes * 1024L * 1024L;
+		long bytes = 0;
+		try (BufferedWriter writer = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8))
+		{
+			writer.write("{\"version\":1,\"records\":[");
+			for (records = 0; bytes < maxBytes; records++)
+			{
+				final String element = (0 < records ? "," : "") + "{\"id\":" + records
+					+ ",\"name\":\"record number " + records + "\",\"score\":" + (records * 0.5d)
+					+ ",\"active\":" + (records % 2 == 0) + "}";
+				writer.write(element);
+				bytes += element.length();
+			}
+			writer.write("]}");
+		}
+	}
+
+	/**
+	 * Deletes the json file
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(jsonFile);
+	}
+
+	/**
+	 * Reads the whole tree and accesses a few fields
+	 *
+	 * @return the sum of the accessed ids
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public long readTree() throws IOException
+	{
+		final JsonNode root = ObjectMapperFactory.newObjectMapper().readTree(jsonFile.toFile());
+		return root.at("/records/0/id").longValue()
+			+ root.at("/records/" + (records / 2) + "/id").longValue()
+			+ root.at("/records/" + (records - 1) + "/id").longValue();
+	}
+
+	/**
+	 * Indexes the document and accesses a few fields
+	 *
+	 * @return the sum of the accessed ids
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public long lazyDocument() throws IOException
+	{
+		final LazyJsonDocument document = LazyJsonDocument.open(jsonFile);
+		return document.at("/records/0/id").longValue()
+			+ document.at("/records/" + (records / 2) + "/id").longValue()
+			+ document.at("/records/" + (records - 1) + "/id").longValue();
+	}
+
+}
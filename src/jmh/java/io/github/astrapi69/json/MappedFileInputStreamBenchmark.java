@@ -0,0 +1,163 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class {@link MappedFileInputStreamBenchmark} compares the read time of the default
+ * file input with the memory mapped file input for the elements of a top level json array. The 5
+ * gigabyte file is larger than one mapping, so it is read region by region. The gc pressure is
+ * shown with
+ * <code>./gradlew jmh -PjmhIncludes=MappedFileInputStreamBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class MappedFileInputStreamBenchmark
+{
+
+	/** The size of the generated json file in megabytes */
+	@Param({ "100", "5120" })
+	public int fileSizeMegabytes;
+
+	/** The generated json file */
+	private Path jsonFile;
+
+	/**
+	 * Generates the json file with a top level array of records
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		jsonFile = Files.createTempFile("mapped-array", ".json");
+		final long maxBytes = fileSizeMegabytes * 1024L * 1024L;
+		long bytes = 0;
+		try (BufferedWriter writer = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8))
+		{
+			writer.write('[');
+			for (long i = 0; bytes < maxBytes; i++)
+			{
+				final String element = (0 < i ? "," : "") + "{\"id\":" + i
+					+ ",\"name\":\"record number " + i + "\",\"score\":" + (i * 0.5d)
+					+ ",\"active\":" + (i % 2 == 0) + "}";
+				writer.write(element);
+				bytes += element.length();
+			}
+			writer.write(']');
+		}
+	}
+
+	/**
+	 * Deletes the json file
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(jsonFile);
+	}
+
+	/**
+	 * Reads all elements of the json file through the default file input
+	 *
+	 * @return the number of active records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public long fileInput() throws IOException
+	{
+		try (Stream<Record> stream = JsonFileToObjectExtensions.streamObjects(jsonFile,
+			Record.class))
+		{
+			return stream.filter(record -> record.active).count();
+		}
+	}
+
+	/**
+	 * Reads all elements of the json file through the memory mapped file input
+	 *
+	 * @return the number of active records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public long memoryMapped() throws IOException
+	{
+		try (Stream<Record> stream = JsonFileToObjectExtensions.streamObjectsMemoryMapped(jsonFile,
+			Record.class))
+		{
+			return stream.filter(record -> record.active).count();
+		}
+	}
+
+	/**
+	 * The class {@link Record} is one element of the generated json array
+	 */
+	public static class Record
+	{
+		/** The id */
+		public long id;
+
+		/** The name */
+		public String name;
+
+		/** The score */
+		public double score;
+
+		/** The active flag */
+		public boolean active;
+	}
+
+}
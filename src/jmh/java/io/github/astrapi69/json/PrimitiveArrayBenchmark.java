@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link PrimitiveArrayBenchmark} compares the read of a numeric json array
+ * into a list of boxed doubles against the read into a double array. The allocation per operation
+ * is shown with
+ * <code>./gradlew jmh -PjmhIncludes=PrimitiveArrayBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveArrayBenchmark
+{
+
+	/** The number of elements in the json array */
+	@Param({ "1000000" })
+	public int elements;
+
+	/** The json array */
+	private String jsonArray;
+
+	/**
+	 * Creates the json array
+	 */
+	@Setup
+	public void setUp()
+	{
+		final StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < elements; i++)
+		{
+			builder.append(0 < i ? "," : "").append(i * 0.125d);
+		}
+		jsonArray = builder.append(']').toString();
+	}
+
+	/**
+	 * Reads the json array into a list of boxed doubles
+	 *
+	 * @return the list
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public List<Double> toObjectList() throws IOException
+	{
+		return JsonStringToObjectExtensions.toObjectList(jsonArray, Double.class);
+	}
+
+	/**
+	 * Reads the json array into a double array
+	 *
+	 * @return the double array
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public double[] toDoubleArray() throws IOException
+	{
+		return JsonStringToObjectExtensions.toDoubleArray(jsonArray);
+	}
+
+}
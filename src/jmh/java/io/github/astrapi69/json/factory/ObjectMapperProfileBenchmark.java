@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * The benchmark class {@link ObjectMapperProfileBenchmark} reads and writes a document with many
+ * floating point numbers and high cardinality keys with the default mapper and the mapper of every
+ * {@link ObjectMapperProfile}. Run it with the gc profiler to compare the allocation rate of the
+ * {@link ObjectMapperProfile#LOW_MEMORY} profile, for instance with
+ * <code>./gradlew jmh -PjmhIncludes=ObjectMapperProfileBenchmark -PjmhProfilers=gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectMapperProfileBenchmark
+{
+
+	/** The profile of the benchmark, DEFAULT stands for the default mapper */
+	@Param({ "DEFAULT", "THROUGHPUT", "LOW_MEMORY", "STRICT" })
+	public String profile;
+
+	/** The json document to read */
+	private String jsonString;
+
+	/** The value to write */
+	private Measurements measurements;
+
+	/** The reader for the document */
+	private ObjectReader objectReader;
+
+	/** The writer for the document */
+	private ObjectWriter objectWriter;
+
+	/**
+	 * Creates the json document, the reader and the writer
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		final ObjectMapper objectMapper = "DEFAULT".equals(profile)
+			? ObjectMapperFactory.newObjectMapper()
+			: ObjectMapperFactory.getObjectMapper(ObjectMapperProfile.valueOf(profile));
+		final StringBuilder sb = new StringBuilder("{\"values\":[");
+		for (int i = 0; i < 512; i++)
+		{
+			if (0 < i)
+			{
+				sb.append(',');
+			}
+			sb.append(i * 1.0000123456789d);
+		}
+		sb.append("],\"labels\":{");
+		for (int i = 0; i < 512; i++)
+		{
+			if (0 < i)
+			{
+				sb.append(',');
+			}
+			sb.append("\"sensor-").append(i * 7919).append("\":\"label ").append(i).append('"');
+		}
+		jsonString = sb.append("}}").toString();
+		objectReader = objectMapper.readerFor(Measurements.class);
+		objectWriter = objectMapper.writerFor(Measurements.class);
+		measurements = objectReader.readValue(jsonString);
+	}
+
+	/**
+	 * Reads the json document
+	 *
+	 * @return the read value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public Measurements read() throws IOException
+	{
+		return objectReader.readValue(jsonString);
+	}
+
+	/**
+	 * Writes the value
+	 *
+	 * @return the json string
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public String write() throws IOException
+	{
+		return objectWriter.writeValueAsString(measurements);
+	}
+
+	/**
+	 * The class {@link Measurements} holds floating point values and labels with high cardinality
+	 * keys
+	 */
+	public static class Measurements
+	{
+		/** The values */
+		public double[] values;
+
+		/** The labels */
+		public Map<String, String> labels;
+	}
+
+}
@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * The benchmark class {@link RecyclerPoolStrategyBenchmark} parses a json document on 10000
+ * concurrent virtual threads with the shared mapper of every {@link RecyclerPoolStrategy}. Run it
+ * on a java 21 runtime with the gc profiler to see the allocation rate, for instance with
+ * <code>./gradlew jmh -PjmhIncludes=RecyclerPoolStrategyBenchmark -PjmhProfilers=gc</code>. On a
+ * runtime without virtual threads a fixed platform thread pool is used instead
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecyclerPoolStrategyBenchmark
+{
+
+	/** The number of concurrent tasks per benchmark invocation */
+	private static final int TASKS = 10_000;
+
+	/** The recycler pool strategy of the benchmark */
+	@Param({ "THREAD_LOCAL", "LOCK_FREE", "CONCURRENT_DEQUE", "BOUNDED", "NONE",
+			"VIRTUAL_THREAD_AWARE" })
+	public RecyclerPoolStrategy strategy;
+
+	/** The json document to parse */
+	private String jsonString;
+
+	/** The reader of the shared mapper of the strategy */
+	private ObjectReader objectReader;
+
+	/** The executor for the tasks */
+	private ExecutorService executorService;
+
+	/**
+	 * Creates the json document, the reader and the executor
+	 */
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		final StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < 64; i++)
+		{
+			if (0 < i)
+			{
+				sb.append(',');
+			}
+			sb.append("\"key").append(i).append("\":\"value number ").append(i).append('"');
+		}
+		jsonString = sb.append('}').toString();
+		objectReader = ObjectMapperFactory.getObjectMapper(strategy)
+			.readerFor(new TypeReference<Map<String, String>>()
+			{
+			});
+		executorService = newVirtualThreadExecutor();
+	}
+
+	/**
+	 * Shuts the executor down
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Parses the json document in 10000 concurrent tasks
+	 *
+	 * @return the number of parsed entries
+	 * @throws InterruptedException
+	 *             if the benchmark thread was interrupted while waiting
+	 * @throws ExecutionException
+	 *             if a task has thrown an exception
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TASKS)
+	public long parseConcurrently() throws InterruptedException, ExecutionException
+	{
+		final List<Future<Integer>> futures = new ArrayList<>(TASKS);
+		for (int i = 0; i < TASKS; i++)
+		{
+			futures.add(executorService
+				.submit(() -> objectReader.<Map<String, String>> readValue(jsonString).size()));
+		}
+		long entries = 0;
+		for (final Future<Integer> future : futures)
+		{
+			entries += future.get();
+		}
+		return entries;
+	}
+
+	private static ExecutorService newVirtualThreadExecutor()
+	{
+		try
+		{
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+				.invoke(null);
+		}
+		catch (final ReflectiveOperationException e)
+		{
+			return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		}
+	}
+
+}
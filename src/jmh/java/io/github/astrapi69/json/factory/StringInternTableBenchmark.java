@@ -0,0 +1,123 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * The benchmark class {@link StringInternTableBenchmark} compares the deserialization of records
+ * with many repeated text values with and without the deduplication of a
+ * {@link StringInternTable}. The deduplication costs a table lookup per string and pays off in the
+ * retained heap of the result, which is not measured here
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StringInternTableBenchmark
+{
+
+	/** The currency codes of the records */
+	private static final String[] CURRENCIES = { "EUR", "USD", "GBP", "CHF", "JPY" };
+
+	/** The number of records in the json array */
+	@Param({ "10000" })
+	public int records;
+
+	/** The json array as utf-8 bytes */
+	private byte[] jsonBytes;
+
+	/** The reader of a plain mapper */
+	private ObjectReader plainReader;
+
+	/** The reader of a deduplicating mapper */
+	private ObjectReader deduplicatingReader;
+
+	/**
+	 * Creates the json array and the readers
+	 */
+	@Setup
+	public void setUp()
+	{
+		final StringBuilder jsonArray = new StringBuilder("[");
+		for (int i = 0; i < records; i++)
+		{
+			jsonArray.append(0 < i ? "," : "").append("{\"id\":\"").append(i)
+				.append("\",\"status\":\"").append(i % 7 == 0 ? "REJECTED" : "ACCEPTED")
+				.append("\",\"currency\":\"").append(CURRENCIES[i % CURRENCIES.length])
+				.append("\",\"country\":\"").append(i % 2 == 0 ? "DE" : "FR").append("\"}");
+		}
+		jsonBytes = jsonArray.append(']').toString().getBytes(StandardCharsets.UTF_8);
+		final TypeReference<List<Map<String, String>>> typeReference = new TypeReference<>()
+		{
+		};
+		plainReader = new ObjectMapper().readerFor(typeReference);
+		deduplicatingReader = ObjectMapperFactory.newObjectMapper(new StringInternTable())
+			.readerFor(typeReference);
+	}
+
+	/**
+	 * Reads the records with the plain mapper
+	 *
+	 * @return the records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public List<Map<String, String>> plain() throws IOException
+	{
+		return plainReader.readValue(jsonBytes);
+	}
+
+	/**
+	 * Reads the records with the deduplicating mapper
+	 *
+	 * @return the records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public List<Map<String, String>> deduplicated() throws IOException
+	{
+		return deduplicatingReader.readValue(jsonBytes);
+	}
+
+}
@@ -0,0 +1,140 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.yaml.factory.YAMLMapperFactory;
+
+/**
+ * The benchmark class {@link YamlStringToObjectExtensionsBenchmark} compares repeated loads of a
+ * small yaml document with a new mapper per call against the cached reader of the shared mapper
+ * and the load of a decoded string against the load of the utf-8 bytes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class YamlStringToObjectExtensionsBenchmark
+{
+
+	/** The yaml document to load */
+	private String yamlString;
+
+	/** The yaml document to load as utf-8 bytes */
+	private byte[] yamlBytes;
+
+	/**
+	 * Creates the yaml document
+	 */
+	@Setup
+	public void setUp()
+	{
+		yamlString = "host: localhost\nport: 8080\nenabled: true\nname: \"service\"\n";
+		yamlBytes = yamlString.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Loads the yaml document with a new mapper as it was done before the mapper was shared
+	 *
+	 * @return the loaded object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public ServerConfig toObjectWithNewMapper() throws IOException
+	{
+		return YamlStringToObjectExtensions.toObject(yamlString, ServerConfig.class,
+			YAMLMapperFactory.newYAMLMapper(true));
+	}
+
+	/**
+	 * Loads the yaml document with the cached reader of the shared mapper
+	 *
+	 * @return the loaded object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public ServerConfig toObjectWithSharedMapper() throws IOException
+	{
+		return YamlStringToObjectExtensions.toObject(yamlString, ServerConfig.class);
+	}
+
+	/**
+	 * Decodes the utf-8 bytes of the yaml document to a string and loads the string
+	 *
+	 * @return the loaded object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public ServerConfig toObjectFromDecodedBytes() throws IOException
+	{
+		return YamlStringToObjectExtensions.toObject(new String(yamlBytes, StandardCharsets.UTF_8),
+			ServerConfig.class);
+	}
+
+	/**
+	 * Loads the utf-8 bytes of the yaml document directly
+	 *
+	 * @return the loaded object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public ServerConfig toObjectFromBytes() throws IOException
+	{
+		return YamlStringToObjectExtensions.toObject(yamlBytes, ServerConfig.class);
+	}
+
+	/**
+	 * The class {@link ServerConfig} is a small configuration object for the benchmark
+	 */
+	public static class ServerConfig
+	{
+		/** The host */
+		public String host;
+
+		/** The port */
+		public int port;
+
+		/** The enabled flag */
+		public boolean enabled;
+
+		/** The name */
+		public String name;
+	}
+
+}
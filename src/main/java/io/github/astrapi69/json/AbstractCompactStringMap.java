@@ -0,0 +1,198 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The class {@link AbstractCompactStringMap} is the base of the immutable maps with string keys
+ * that hold their keys in a {@link CompactStringIndex} and their values in an array on the
+ * position of the key. The iteration order is the insertion order. All mutating methods throw an
+ * {@link UnsupportedOperationException}
+ *
+ * @param <V>
+ *            the generic type of the values
+ */
+abstract class AbstractCompactStringMap<V> extends AbstractMap<String, V>
+{
+
+	/** The index of the keys */
+	final CompactStringIndex index = new CompactStringIndex();
+
+	/** The lazy created entry set */
+	private Set<Map.Entry<String, V>> entrySet;
+
+	/**
+	 * Gets the value at the given position
+	 *
+	 * @param position
+	 *            the position of the key
+	 * @return the value
+	 */
+	abstract V valueAt(int position);
+
+	/**
+	 * Reads the value of the current token of the given parser for the given key. A value for a
+	 * key that was already read replaces the first value and keeps the position of the key
+	 *
+	 * @param key
+	 *            the key
+	 * @param parser
+	 *            the parser on the value
+	 * @param token
+	 *            the current token
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the value does not fit the map
+	 */
+	abstract void readValue(String key, JsonParser parser, JsonToken token) throws IOException;
+
+	/**
+	 * Trims the arrays of this map to the number of entries after the last entry was read
+	 */
+	abstract void trim();
+
+	/**
+	 * Reads the next object of the given parser into this map in one streaming pass
+	 *
+	 * @param parser
+	 *            the parser before or on the start of the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             values that fit the map
+	 */
+	final void readObject(final JsonParser parser) throws IOException
+	{
+		final JsonToken start = parser.hasCurrentToken()
+			? parser.currentToken()
+			: parser.nextToken();
+		if (start != JsonToken.START_OBJECT)
+		{
+			throw new JsonParseException(parser, "Expected an object but was " + start);
+		}
+		String key;
+		while ((key = parser.nextFieldName()) != null)
+		{
+			readValue(key, parser, parser.nextToken());
+		}
+		if (parser.currentToken() != JsonToken.END_OBJECT)
+		{
+			throw new JsonParseException(parser, "Unexpected end of the object");
+		}
+		index.trim();
+		trim();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int size()
+	{
+		return index.size();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean containsKey(final Object key)
+	{
+		return 0 <= index.indexOf(key);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public V get(final Object key)
+	{
+		final int position = index.indexOf(key);
+		return position < 0 ? null : valueAt(position);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Set<Map.Entry<String, V>> entrySet()
+	{
+		if (entrySet == null)
+		{
+			entrySet = new AbstractSet<>()
+			{
+				@Override
+				public Iterator<Map.Entry<String, V>> iterator()
+				{
+					return new Iterator<>()
+					{
+						private int position;
+
+						@Override
+						public boolean hasNext()
+						{
+							return position < index.size();
+						}
+
+						@Override
+						public Map.Entry<String, V> next()
+						{
+							if (!hasNext())
+							{
+								throw new NoSuchElementException();
+							}
+							final int current = position++;
+							return new SimpleImmutableEntry<>(index.keyAt(current),
+								valueAt(current));
+						}
+					};
+				}
+
+				@Override
+				public int size()
+				{
+					return index.size();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Gets the new capacity of a value array that must hold the given position
+	 *
+	 * @param length
+	 *            the current length of the value array
+	 * @param position
+	 *            the position that must fit
+	 * @return the new capacity
+	 */
+	static int capacityFor(final int length, final int position)
+	{
+		return position < length ? length : Math.max(position + 1, length << 1);
+	}
+
+}
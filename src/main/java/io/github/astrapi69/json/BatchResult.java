@@ -0,0 +1,171 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The class {@link BatchResult} is the immutable result of a batch deserialization. It holds the
+ * deserialized values in the order of the given batch and the failures of the elements that could
+ * not be deserialized, so a few malformed elements do not abort the whole batch
+ *
+ * @param <T>
+ *            the generic type of the deserialized values
+ */
+public final class BatchResult<T>
+{
+
+	/** The deserialized values in the order of the batch, null on the index of a failure */
+	private final List<T> values;
+
+	/** The failures in the order of their index */
+	private final List<Failure> failures;
+
+	/**
+	 * Instantiates a new {@link BatchResult}
+	 *
+	 * @param values
+	 *            the deserialized values in the order of the batch
+	 * @param causes
+	 *            the causes of the failures on the same index as the value or null if the value
+	 *            was deserialized
+	 */
+	@SuppressWarnings("unchecked")
+	BatchResult(final Object[] values, final Exception[] causes)
+	{
+		this.values = (List<T>)Collections.unmodifiableList(Arrays.asList(values));
+		final List<Failure> failures = new ArrayList<>();
+		for (int index = 0; index < causes.length; index++)
+		{
+			if (causes[index] != null)
+			{
+				failures.add(new Failure(index, causes[index]));
+			}
+		}
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Gets the deserialized values in the order of the batch. The value on the index of a failure
+	 * is null, as is the value of an element that holds a literal null
+	 *
+	 * @return the deserialized values
+	 */
+	public List<T> getValues()
+	{
+		return values;
+	}
+
+	/**
+	 * Gets the failures in the order of their index
+	 *
+	 * @return the failures
+	 */
+	public List<Failure> getFailures()
+	{
+		return failures;
+	}
+
+	/**
+	 * Checks if at least one element of the batch could not be deserialized
+	 *
+	 * @return true if at least one element could not be deserialized otherwise false
+	 */
+	public boolean hasFailures()
+	{
+		return !failures.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "BatchResult{" + "size=" + values.size() + ", failures=" + failures.size() + '}';
+	}
+
+	/**
+	 * The class {@link Failure} holds the index of a batch element that could not be deserialized
+	 * and the cause
+	 */
+	public static final class Failure
+	{
+
+		/** The index of the element in the batch */
+		private final int index;
+
+		/** The cause of the failure */
+		private final Exception cause;
+
+		/**
+		 * Instantiates a new {@link Failure}
+		 *
+		 * @param index
+		 *            the index of the element in the batch
+		 * @param cause
+		 *            the cause of the failure
+		 */
+		Failure(final int index, final Exception cause)
+		{
+			this.index = index;
+			this.cause = cause;
+		}
+
+		/**
+		 * Gets the index of the element in the batch
+		 *
+		 * @return the index
+		 */
+		public int getIndex()
+		{
+			return index;
+		}
+
+		/**
+		 * Gets the cause of the failure
+		 *
+		 * @return the cause
+		 */
+		public Exception getCause()
+		{
+			return cause;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "Failure{" + "index=" + index + ", cause=" + cause + '}';
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The class {@link CompactStringDoubleMap} is an immutable map from strings to primitive double
+ * values. The keys are held in an open addressing index and the values in a double array, so an
+ * entry costs a key reference, a double and an int slot instead of an entry object and a boxed
+ * value. The primitive values are read with {@link #getDouble(String, double)}, the methods of the
+ * {@link java.util.Map} interface box the values on access. The iteration order is the order of the
+ * json object
+ */
+public final class CompactStringDoubleMap extends AbstractCompactStringMap<Double>
+{
+
+	/** The values on the positions of their keys */
+	private double[] values = new double[16];
+
+	private CompactStringDoubleMap()
+	{
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactStringDoubleMap} from the next json object of
+	 * the given parser that is read in one streaming pass. The parser is not closed
+	 *
+	 * @param parser
+	 *            the parser before or on the start of the object
+	 * @return the new {@link CompactStringDoubleMap}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             number values
+	 */
+	public static CompactStringDoubleMap read(final JsonParser parser) throws IOException
+	{
+		Objects.requireNonNull(parser);
+		final CompactStringDoubleMap map = new CompactStringDoubleMap();
+		map.readObject(parser);
+		return map;
+	}
+
+	/**
+	 * Gets the primitive value of the given key without boxing
+	 *
+	 * @param key
+	 *            the key
+	 * @param defaultValue
+	 *            the value that is returned if the key is not in this map
+	 * @return the value of the key or the given default value
+	 */
+	public double getDouble(final String key, final double defaultValue)
+	{
+		final int position = index.indexOf(key);
+		return position < 0 ? defaultValue : values[position];
+	}
+
+	@Override
+	Double valueAt(final int position)
+	{
+		return values[position];
+	}
+
+	@Override
+	void readValue(final String key, final JsonParser parser, final JsonToken token)
+		throws IOException
+	{
+		if (token == null || !token.isNumeric())
+		{
+			throw new JsonParseException(parser,
+				"Expected a number for the key " + key + " but was " + token);
+		}
+		final int position = index.add(key);
+		if (values.length <= position)
+		{
+			values = Arrays.copyOf(values, capacityFor(values.length, position));
+		}
+		values[position] = parser.getDoubleValue();
+	}
+
+	@Override
+	void trim()
+	{
+		values = Arrays.copyOf(values, index.size());
+	}
+
+}
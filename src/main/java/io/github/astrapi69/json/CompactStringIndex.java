@@ -0,0 +1,170 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.util.Arrays;
+
+/**
+ * The class {@link CompactStringIndex} maps string keys to their dense position in insertion order
+ * with an open addressing hash table of int slots, so no entry object per key is created. The keys
+ * are held in an array in insertion order and a slot holds the position of its key plus one or
+ * zero if it is empty. The index grows while it is filled and is trimmed once at the end
+ */
+final class CompactStringIndex
+{
+
+	/** The initial capacity of the key array */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** The keys in insertion order */
+	private String[] keys = new String[INITIAL_CAPACITY];
+
+	/** The hash table with the positions of the keys plus one, zero for an empty slot */
+	private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+	/** The number of keys */
+	private int size;
+
+	/**
+	 * Gets the number of keys
+	 *
+	 * @return the number of keys
+	 */
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Gets the key at the given position
+	 *
+	 * @param position
+	 *            the position of the key
+	 * @return the key
+	 */
+	String keyAt(final int position)
+	{
+		return keys[position];
+	}
+
+	/**
+	 * Gets the position of the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the position of the key or -1 if the key is not in this index
+	 */
+	int indexOf(final Object key)
+	{
+		if (!(key instanceof String))
+		{
+			return -1;
+		}
+		final int mask = slots.length - 1;
+		for (int slot = hash(key.hashCode()) & mask;; slot = (slot + 1) & mask)
+		{
+			final int entry = slots[slot];
+			if (entry == 0)
+			{
+				return -1;
+			}
+			if (keys[entry - 1].equals(key))
+			{
+				return entry - 1;
+			}
+		}
+	}
+
+	/**
+	 * Adds the given key if it is not in this index yet
+	 *
+	 * @param key
+	 *            the key
+	 * @return the position of the added or the already contained key
+	 */
+	int add(final String key)
+	{
+		final int existing = indexOf(key);
+		if (0 <= existing)
+		{
+			return existing;
+		}
+		if (size == keys.length)
+		{
+			keys = Arrays.copyOf(keys, size << 1);
+		}
+		if (slots.length * 3 <= (size + 1) * 4)
+		{
+			rehash(slots.length << 1);
+		}
+		keys[size] = key;
+		insert(key, size);
+		return size++;
+	}
+
+	/**
+	 * Trims the key array to the number of keys and the hash table to the smallest capacity that
+	 * keeps the load factor below three quarters
+	 */
+	void trim()
+	{
+		keys = Arrays.copyOf(keys, size);
+		int capacity = 2;
+		while (capacity * 3 <= size * 4)
+		{
+			capacity <<= 1;
+		}
+		if (capacity < slots.length)
+		{
+			rehash(capacity);
+		}
+	}
+
+	private void rehash(final int capacity)
+	{
+		slots = new int[capacity];
+		for (int position = 0; position < size; position++)
+		{
+			insert(keys[position], position);
+		}
+	}
+
+	private void insert(final String key, final int position)
+	{
+		final int mask = slots.length - 1;
+		int slot = hash(key.hashCode()) & mask;
+		while (slots[slot] != 0)
+		{
+			slot = (slot + 1) & mask;
+		}
+		slots[slot] = position + 1;
+	}
+
+	private static int hash(final int hashCode)
+	{
+		return hashCode ^ (hashCode >>> 16);
+	}
+
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The class {@link CompactStringLongMap} is an immutable map from strings to primitive long values.
+ * The keys are held in an open addressing index and the values in a long array, so an entry costs a
+ * key reference, a long and an int slot instead of an entry object and a boxed value. The primitive
+ * values are read with {@link #getLong(String, long)}, the methods of the {@link java.util.Map}
+ * interface box the values on access. The iteration order is the order of the json object
+ */
+public final class CompactStringLongMap extends AbstractCompactStringMap<Long>
+{
+
+	/** The values on the positions of their keys */
+	private long[] values = new long[16];
+
+	private CompactStringLongMap()
+	{
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactStringLongMap} from the next json object of the
+	 * given parser that is read in one streaming pass. The parser is not closed
+	 *
+	 * @param parser
+	 *            the parser before or on the start of the object
+	 * @return the new {@link CompactStringLongMap}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             integer number values
+	 */
+	public static CompactStringLongMap read(final JsonParser parser) throws IOException
+	{
+		Objects.requireNonNull(parser);
+		final CompactStringLongMap map = new CompactStringLongMap();
+		map.readObject(parser);
+		return map;
+	}
+
+	/**
+	 * Gets the primitive value of the given key without boxing
+	 *
+	 * @param key
+	 *            the key
+	 * @param defaultValue
+	 *            the value that is returned if the key is not in this map
+	 * @return the value of the key or the given default value
+	 */
+	public long getLong(final String key, final long defaultValue)
+	{
+		final int position = index.indexOf(key);
+		return position < 0 ? defaultValue : values[position];
+	}
+
+	@Override
+	Long valueAt(final int position)
+	{
+		return values[position];
+	}
+
+	@Override
+	void readValue(final String key, final JsonParser parser, final JsonToken token)
+		throws IOException
+	{
+		if (token != JsonToken.VALUE_NUMBER_INT)
+		{
+			throw new JsonParseException(parser,
+				"Expected an integer number for the key " + key + " but was " + token);
+		}
+		final int position = index.add(key);
+		if (values.length <= position)
+		{
+			values = Arrays.copyOf(values, capacityFor(values.length, position));
+		}
+		values[position] = parser.getLongValue();
+	}
+
+	@Override
+	void trim()
+	{
+		values = Arrays.copyOf(values, index.size());
+	}
+
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * The class {@link CompactStringMap} is an immutable map from strings to values. The keys are held
+ * in an open addressing index and the values in an array, so an entry costs a key reference, a
+ * value reference and an int slot instead of an entry object. The iteration order is the order of
+ * the json object
+ *
+ * @param <V>
+ *            the generic type of the values
+ */
+public final class CompactStringMap<V> extends AbstractCompactStringMap<V>
+{
+
+	/** The object reader for the values */
+	private final ObjectReader valueReader;
+
+	/** The values on the positions of their keys */
+	private Object[] values = new Object[16];
+
+	private CompactStringMap(final ObjectReader valueReader)
+	{
+		this.valueReader = valueReader;
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactStringMap} from the next json object of the
+	 * given parser that is read in one streaming pass. Every value is bound with the given object
+	 * reader. The parser is not closed
+	 *
+	 * @param <V>
+	 *            the generic type of the values
+	 * @param parser
+	 *            the parser before or on the start of the object
+	 * @param valueReader
+	 *            the object reader for the values
+	 * @return the new {@link CompactStringMap}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             values that can be bound by the given object reader
+	 */
+	public static <V> CompactStringMap<V> read(final JsonParser parser,
+		final ObjectReader valueReader) throws IOException
+	{
+		Objects.requireNonNull(parser);
+		Objects.requireNonNull(valueReader);
+		final CompactStringMap<V> map = new CompactStringMap<>(valueReader);
+		map.readObject(parser);
+		return map;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	V valueAt(final int position)
+	{
+		return (V)values[position];
+	}
+
+	@Override
+	void readValue(final String key, final JsonParser parser, final JsonToken token)
+		throws IOException
+	{
+		final Object value = token == JsonToken.VALUE_NULL
+			? null
+			: valueReader.readValue(parser);
+		final int position = index.add(key);
+		if (values.length <= position)
+		{
+			values = Arrays.copyOf(values, capacityFor(values.length, position));
+		}
+		values[position] = value;
+	}
+
+	@Override
+	void trim()
+	{
+		values = Arrays.copyOf(values, index.size());
+	}
+
+}
@@ -25,18 +25,24 @@
 package io.github.astrapi69.json;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.github.astrapi69.json.factory.JavaTypeFactory;
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
 
 /**
  * The class {@link JSONObjectToObjectExtensions} converts json strings to java object and java
- * collections.
+ * collections. The org.json values are walked and written as jackson tokens into a
+ * {@link TokenBuffer} that is bound to the java object, no json text is created in between
  */
 public final class JSONObjectToObjectExtensions
 {
@@ -45,6 +51,27 @@ public final class JSONObjectToObjectExtensions
 	{
 	}
 
+	/**
+	 * Transforms the given json object into a java object with the shared object mapper
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param jsonObject
+	 *            the json object
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the java object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final JSONObject jsonObject, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonObject);
+		Objects.requireNonNull(clazz);
+		return bind(jsonObject, ObjectMapperFactory.getJsonCodec(clazz).getObjectReader());
+	}
+
 	/**
 	 * Transforms the given json object into a java object
 	 *
@@ -66,7 +93,7 @@ public final class JSONObjectToObjectExtensions
 		Objects.requireNonNull(jsonObject);
 		Objects.requireNonNull(clazz);
 		Objects.requireNonNull(mapper);
-		return JsonStringToObjectExtensions.toObject(jsonObject.toString(), clazz, mapper);
+		return bind(jsonObject, mapper.readerFor(clazz));
 	}
 
 	/**
@@ -87,18 +114,45 @@ public final class JSONObjectToObjectExtensions
 	{
 		Objects.requireNonNull(jsonArray);
 		Objects.requireNonNull(elementClass);
-		List<String> list = new ArrayList<>();
-		for (int i = 0; i < jsonArray.length(); i++)
-		{
-			Object object = jsonArray.get(i);
-			list.add(object.toString());
-		}
-		List<T> result = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++)
+		return bind(jsonArray, ObjectMapperFactory
+			.getJsonCodec(JavaTypeFactory.newCollectionType(List.class, elementClass))
+			.getObjectReader());
+	}
+
+	/**
+	 * Transforms the given {@link JSONArray} into a java object {@link List} with the given mapper
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param jsonArray
+	 *            the json array
+	 * @param elementClass
+	 *            the element class
+	 * @param mapper
+	 *            the object mapper
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static <T> List<T> toObjectList(final JSONArray jsonArray, final Class<T> elementClass,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonArray);
+		Objects.requireNonNull(elementClass);
+		Objects.requireNonNull(mapper);
+		return bind(jsonArray, mapper.readerFor(
+			JavaTypeFactory.newCollectionType(mapper, List.class, elementClass)));
+	}
+
+	private static <T> T bind(final Object jsonValue, final ObjectReader objectReader)
+		throws IOException
+	{
+		final TokenBuffer tokenBuffer = new TokenBuffer(null, false);
+		JSONTreeTokens.write(jsonValue, tokenBuffer);
+		try (JsonParser parser = tokenBuffer.asParser())
 		{
-			result.add(JsonStringToObjectExtensions.toObject(list.get(i), elementClass));
+			return objectReader.readValue(parser);
 		}
-		return result;
 	}
 
 }
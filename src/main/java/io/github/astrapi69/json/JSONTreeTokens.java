@@ -0,0 +1,193 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The class {@link JSONTreeTokens} walks a tree of {@link JSONObject} and {@link JSONArray}
+ * values and writes it as jackson tokens, and builds such a tree from jackson tokens. No json
+ * text is created in between
+ */
+final class JSONTreeTokens
+{
+
+	private JSONTreeTokens()
+	{
+	}
+
+	/**
+	 * Writes the given org.json value as tokens to the given generator. Values that are not json
+	 * values of org.json are wrapped with {@link JSONObject#wrap(Object)} first
+	 *
+	 * @param value
+	 *            the value to write
+	 * @param generator
+	 *            the generator that receives the tokens
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	static void write(final Object value, final JsonGenerator generator) throws IOException
+	{
+		if (value == null || JSONObject.NULL.equals(value))
+		{
+			generator.writeNull();
+		}
+		else if (value instanceof JSONObject)
+		{
+			final JSONObject jsonObject = (JSONObject)value;
+			generator.writeStartObject();
+			for (final String key : jsonObject.keySet())
+			{
+				generator.writeFieldName(key);
+				write(jsonObject.opt(key), generator);
+			}
+			generator.writeEndObject();
+		}
+		else if (value instanceof JSONArray)
+		{
+			final JSONArray jsonArray = (JSONArray)value;
+			generator.writeStartArray();
+			for (int i = 0; i < jsonArray.length(); i++)
+			{
+				write(jsonArray.opt(i), generator);
+			}
+			generator.writeEndArray();
+		}
+		else if (value instanceof String)
+		{
+			generator.writeString((String)value);
+		}
+		else if (value instanceof Boolean)
+		{
+			generator.writeBoolean((Boolean)value);
+		}
+		else if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+		{
+			generator.writeNumber(((Number)value).intValue());
+		}
+		else if (value instanceof Long)
+		{
+			generator.writeNumber((Long)value);
+		}
+		else if (value instanceof Double || value instanceof Float)
+		{
+			generator.writeNumber(((Number)value).doubleValue());
+		}
+		else if (value instanceof BigInteger)
+		{
+			generator.writeNumber((BigInteger)value);
+		}
+		else if (value instanceof BigDecimal)
+		{
+			generator.writeNumber((BigDecimal)value);
+		}
+		else if (value instanceof Number)
+		{
+			generator.writeNumber(value.toString());
+		}
+		else if (value instanceof Enum)
+		{
+			generator.writeString(((Enum<?>)value).name());
+		}
+		else
+		{
+			final Object wrapped = JSONObject.wrap(value);
+			if (wrapped instanceof JSONObject || wrapped instanceof JSONArray)
+			{
+				write(wrapped, generator);
+			}
+			else
+			{
+				generator.writeString(value.toString());
+			}
+		}
+	}
+
+	/**
+	 * Reads the next value from the given parser into org.json values. Objects become
+	 * {@link JSONObject}, arrays become {@link JSONArray} and null becomes {@link JSONObject#NULL}
+	 *
+	 * @param parser
+	 *            the parser that is positioned before or on the first token of the value
+	 * @return the org.json value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	static Object read(final JsonParser parser) throws IOException
+	{
+		final JsonToken token = parser.hasCurrentToken()
+			? parser.currentToken()
+			: parser.nextToken();
+		if (token == null)
+		{
+			throw new IOException("No content to read");
+		}
+		switch (token)
+		{
+			case START_OBJECT :
+				final JSONObject jsonObject = new JSONObject();
+				while (parser.nextToken() == JsonToken.FIELD_NAME)
+				{
+					final String key = parser.currentName();
+					parser.nextToken();
+					jsonObject.put(key, read(parser));
+				}
+				return jsonObject;
+			case START_ARRAY :
+				final JSONArray jsonArray = new JSONArray();
+				while (parser.nextToken() != JsonToken.END_ARRAY)
+				{
+					jsonArray.put(read(parser));
+				}
+				return jsonArray;
+			case VALUE_STRING :
+				return parser.getText();
+			case VALUE_NUMBER_INT :
+			case VALUE_NUMBER_FLOAT :
+				return parser.getNumberValue();
+			case VALUE_TRUE :
+				return Boolean.TRUE;
+			case VALUE_FALSE :
+				return Boolean.FALSE;
+			case VALUE_EMBEDDED_OBJECT :
+				return JSONObject.wrap(parser.getEmbeddedObject());
+			case VALUE_NULL :
+				return JSONObject.NULL;
+			default :
+				throw new IOException("Unexpected token " + token + " for an org.json value");
+		}
+	}
+
+}
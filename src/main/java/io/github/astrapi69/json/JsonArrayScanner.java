@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The class {@link JsonArrayScanner} runs a structural pre-scan over a json file with a top level
+ * array and splits the elements of the array into batches of whole elements. The scan only tracks
+ * the nesting depth and the string state, brackets, braces and escaped quotes inside of strings
+ * are skipped, nothing is decoded
+ */
+final class JsonArrayScanner
+{
+
+	/** The size of the buffer for the scan */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private JsonArrayScanner()
+	{
+	}
+
+	/**
+	 * Scans the given file channel and returns the byte ranges of the batches. Every range is an
+	 * array of two elements, the start position inclusive and the end position exclusive. A range
+	 * contains one or more whole elements of the top level array separated by commas, a new range
+	 * starts after the first comma behind the given batch size
+	 *
+	 * @param fileChannel
+	 *            the file channel of the json file
+	 * @param batchSize
+	 *            the minimum size of a batch in bytes
+	 * @return the byte ranges of the batches in the order of the elements
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not a top level
+	 *             array
+	 */
+	static List<long[]> scan(final FileChannel fileChannel, final long batchSize)
+		throws IOException
+	{
+		Objects.requireNonNull(fileChannel);
+		final List<long[]> ranges = new ArrayList<>();
+		final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		int depth = 0;
+		boolean inString = false;
+		boolean escaped = false;
+		boolean started = false;
+		boolean closed = false;
+		boolean batchHasContent = false;
+		long batchStart = 0;
+		long position = 0;
+		int read;
+		while (!closed && (read = fileChannel.read(buffer, position)) > 0)
+		{
+			for (int i = 0; i < read && !closed; i++, position++)
+			{
+				final byte value = buffer.get(i);
+				if (inString)
+				{
+					if (escaped)
+					{
+						escaped = false;
+					}
+					else if (value == '\\')
+					{
+						escaped = true;
+					}
+					else if (value == '"')
+					{
+						inString = false;
+					}
+					continue;
+				}
+				if (!started)
+				{
+					if (isWhitespace(value))
+					{
+						continue;
+					}
+					if (value != '[')
+					{
+						throw new IOException(
+							"The json content has no top level array at position " + position);
+					}
+					started = true;
+					depth = 1;
+					batchStart = position + 1;
+					continue;
+				}
+				switch (value)
+				{
+					case '"' :
+						inString = true;
+						batchHasContent = true;
+						break;
+					case '[' :
+					case '{' :
+						depth++;
+						batchHasContent = true;
+						break;
+					case ']' :
+					case '}' :
+						depth--;
+						if (depth == 0)
+						{
+							if (batchHasContent)
+							{
+								ranges.add(new long[] { batchStart, position });
+							}
+							closed = true;
+						}
+						break;
+					case ',' :
+						if (depth == 1 && batchSize <= position - batchStart)
+						{
+							ranges.add(new long[] { batchStart, position });
+							batchStart = position + 1;
+							batchHasContent = false;
+						}
+						break;
+					default :
+						if (!isWhitespace(value))
+						{
+							batchHasContent = true;
+						}
+				}
+			}
+			buffer.clear();
+		}
+		if (!closed)
+		{
+			throw new IOException("The json content ends before the top level array is closed");
+		}
+		return ranges;
+	}
+
+	private static boolean isWhitespace(final byte value)
+	{
+		return value == ' ' || value == '\n' || value == '\r' || value == '\t';
+	}
+
+}
@@ -0,0 +1,316 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link JsonChunkFeeder} parses json content that arrives in chunks with the non
+ * blocking parser of jackson. The caller feeds every chunk as it arrives and gets back the values
+ * that were completed by the chunk. Only the tokens of the value that is not yet complete are
+ * buffered, the chunks before are not held. The fed chunks are consumed before a feed method
+ * returns, so the caller can reuse the chunk buffers. Instances are not thread safe
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class JsonChunkFeeder<T> implements Closeable
+{
+
+	/** The object reader that binds the completed values */
+	private final ObjectReader objectReader;
+
+	/** The flag that indicates if the elements of top level arrays are returned as values */
+	private final boolean unwrapArrays;
+
+	/** The non blocking parser */
+	private final JsonParser parser;
+
+	/** The tokens of the value that is not yet complete or null between two values */
+	private TokenBuffer tokenBuffer;
+
+	/** The nesting depth inside of the current value */
+	private int valueDepth;
+
+	/** The flag that indicates if the parser is inside of an unwrapped top level array */
+	private boolean inArray;
+
+	private JsonChunkFeeder(final ObjectReader objectReader, final boolean unwrapArrays,
+		final boolean byteBufferInput) throws IOException
+	{
+		this.objectReader = Objects.requireNonNull(objectReader);
+		this.unwrapArrays = unwrapArrays;
+		this.parser = byteBufferInput
+			? objectReader.getConfig()
+				.initialize(objectReader.getFactory().createNonBlockingByteBufferParser())
+			: objectReader.createNonBlockingByteArrayParser();
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonChunkFeeder} on the non blocking byte array
+	 * parser for the given value class
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param valueClass
+	 *            the class of the values
+	 * @param unwrapArrays
+	 *            flag that indicates if the elements of top level arrays are returned as values
+	 * @return the new {@link JsonChunkFeeder}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> JsonChunkFeeder<T> newByteArrayFeeder(final Class<T> valueClass,
+		final boolean unwrapArrays) throws IOException
+	{
+		Objects.requireNonNull(valueClass);
+		return newByteArrayFeeder(ObjectMapperFactory.getJsonCodec(valueClass).getObjectReader(),
+			unwrapArrays);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonChunkFeeder} on the non blocking byte array
+	 * parser that binds the values with the given object reader
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param objectReader
+	 *            the object reader for the values
+	 * @param unwrapArrays
+	 *            flag that indicates if the elements of top level arrays are returned as values
+	 * @return the new {@link JsonChunkFeeder}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> JsonChunkFeeder<T> newByteArrayFeeder(final ObjectReader objectReader,
+		final boolean unwrapArrays) throws IOException
+	{
+		return new JsonChunkFeeder<>(objectReader, unwrapArrays, false);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonChunkFeeder} on the non blocking byte buffer
+	 * parser for the given value class
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param valueClass
+	 *            the class of the values
+	 * @param unwrapArrays
+	 *            flag that indicates if the elements of top level arrays are returned as values
+	 * @return the new {@link JsonChunkFeeder}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> JsonChunkFeeder<T> newByteBufferFeeder(final Class<T> valueClass,
+		final boolean unwrapArrays) throws IOException
+	{
+		Objects.requireNonNull(valueClass);
+		return newByteBufferFeeder(ObjectMapperFactory.getJsonCodec(valueClass).getObjectReader(),
+			unwrapArrays);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonChunkFeeder} on the non blocking byte buffer
+	 * parser that binds the values with the given object reader
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param objectReader
+	 *            the object reader for the values
+	 * @param unwrapArrays
+	 *            flag that indicates if the elements of top level arrays are returned as values
+	 * @return the new {@link JsonChunkFeeder}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> JsonChunkFeeder<T> newByteBufferFeeder(final ObjectReader objectReader,
+		final boolean unwrapArrays) throws IOException
+	{
+		return new JsonChunkFeeder<>(objectReader, unwrapArrays, true);
+	}
+
+	/**
+	 * Feeds the given chunk and returns the values that were completed by the chunk
+	 *
+	 * @param chunk
+	 *            the chunk
+	 * @return the completed values in the order of the content, empty if no value was completed
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public List<T> feed(final byte[] chunk) throws IOException
+	{
+		Objects.requireNonNull(chunk);
+		return feed(chunk, 0, chunk.length);
+	}
+
+	/**
+	 * Feeds the given range of the given chunk and returns the values that were completed by it
+	 *
+	 * @param chunk
+	 *            the chunk
+	 * @param offset
+	 *            the offset of the range
+	 * @param length
+	 *            the length of the range
+	 * @return the completed values in the order of the content, empty if no value was completed
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public List<T> feed(final byte[] chunk, final int offset, final int length)
+		throws IOException
+	{
+		Objects.requireNonNull(chunk);
+		Objects.checkFromIndexSize(offset, length, chunk.length);
+		if (parser.getNonBlockingInputFeeder() instanceof ByteArrayFeeder)
+		{
+			((ByteArrayFeeder)parser.getNonBlockingInputFeeder()).feedInput(chunk, offset,
+				offset + length);
+		}
+		else
+		{
+			((ByteBufferFeeder)parser.getNonBlockingInputFeeder())
+				.feedInput(ByteBuffer.wrap(chunk, offset, length));
+		}
+		return nextValues();
+	}
+
+	/**
+	 * Feeds the remaining bytes of the given chunk and returns the values that were completed by
+	 * it. The position of the chunk is moved to its limit
+	 *
+	 * @param chunk
+	 *            the chunk
+	 * @return the completed values in the order of the content, empty if no value was completed
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public List<T> feed(final ByteBuffer chunk) throws IOException
+	{
+		Objects.requireNonNull(chunk);
+		if (parser.getNonBlockingInputFeeder() instanceof ByteBufferFeeder)
+		{
+			((ByteBufferFeeder)parser.getNonBlockingInputFeeder()).feedInput(chunk);
+			final List<T> values = nextValues();
+			chunk.position(chunk.limit());
+			return values;
+		}
+		if (chunk.hasArray())
+		{
+			final List<T> values = feed(chunk.array(), chunk.arrayOffset() + chunk.position(),
+				chunk.remaining());
+			chunk.position(chunk.limit());
+			return values;
+		}
+		final byte[] bytes = new byte[chunk.remaining()];
+		chunk.get(bytes);
+		return feed(bytes);
+	}
+
+	/**
+	 * Signals the end of the input and returns the values that were completed by it
+	 *
+	 * @return the completed values in the order of the content, empty if no value was completed
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content ends inside of a value
+	 */
+	public List<T> endOfInput() throws IOException
+	{
+		parser.getNonBlockingInputFeeder().endOfInput();
+		return nextValues();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		tokenBuffer = null;
+		parser.close();
+	}
+
+	private List<T> nextValues() throws IOException
+	{
+		final List<T> values = new ArrayList<>();
+		JsonToken token;
+		while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE)
+		{
+			if (valueDepth == 0)
+			{
+				if (unwrapArrays && !inArray && token == JsonToken.START_ARRAY)
+				{
+					inArray = true;
+					continue;
+				}
+				if (inArray && token == JsonToken.END_ARRAY)
+				{
+					inArray = false;
+					continue;
+				}
+				tokenBuffer = new TokenBuffer(parser);
+			}
+			tokenBuffer.copyCurrentEvent(parser);
+			if (token.isStructStart())
+			{
+				valueDepth++;
+			}
+			else if (token.isStructEnd())
+			{
+				valueDepth--;
+			}
+			if (valueDepth == 0)
+			{
+				values.add(bind(tokenBuffer));
+				tokenBuffer = null;
+			}
+		}
+		return values;
+	}
+
+	private T bind(final TokenBuffer completedValue) throws IOException
+	{
+		try (JsonParser valueParser = completedValue.asParser())
+		{
+			return objectReader.readValue(valueParser);
+		}
+	}
+
+}
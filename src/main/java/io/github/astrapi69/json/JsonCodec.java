@@ -0,0 +1,295 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * The class {@link JsonCodec} pins a resolved {@link ObjectReader} and {@link ObjectWriter} for one
+ * type, so a read or a write costs only the parsing and the binding of the value. <br>
+ * <br>
+ * Instances are immutable and thread safe. Note that the writer is bound to the given type, so
+ * properties that exists only in subclasses of the type are not written. <br>
+ * <br>
+ * Like the input stream methods of {@link JsonStringToObjectExtensions}, the stream methods close
+ * the given input stream after reading and the given output stream after writing, also when the
+ * read or the write fails
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class JsonCodec<T>
+{
+
+	/** The type of the values */
+	private final JavaType javaType;
+
+	/** The reader for the type */
+	private final ObjectReader objectReader;
+
+	/** The writer for the type */
+	private final ObjectWriter objectWriter;
+
+	/**
+	 * Instantiates a new {@link JsonCodec} object for the given type with the reader and the
+	 * writer of the given {@link ObjectMapper}
+	 *
+	 * @param objectMapper
+	 *            the object mapper
+	 * @param javaType
+	 *            the type of the values
+	 */
+	public JsonCodec(final ObjectMapper objectMapper, final JavaType javaType)
+	{
+		this(javaType, Objects.requireNonNull(objectMapper).readerFor(javaType),
+			objectMapper.writerFor(javaType));
+	}
+
+	/**
+	 * Instantiates a new {@link JsonCodec} object for the given type with the given reader and
+	 * writer
+	 *
+	 * @param javaType
+	 *            the type of the values
+	 * @param objectReader
+	 *            the reader for the type
+	 * @param objectWriter
+	 *            the writer for the type
+	 */
+	public JsonCodec(final JavaType javaType, final ObjectReader objectReader,
+		final ObjectWriter objectWriter)
+	{
+		this.javaType = Objects.requireNonNull(javaType);
+		this.objectReader = Objects.requireNonNull(objectReader);
+		this.objectWriter = Objects.requireNonNull(objectWriter);
+	}
+
+	/**
+	 * Gets the type of the values
+	 *
+	 * @return the type of the values
+	 */
+	public JavaType getJavaType()
+	{
+		return javaType;
+	}
+
+	/**
+	 * Gets the reader for the type
+	 *
+	 * @return the reader for the type
+	 */
+	public ObjectReader getObjectReader()
+	{
+		return objectReader;
+	}
+
+	/**
+	 * Gets the writer for the type
+	 *
+	 * @return the writer for the type
+	 */
+	public ObjectWriter getObjectWriter()
+	{
+		return objectWriter;
+	}
+
+	/**
+	 * Reads a value from the given string
+	 *
+	 * @param content
+	 *            the string to read
+	 * @return the value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T read(final String content) throws IOException
+	{
+		Objects.requireNonNull(content);
+		return objectReader.readValue(content);
+	}
+
+	/**
+	 * Reads a value from the given byte array
+	 *
+	 * @param content
+	 *            the byte array to read
+	 * @return the value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T read(final byte[] content) throws IOException
+	{
+		Objects.requireNonNull(content);
+		return objectReader.readValue(content);
+	}
+
+	/**
+	 * Reads a value from the given input stream. The input stream is closed after reading, also
+	 * when the read fails
+	 *
+	 * @param inputStream
+	 *            the input stream to read
+	 * @return the value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T read(final InputStream inputStream) throws IOException
+	{
+		Objects.requireNonNull(inputStream);
+		try (InputStream source = inputStream)
+		{
+			return objectReader.readValue(source);
+		}
+	}
+
+	/**
+	 * Reads a value from the given file
+	 *
+	 * @param file
+	 *            the file to read
+	 * @return the value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T read(final File file) throws IOException
+	{
+		Objects.requireNonNull(file);
+		return objectReader.readValue(file);
+	}
+
+	/**
+	 * Reads a value from the given path
+	 *
+	 * @param path
+	 *            the path to read
+	 * @return the value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T read(final Path path) throws IOException
+	{
+		Objects.requireNonNull(path);
+		try (InputStream inputStream = Files.newInputStream(path))
+		{
+			return objectReader.readValue(inputStream);
+		}
+	}
+
+	/**
+	 * Writes the given value to a string
+	 *
+	 * @param value
+	 *            the value to write
+	 * @return the string
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public String writeAsString(final T value) throws IOException
+	{
+		return objectWriter.writeValueAsString(value);
+	}
+
+	/**
+	 * Writes the given value to a byte array
+	 *
+	 * @param value
+	 *            the value to write
+	 * @return the byte array
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public byte[] writeAsBytes(final T value) throws IOException
+	{
+		return objectWriter.writeValueAsBytes(value);
+	}
+
+	/**
+	 * Writes the given value to the given output stream. The output stream is closed after
+	 * writing, also when the write fails
+	 *
+	 * @param value
+	 *            the value to write
+	 * @param outputStream
+	 *            the output stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public void write(final T value, final OutputStream outputStream) throws IOException
+	{
+		Objects.requireNonNull(outputStream);
+		try (OutputStream target = outputStream)
+		{
+			objectWriter.writeValue(target, value);
+		}
+	}
+
+	/**
+	 * Writes the given value to the given file
+	 *
+	 * @param value
+	 *            the value to write
+	 * @param file
+	 *            the file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public void write(final T value, final File file) throws IOException
+	{
+		Objects.requireNonNull(file);
+		objectWriter.writeValue(file, value);
+	}
+
+	/**
+	 * Writes the given value to the given path
+	 *
+	 * @param value
+	 *            the value to write
+	 * @param path
+	 *            the path
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public void write(final T value, final Path path) throws IOException
+	{
+		Objects.requireNonNull(path);
+		try (OutputStream outputStream = Files.newOutputStream(path))
+		{
+			objectWriter.writeValue(outputStream, value);
+		}
+	}
+
+}
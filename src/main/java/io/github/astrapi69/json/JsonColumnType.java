@@ -0,0 +1,94 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+/**
+ * The enum {@link JsonColumnType} holds the types of the columns of a {@link JsonColumnarReader}
+ * and the java array that holds the values of a column of the type
+ */
+public enum JsonColumnType
+{
+
+	/** Integer numbers in the int range, held in an int array */
+	INT,
+
+	/** Integer numbers in the long range, held in a long array */
+	LONG,
+
+	/** Numbers held in a float array */
+	FLOAT,
+
+	/** Numbers held in a double array */
+	DOUBLE,
+
+	/** Booleans held in a boolean array */
+	BOOLEAN,
+
+	/**
+	 * Scalar values held as text in a dictionary encoded column, every distinct text is held once
+	 * and the rows hold the int code of their text
+	 */
+	STRING;
+
+	/**
+	 * Gets the column type for the given java type of a property
+	 *
+	 * @param type
+	 *            the java type of the property
+	 * @return the column type
+	 * @throws IllegalArgumentException
+	 *             if no column type holds values of the given java type
+	 */
+	public static JsonColumnType forType(final Class<?> type)
+	{
+		if (type == int.class || type == Integer.class || type == short.class
+			|| type == Short.class || type == byte.class || type == Byte.class)
+		{
+			return INT;
+		}
+		if (type == long.class || type == Long.class)
+		{
+			return LONG;
+		}
+		if (type == float.class || type == Float.class)
+		{
+			return FLOAT;
+		}
+		if (type == double.class || type == Double.class)
+		{
+			return DOUBLE;
+		}
+		if (type == boolean.class || type == Boolean.class)
+		{
+			return BOOLEAN;
+		}
+		if (type == String.class || type == char.class || type == Character.class || type.isEnum())
+		{
+			return STRING;
+		}
+		throw new IllegalArgumentException("No column type for the type " + type.getName());
+	}
+
+}
@@ -0,0 +1,257 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link JsonColumnarReader} reads a json array of flat objects in one streaming pass
+ * column by column into {@link JsonColumns}, so no object per row is created. The columns are
+ * given by a column spec or inferred from the properties of a class. Properties of the objects that
+ * are not in the column spec are skipped. Instances are immutable and thread safe
+ */
+public final class JsonColumnarReader
+{
+
+	/** The column types by the column names in the order of the columns */
+	private final Map<String, JsonColumnType> columnTypes;
+
+	private JsonColumnarReader(final Map<String, JsonColumnType> columnTypes)
+	{
+		this.columnTypes = Collections.unmodifiableMap(new LinkedHashMap<>(columnTypes));
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonColumnarReader} with the given column spec
+	 *
+	 * @param columnTypes
+	 *            the column types by the names of the properties
+	 * @return the new {@link JsonColumnarReader}
+	 */
+	public static JsonColumnarReader newJsonColumnarReader(
+		final Map<String, JsonColumnType> columnTypes)
+	{
+		Objects.requireNonNull(columnTypes);
+		if (columnTypes.isEmpty())
+		{
+			throw new IllegalArgumentException("The column spec must not be empty");
+		}
+		columnTypes.forEach((name, type) -> {
+			Objects.requireNonNull(name);
+			Objects.requireNonNull(type);
+		});
+		return new JsonColumnarReader(columnTypes);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonColumnarReader} with the columns of the
+	 * deserializable properties of the given class as the shared mapper sees them, so renamed and
+	 * ignored properties are respected
+	 *
+	 * @param clazz
+	 *            the class of the flat objects
+	 * @return the new {@link JsonColumnarReader}
+	 * @throws IllegalArgumentException
+	 *             if a property has a type that no {@link JsonColumnType} holds
+	 */
+	public static JsonColumnarReader newJsonColumnarReader(final Class<?> clazz)
+	{
+		Objects.requireNonNull(clazz);
+		final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper();
+		final BeanDescription beanDescription = mapper.getDeserializationConfig()
+			.introspect(mapper.constructType(clazz));
+		final Map<String, JsonColumnType> columnTypes = new LinkedHashMap<>();
+		for (final BeanPropertyDefinition property : beanDescription.findProperties())
+		{
+			if (property.couldDeserialize())
+			{
+				columnTypes.put(property.getName(),
+					JsonColumnType.forType(property.getRawPrimaryType()));
+			}
+		}
+		return newJsonColumnarReader(columnTypes);
+	}
+
+	/**
+	 * Gets the column types by the column names in the order of the columns
+	 *
+	 * @return the column types
+	 */
+	public Map<String, JsonColumnType> getColumnTypes()
+	{
+		return columnTypes;
+	}
+
+	/**
+	 * Reads the given json string with a json array of flat objects into columns
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the columns
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of flat
+	 *             objects with values that fit the column types
+	 */
+	public JsonColumns read(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return read(parser);
+		}
+	}
+
+	/**
+	 * Reads the given json bytes with a json array of flat objects into columns
+	 *
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @return the columns
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of flat
+	 *             objects with values that fit the column types
+	 */
+	public JsonColumns read(final byte[] jsonBytes) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonBytes))
+		{
+			return read(parser);
+		}
+	}
+
+	/**
+	 * Reads the given json file with a json array of flat objects into columns
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the columns
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of flat
+	 *             objects with values that fit the column types
+	 */
+	public JsonColumns read(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return read(parser);
+		}
+	}
+
+	/**
+	 * Reads the given input stream with a json array of flat objects into columns. The input
+	 * stream is closed after reading, also when the reading fails
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 * @return the columns
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of flat
+	 *             objects with values that fit the column types
+	 */
+	public JsonColumns read(final InputStream inputStream) throws IOException
+	{
+		Objects.requireNonNull(inputStream);
+		try (InputStream source = inputStream;
+			JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(source))
+		{
+			return read(parser);
+		}
+	}
+
+	/**
+	 * Reads the next json array of flat objects of the given parser into columns. The parser is
+	 * not closed
+	 *
+	 * @param parser
+	 *            the parser before or on the start of the array
+	 * @return the columns
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of flat
+	 *             objects with values that fit the column types
+	 */
+	public JsonColumns read(final JsonParser parser) throws IOException
+	{
+		Objects.requireNonNull(parser);
+		final JsonToken start = parser.hasCurrentToken()
+			? parser.currentToken()
+			: parser.nextToken();
+		if (start != JsonToken.START_ARRAY)
+		{
+			throw new JsonParseException(parser, "Expected an array but was " + start);
+		}
+		final Map<String, JsonColumns.Column> columns = JsonColumns.newColumns(columnTypes);
+		int row = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+		{
+			if (token != JsonToken.START_OBJECT)
+			{
+				throw new JsonParseException(parser, "Expected an object but was " + token);
+			}
+			String name;
+			while ((name = parser.nextFieldName()) != null)
+			{
+				final JsonToken valueToken = parser.nextToken();
+				final JsonColumns.Column column = columns.get(name);
+				if (column == null)
+				{
+					parser.skipChildren();
+				}
+				else
+				{
+					column.read(parser, valueToken, row);
+				}
+			}
+			for (final JsonColumns.Column column : columns.values())
+			{
+				column.endRow(row);
+			}
+			row++;
+		}
+		for (final JsonColumns.Column column : columns.values())
+		{
+			column.trim(row);
+		}
+		return new JsonColumns(row, columns);
+	}
+
+}
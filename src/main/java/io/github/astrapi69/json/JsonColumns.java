@@ -0,0 +1,626 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The class {@link JsonColumns} holds the values of a json array of flat objects column by column,
+ * one typed array per property. Numbers and booleans are held in primitive arrays and texts in
+ * dictionary encoded columns. A row that has no value or a null value for a column holds the
+ * default value of the array and is marked as null. The returned arrays are not copied and must
+ * not be modified
+ */
+public final class JsonColumns
+{
+
+	/** The number of rows */
+	private final int rowCount;
+
+	/** The columns by their name in the order of the column spec */
+	private final Map<String, Column> columns;
+
+	/**
+	 * Instantiates a new {@link JsonColumns}
+	 *
+	 * @param rowCount
+	 *            the number of rows
+	 * @param columns
+	 *            the trimmed columns by their name
+	 */
+	JsonColumns(final int rowCount, final Map<String, Column> columns)
+	{
+		this.rowCount = rowCount;
+		this.columns = Collections.unmodifiableMap(columns);
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return the number of rows
+	 */
+	public int getRowCount()
+	{
+		return rowCount;
+	}
+
+	/**
+	 * Gets the names of the columns in the order of the column spec
+	 *
+	 * @return the names of the columns
+	 */
+	public Set<String> getColumnNames()
+	{
+		return columns.keySet();
+	}
+
+	/**
+	 * Gets the type of the column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the type of the column
+	 */
+	public JsonColumnType getColumnType(final String name)
+	{
+		return getColumn(name).type;
+	}
+
+	/**
+	 * Checks if the given row has no value or a null value in the column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @param row
+	 *            the index of the row
+	 * @return true if the value is missing or null otherwise false
+	 */
+	public boolean isNull(final String name, final int row)
+	{
+		Objects.checkIndex(row, rowCount);
+		return getColumn(name).nulls.get(row);
+	}
+
+	/**
+	 * Gets the values of the {@link JsonColumnType#INT} column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the values of the column
+	 */
+	public int[] getIntColumn(final String name)
+	{
+		return ((IntColumn)getColumn(name, JsonColumnType.INT)).values;
+	}
+
+	/**
+	 * Gets the values of the {@link JsonColumnType#LONG} column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the values of the column
+	 */
+	public long[] getLongColumn(final String name)
+	{
+		return ((LongColumn)getColumn(name, JsonColumnType.LONG)).values;
+	}
+
+	/**
+	 * Gets the values of the {@link JsonColumnType#FLOAT} column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the values of the column
+	 */
+	public float[] getFloatColumn(final String name)
+	{
+		return ((FloatColumn)getColumn(name, JsonColumnType.FLOAT)).values;
+	}
+
+	/**
+	 * Gets the values of the {@link JsonColumnType#DOUBLE} column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the values of the column
+	 */
+	public double[] getDoubleColumn(final String name)
+	{
+		return ((DoubleColumn)getColumn(name, JsonColumnType.DOUBLE)).values;
+	}
+
+	/**
+	 * Gets the values of the {@link JsonColumnType#BOOLEAN} column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the values of the column
+	 */
+	public boolean[] getBooleanColumn(final String name)
+	{
+		return ((BooleanColumn)getColumn(name, JsonColumnType.BOOLEAN)).values;
+	}
+
+	/**
+	 * Gets the {@link JsonColumnType#STRING} column with the given name
+	 *
+	 * @param name
+	 *            the name of the column
+	 * @return the dictionary encoded column
+	 */
+	public DictionaryColumn getStringColumn(final String name)
+	{
+		return (DictionaryColumn)getColumn(name, JsonColumnType.STRING);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "JsonColumns{" + "rowCount=" + rowCount + ", columns=" + columns.keySet() + '}';
+	}
+
+	private Column getColumn(final String name)
+	{
+		Objects.requireNonNull(name);
+		final Column column = columns.get(name);
+		if (column == null)
+		{
+			throw new IllegalArgumentException("No column with the name " + name);
+		}
+		return column;
+	}
+
+	private Column getColumn(final String name, final JsonColumnType type)
+	{
+		final Column column = getColumn(name);
+		if (column.type != type)
+		{
+			throw new IllegalArgumentException(
+				"The column " + name + " is of the type " + column.type + " and not " + type);
+		}
+		return column;
+	}
+
+	/**
+	 * Factory method for create a new empty column buffer of the given type
+	 *
+	 * @param type
+	 *            the column type
+	 * @return the new column buffer
+	 */
+	static Column newColumn(final JsonColumnType type)
+	{
+		switch (type)
+		{
+			case INT :
+				return new IntColumn();
+			case LONG :
+				return new LongColumn();
+			case FLOAT :
+				return new FloatColumn();
+			case DOUBLE :
+				return new DoubleColumn();
+			case BOOLEAN :
+				return new BooleanColumn();
+			default :
+				return new DictionaryColumn();
+		}
+	}
+
+	/**
+	 * Factory method for create a new map of empty column buffers for the given column types
+	 *
+	 * @param columnTypes
+	 *            the column types by the column names
+	 * @return the new map of empty column buffers in the order of the given column types
+	 */
+	static Map<String, Column> newColumns(final Map<String, JsonColumnType> columnTypes)
+	{
+		final Map<String, Column> columns = new LinkedHashMap<>();
+		columnTypes.forEach((name, type) -> columns.put(name, newColumn(type)));
+		return columns;
+	}
+
+	/**
+	 * The base class of a column buffer that grows geometrically while the rows are read and is
+	 * trimmed to the number of rows at the end
+	 */
+	abstract static class Column
+	{
+
+		/** The initial capacity of the buffer */
+		static final int INITIAL_CAPACITY = 64;
+
+		/** The type of the column */
+		final JsonColumnType type;
+
+		/** The rows with a missing or null value */
+		final BitSet nulls = new BitSet();
+
+		/** The last row that has a value in this column */
+		int lastRow = -1;
+
+		Column(final JsonColumnType type)
+		{
+			this.type = type;
+		}
+
+		/**
+		 * Reads the current scalar token of the given parser into the given row
+		 *
+		 * @param parser
+		 *            the parser on the value
+		 * @param token
+		 *            the current token
+		 * @param row
+		 *            the index of the row
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred or the value does not fit the
+		 *             type of the column
+		 */
+		void read(final JsonParser parser, final JsonToken token, final int row)
+			throws IOException
+		{
+			lastRow = row;
+			if (token == JsonToken.VALUE_NULL)
+			{
+				nulls.set(row);
+				return;
+			}
+			set(parser, token, row);
+		}
+
+		/**
+		 * Marks the given row as null if the row had no value in this column
+		 *
+		 * @param row
+		 *            the index of the row
+		 */
+		void endRow(final int row)
+		{
+			if (lastRow != row)
+			{
+				nulls.set(row);
+			}
+		}
+
+		/**
+		 * Sets the non null value of the current token into the given row
+		 *
+		 * @param parser
+		 *            the parser on the value
+		 * @param token
+		 *            the current token
+		 * @param row
+		 *            the index of the row
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred or the value does not fit the
+		 *             type of the column
+		 */
+		abstract void set(JsonParser parser, JsonToken token, int row) throws IOException;
+
+		/**
+		 * Trims the buffer to the given number of rows
+		 *
+		 * @param rowCount
+		 *            the number of rows
+		 */
+		abstract void trim(int rowCount);
+
+		static int capacityFor(final int length, final int row)
+		{
+			return row < length ? length : Math.max(row + 1, length << 1);
+		}
+
+		static JsonParseException unexpectedToken(final JsonParser parser, final JsonToken token,
+			final JsonColumnType type)
+		{
+			return new JsonParseException(parser,
+				"The value " + token + " does not fit the column type " + type);
+		}
+
+	}
+
+	private static final class IntColumn extends Column
+	{
+
+		private int[] values = new int[INITIAL_CAPACITY];
+
+		IntColumn()
+		{
+			super(JsonColumnType.INT);
+		}
+
+		@Override
+		void set(final JsonParser parser, final JsonToken token, final int row) throws IOException
+		{
+			if (token != JsonToken.VALUE_NUMBER_INT)
+			{
+				throw unexpectedToken(parser, token, type);
+			}
+			if (values.length <= row)
+			{
+				values = Arrays.copyOf(values, capacityFor(values.length, row));
+			}
+			values[row] = parser.getIntValue();
+		}
+
+		@Override
+		void trim(final int rowCount)
+		{
+			values = Arrays.copyOf(values, rowCount);
+		}
+
+	}
+
+	private static final class LongColumn extends Column
+	{
+
+		private long[] values = new long[INITIAL_CAPACITY];
+
+		LongColumn()
+		{
+			super(JsonColumnType.LONG);
+		}
+
+		@Override
+		void set(final JsonParser parser, final JsonToken token, final int row) throws IOException
+		{
+			if (token != JsonToken.VALUE_NUMBER_INT)
+			{
+				throw unexpectedToken(parser, token, type);
+			}
+			if (values.length <= row)
+			{
+				values = Arrays.copyOf(values, capacityFor(values.length, row));
+			}
+			values[row] = parser.getLongValue();
+		}
+
+		@Override
+		void trim(final int rowCount)
+		{
+			values = Arrays.copyOf(values, rowCount);
+		}
+
+	}
+
+	private static final class FloatColumn extends Column
+	{
+
+		private float[] values = new float[INITIAL_CAPACITY];
+
+		FloatColumn()
+		{
+			super(JsonColumnType.FLOAT);
+		}
+
+		@Override
+		void set(final JsonParser parser, final JsonToken token, final int row) throws IOException
+		{
+			if (!token.isNumeric())
+			{
+				throw unexpectedToken(parser, token, type);
+			}
+			if (values.length <= row)
+			{
+				values = Arrays.copyOf(values, capacityFor(values.length, row));
+			}
+			values[row] = parser.getFloatValue();
+		}
+
+		@Override
+		void trim(final int rowCount)
+		{
+			values = Arrays.copyOf(values, rowCount);
+		}
+
+	}
+
+	private static final class DoubleColumn extends Column
+	{
+
+		private double[] values = new double[INITIAL_CAPACITY];
+
+		DoubleColumn()
+		{
+			super(JsonColumnType.DOUBLE);
+		}
+
+		@Override
+		void set(final JsonParser parser, final JsonToken token, final int row) throws IOException
+		{
+			if (!token.isNumeric())
+			{
+				throw unexpectedToken(parser, token, type);
+			}
+			if (values.length <= row)
+			{
+				values = Arrays.copyOf(values, capacityFor(values.length, row));
+			}
+			values[row] = parser.getDoubleValue();
+		}
+
+		@Override
+		void trim(final int rowCount)
+		{
+			values = Arrays.copyOf(values, rowCount);
+		}
+
+	}
+
+	private static final class BooleanColumn extends Column
+	{
+
+		private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+		BooleanColumn()
+		{
+			super(JsonColumnType.BOOLEAN);
+		}
+
+		@Override
+		void set(final JsonParser parser, final JsonToken token, final int row) throws IOException
+		{
+			if (!token.isBoolean())
+			{
+				throw unexpectedToken(parser, token, type);
+			}
+			if (values.length <= row)
+			{
+				values = Arrays.copyOf(values, capacityFor(values.length, row));
+			}
+			values[row] = token == JsonToken.VALUE_TRUE;
+		}
+
+		@Override
+		void trim(final int rowCount)
+		{
+			values = Arrays.copyOf(values, rowCount);
+		}
+
+	}
+
+	/**
+	 * The class {@link DictionaryColumn} is a dictionary encoded column of texts. Every distinct
+	 * text is held once in the dictionary and every row holds the code of its text, the index in
+	 * the dictionary, or {@link #NULL_CODE} for a missing or null value
+	 */
+	public static final class DictionaryColumn extends Column
+	{
+
+		/** The code of a row with a missing or null value */
+		public static final int NULL_CODE = -1;
+
+		/** The codes of the rows */
+		private int[] codes = new int[INITIAL_CAPACITY];
+
+		/** The distinct texts in the order of their first occurrence */
+		private final List<String> dictionary = new ArrayList<>();
+
+		/** The read only view of the dictionary */
+		private final List<String> dictionaryView = Collections.unmodifiableList(dictionary);
+
+		/** The codes of the distinct texts while the rows are read */
+		private Map<String, Integer> index = new HashMap<>();
+
+		DictionaryColumn()
+		{
+			super(JsonColumnType.STRING);
+			Arrays.fill(codes, NULL_CODE);
+		}
+
+		/**
+		 * Gets the codes of the rows, the index of the text of a row in the dictionary or
+		 * {@link #NULL_CODE} for a missing or null value. The returned array is not copied and
+		 * must not be modified
+		 *
+		 * @return the codes of the rows
+		 */
+		public int[] getCodes()
+		{
+			return codes;
+		}
+
+		/**
+		 * Gets a read only view of the distinct texts of this column in the order of their first
+		 * occurrence
+		 *
+		 * @return the dictionary
+		 */
+		public List<String> getDictionary()
+		{
+			return dictionaryView;
+		}
+
+		/**
+		 * Gets the text of the given row
+		 *
+		 * @param row
+		 *            the index of the row
+		 * @return the text or null for a missing or null value
+		 */
+		public String get(final int row)
+		{
+			final int code = codes[row];
+			return code == NULL_CODE ? null : dictionary.get(code);
+		}
+
+		@Override
+		void set(final JsonParser parser, final JsonToken token, final int row) throws IOException
+		{
+			if (!token.isScalarValue())
+			{
+				throw unexpectedToken(parser, token, type);
+			}
+			if (codes.length <= row)
+			{
+				final int length = codes.length;
+				codes = Arrays.copyOf(codes, capacityFor(length, row));
+				Arrays.fill(codes, length, codes.length, NULL_CODE);
+			}
+			final String text = parser.getText();
+			Integer code = index.get(text);
+			if (code == null)
+			{
+				code = dictionary.size();
+				dictionary.add(text);
+				index.put(text, code);
+			}
+			codes[row] = code;
+		}
+
+		@Override
+		void trim(final int rowCount)
+		{
+			final int length = codes.length;
+			codes = Arrays.copyOf(codes, rowCount);
+			if (length < rowCount)
+			{
+				Arrays.fill(codes, length, rowCount, NULL_CODE);
+			}
+			index = null;
+		}
+
+	}
+
+}
@@ -24,16 +24,33 @@
  */
 package io.github.astrapi69.json;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
+import io.github.astrapi69.json.factory.JavaTypeFactory;
 import io.github.astrapi69.json.factory.ObjectMapperFactory;
 
 /**
@@ -42,6 +59,12 @@ import io.github.astrapi69.json.factory.ObjectMapperFactory;
  */
 public final class JsonFileToObjectExtensions
 {
+	/** The minimum size of a batch for the parallel decoding */
+	private static final long MIN_BATCH_SIZE = 1024 * 1024;
+
+	/** The maximum size of a batch for the parallel decoding */
+	private static final long MAX_BATCH_SIZE = 16 * 1024 * 1024;
+
 	private JsonFileToObjectExtensions()
 	{
 	}
@@ -95,6 +118,77 @@ public final class JsonFileToObjectExtensions
 		return mapper.readValue(jsonFile, typeReference);
 	}
 
+	/**
+	 * Transforms the given json file into a compact immutable java map object that is read in one
+	 * streaming pass. The map holds no entry objects and keeps the order of the json object
+	 *
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonFile
+	 *            the json file
+	 * @param valueClass
+	 *            the class of the values
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <V> CompactStringMap<V> toCompactMapObject(final File jsonFile,
+		final Class<V> valueClass) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		Objects.requireNonNull(valueClass);
+		final ObjectReader valueReader = ObjectMapperFactory.getJsonCodec(valueClass)
+			.getObjectReader();
+		try (JsonParser parser = valueReader.createParser(jsonFile))
+		{
+			return CompactStringMap.read(parser, valueReader);
+		}
+	}
+
+	/**
+	 * Transforms the given json file into a compact immutable java map object with primitive long
+	 * values that is read in one streaming pass. The map holds no entry objects and no boxed values
+	 * and keeps the order of the json object
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             integer numbers as values
+	 */
+	public static CompactStringLongMap toCompactLongMapObject(final File jsonFile)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return CompactStringLongMap.read(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file into a compact immutable java map object with primitive double
+	 * values that is read in one streaming pass. The map holds no entry objects and no boxed values
+	 * and keeps the order of the json object
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             numbers as values
+	 */
+	public static CompactStringDoubleMap toCompactDoubleMapObject(final File jsonFile)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return CompactStringDoubleMap.read(parser);
+		}
+	}
+
 	/**
 	 * Transforms the given json file into a java object.
 	 *
@@ -183,9 +277,8 @@ public final class JsonFileToObjectExtensions
 		Objects.requireNonNull(jsonFile);
 		Objects.requireNonNull(collectionClass);
 		Objects.requireNonNull(elementClass);
-		final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper(true);
-		return mapper.readValue(jsonFile,
-			mapper.getTypeFactory().constructCollectionType(collectionClass, elementClass));
+		return ObjectMapperFactory.newObjectMapper().readValue(jsonFile,
+			JavaTypeFactory.newCollectionType(collectionClass, elementClass));
 	}
 
 	/**
@@ -209,4 +302,499 @@ public final class JsonFileToObjectExtensions
 		return (List<T>)toObjectCollection(jsonFile, List.class, elementClass);
 	}
 
+	/**
+	 * Transforms the given json file with a json array of numbers into an int array without boxing
+	 * of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the int array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             integer numbers in the int range
+	 */
+	public static int[] toIntArray(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootIntArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of numbers into a long array without boxing
+	 * of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the long array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             integer numbers in the long range
+	 */
+	public static long[] toLongArray(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootLongArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of numbers into a double array without
+	 * boxing of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the double array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             numbers
+	 */
+	public static double[] toDoubleArray(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootDoubleArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of numbers into a float array without boxing
+	 * of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the float array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             numbers
+	 */
+	public static float[] toFloatArray(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootFloatArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of arrays of numbers into an array of int
+	 * arrays without boxing of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the array of int arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of integer numbers in the int range
+	 */
+	public static int[][] toIntArrays(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootIntArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of arrays of numbers into an array of long
+	 * arrays without boxing of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the array of long arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of integer numbers in the long range
+	 */
+	public static long[][] toLongArrays(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootLongArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of arrays of numbers into an array of double
+	 * arrays without boxing of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the array of double arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of numbers
+	 */
+	public static double[][] toDoubleArrays(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootDoubleArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a json array of arrays of numbers into an array of float
+	 * arrays without boxing of the elements
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @return the array of float arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of numbers
+	 */
+	public static float[][] toFloatArrays(final File jsonFile) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonFile))
+		{
+			return PrimitiveArrayReader.readRootFloatArrays(parser);
+		}
+	}
+
+	/**
+	 * Creates a lazy iterator over the values of the given json file. If the file contains a top
+	 * level array the elements of the array are iterated, so the whole array is never held in
+	 * memory. The returned iterator must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonFile
+	 *            the json file
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link MappingIterator}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> MappingIterator<T> toObjectIterator(final File jsonFile,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		Objects.requireNonNull(elementClass);
+		return ObjectMapperFactory.getJsonCodec(elementClass).getObjectReader().readValues(jsonFile);
+	}
+
+	/**
+	 * Creates a lazy iterator over the values of the given input stream. If the input stream
+	 * contains a top level array the elements of the array are iterated, so the whole array is
+	 * never held in memory. The returned iterator must be closed, this closes the input stream
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param inputStream
+	 *            the input stream with the json content
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link MappingIterator}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> MappingIterator<T> toObjectIterator(final InputStream inputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(inputStream);
+		Objects.requireNonNull(elementClass);
+		return ObjectMapperFactory.getJsonCodec(elementClass).getObjectReader()
+			.readValues(inputStream);
+	}
+
+	/**
+	 * Creates a lazy stream over the values of the given json file. If the file contains a top
+	 * level array the elements of the array are streamed one by one, so the memory use does not
+	 * grow with the size of the file. The returned stream must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonFile
+	 *            the json file
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final File jsonFile, final Class<T> elementClass)
+		throws IOException
+	{
+		return MappingIteratorExtensions.toStream(toObjectIterator(jsonFile, elementClass));
+	}
+
+	/**
+	 * Creates a lazy stream over the values of the given json file. If the file contains a top
+	 * level array the elements of the array are streamed one by one, so the memory use does not
+	 * grow with the size of the file. The returned stream must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final Path jsonPath, final Class<T> elementClass)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		final InputStream inputStream = Files.newInputStream(jsonPath);
+		try
+		{
+			return streamObjects(inputStream, elementClass);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			inputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates a lazy stream over the values of the given input stream. If the input stream
+	 * contains a top level array the elements of the array are streamed one by one, so the memory
+	 * use does not grow with the size of the content. The returned stream must be closed, this
+	 * closes the input stream
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param inputStream
+	 *            the input stream with the json content
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final InputStream inputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		return MappingIteratorExtensions.toStream(toObjectIterator(inputStream, elementClass));
+	}
+
+	/**
+	 * Transforms the given json file into a java object. The file is read through read only memory
+	 * mappings, see {@link MappedFileInputStream}, which avoids the read calls and the copies of
+	 * the default file input for large read only data files
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param jsonFile
+	 *            the json file
+	 * @param clazz
+	 *            the clazz
+	 * @return the t
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObjectMemoryMapped(final File jsonFile, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(clazz);
+		return toObjectMemoryMapped(jsonFile, ObjectMapperFactory.getJsonCodec(clazz)
+			.getObjectReader());
+	}
+
+	/**
+	 * Transforms the given json file into a java object with the given mapper. The file is read
+	 * through read only memory mappings, see {@link MappedFileInputStream}
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param jsonFile
+	 *            the json file
+	 * @param clazz
+	 *            the clazz
+	 * @param mapper
+	 *            the mapper
+	 * @return the t
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObjectMemoryMapped(final File jsonFile, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return toObjectMemoryMapped(jsonFile, mapper.readerFor(clazz));
+	}
+
+	/**
+	 * Transforms the given json file into a java object {@link List}. The file is read through
+	 * read only memory mappings, see {@link MappedFileInputStream}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonFile
+	 *            the json file
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectListMemoryMapped(final File jsonFile,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(elementClass);
+		return toObjectMemoryMapped(jsonFile, ObjectMapperFactory.newObjectMapper()
+			.readerFor(JavaTypeFactory.newCollectionType(List.class, elementClass)));
+	}
+
+	/**
+	 * Creates a lazy stream over the values of the given json file that is read through read only
+	 * memory mappings, see {@link MappedFileInputStream}. If the file contains a top level array
+	 * the elements of the array are streamed one by one. The returned stream must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjectsMemoryMapped(final Path jsonPath,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		final InputStream inputStream = new MappedFileInputStream(jsonPath);
+		try
+		{
+			return streamObjects(inputStream, elementClass);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			inputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Transforms the given json file with a top level array into a java object {@link List} and
+	 * decodes the elements in parallel on the common fork join pool. A structural pre-scan splits
+	 * the array into batches of whole elements, the batches are bound in parallel and the results
+	 * are assembled in the order of the array
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonFile
+	 *            the json file
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectListParallel(final File jsonFile,
+		final Class<T> elementClass) throws IOException
+	{
+		return toObjectListParallel(jsonFile, elementClass, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Transforms the given json file with a top level array into a java object {@link List} and
+	 * decodes the elements in parallel on the given fork join pool. A structural pre-scan splits
+	 * the array into batches of whole elements, the batches are bound in parallel and the results
+	 * are assembled in the order of the array
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonFile
+	 *            the json file
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @param forkJoinPool
+	 *            the fork join pool that decodes the batches
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectListParallel(final File jsonFile,
+		final Class<T> elementClass, final ForkJoinPool forkJoinPool) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		Objects.requireNonNull(elementClass);
+		Objects.requireNonNull(forkJoinPool);
+		final ObjectReader objectReader = ObjectMapperFactory.newObjectMapper()
+			.readerFor(JavaTypeFactory.newCollectionType(List.class, elementClass));
+		try (FileChannel fileChannel = FileChannel.open(jsonFile.toPath(),
+			StandardOpenOption.READ))
+		{
+			final long batchSize = Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE,
+				fileChannel.size() / Math.max(1, forkJoinPool.getParallelism() * 4L)));
+			final List<long[]> ranges = JsonArrayScanner.scan(fileChannel, batchSize);
+			final List<List<T>> batches = forkJoinPool
+				.submit(() -> ranges.parallelStream()
+					.map(range -> JsonFileToObjectExtensions.<T> readBatch(fileChannel,
+						objectReader, range))
+					.collect(Collectors.toList()))
+				.get();
+			final List<T> values = new ArrayList<>();
+			batches.forEach(values::addAll);
+			return values;
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+		catch (final ExecutionException e)
+		{
+			if (e.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException)e.getCause()).getCause();
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	private static <T> List<T> readBatch(final FileChannel fileChannel,
+		final ObjectReader objectReader, final long[] range)
+	{
+		try
+		{
+			final int length = (int)(range[1] - range[0]);
+			final byte[] content = new byte[length + 2];
+			content[0] = '[';
+			content[length + 1] = ']';
+			final ByteBuffer buffer = ByteBuffer.wrap(content, 1, length);
+			while (buffer.hasRemaining())
+			{
+				if (fileChannel.read(buffer, range[0] + buffer.position() - 1) < 0)
+				{
+					throw new EOFException("The json file ends inside of a batch");
+				}
+			}
+			return objectReader.readValue(content);
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static <T> T toObjectMemoryMapped(final File jsonFile, final ObjectReader objectReader)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		try (InputStream inputStream = new MappedFileInputStream(jsonFile.toPath()))
+		{
+			return objectReader.readValue(inputStream);
+		}
+	}
+
 }
@@ -0,0 +1,447 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link JsonLinesExtensions} reads and writes newline delimited json, also known as
+ * json lines or ndjson, where every line holds one json value
+ */
+public final class JsonLinesExtensions
+{
+
+	/** The line separator of json lines */
+	private static final char LINE_SEPARATOR = '\n';
+
+	/** The minimum size of a chunk for the parallel decoding */
+	private static final int MIN_CHUNK_SIZE = 1024 * 1024;
+
+	/** The maximum size of a chunk for the parallel decoding */
+	private static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+	/** The size of the buffer for the search of a line separator */
+	private static final int SEARCH_BUFFER_SIZE = 8192;
+
+	/** The writer that writes one value per line */
+	private static final ObjectWriter JSON_LINES_WRITER = ObjectMapperFactory.newObjectMapper()
+		.writer().without(SerializationFeature.INDENT_OUTPUT)
+		.withRootValueSeparator(String.valueOf(LINE_SEPARATOR));
+
+	private JsonLinesExtensions()
+	{
+	}
+
+	/**
+	 * Creates a lazy stream with one java object per line of the given input stream. Empty lines
+	 * are skipped. The returned stream must be closed, this closes the input stream
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param inputStream
+	 *            the input stream with the json lines
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final InputStream inputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(elementClass);
+		final MappingIterator<T> mappingIterator = MappingIteratorExtensions.newRootValueIterator(
+			ObjectMapperFactory.getJsonCodec(elementClass).getObjectReader(), inputStream);
+		return MappingIteratorExtensions.toStream(mappingIterator);
+	}
+
+	/**
+	 * Creates a lazy stream with one java object per line of the given file. The returned stream
+	 * must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonLinesFile
+	 *            the json lines file
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final File jsonLinesFile, final Class<T> elementClass)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonLinesFile);
+		return streamObjects(jsonLinesFile.toPath(), elementClass);
+	}
+
+	/**
+	 * Creates a lazy stream with one java object per line of the given file. The returned stream
+	 * must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonLinesPath
+	 *            the path of the json lines file
+	 * @param elementClass
+	 *            the class of the values
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final Path jsonLinesPath,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonLinesPath);
+		Objects.requireNonNull(elementClass);
+		final InputStream inputStream = Files.newInputStream(jsonLinesPath);
+		try
+		{
+			return streamObjects(inputStream, elementClass);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			inputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates a stream with one java object per line of the given file. If the parallel flag is
+	 * true the file is split at line boundaries into chunks that are decoded in parallel, the
+	 * returned stream is then a parallel stream that keeps the order of the lines for ordered
+	 * terminal operations. The chunks are decoded on the fork join pool that runs the terminal
+	 * operation. The returned stream must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonLinesPath
+	 *            the path of the json lines file
+	 * @param elementClass
+	 *            the class of the values
+	 * @param parallel
+	 *            flag that indicates if the chunks of the file should be decoded in parallel
+	 * @return the {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final Path jsonLinesPath,
+		final Class<T> elementClass, final boolean parallel) throws IOException
+	{
+		if (!parallel)
+		{
+			return streamObjects(jsonLinesPath, elementClass);
+		}
+		Objects.requireNonNull(jsonLinesPath);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(elementClass)
+			.getObjectReader();
+		final FileChannel fileChannel = FileChannel.open(jsonLinesPath, StandardOpenOption.READ);
+		try
+		{
+			final long[] boundaries = newChunkBoundaries(fileChannel,
+				ForkJoinPool.getCommonPoolParallelism());
+			return IntStream.range(0, boundaries.length - 1).parallel()
+				.mapToObj(index -> JsonLinesExtensions.<T> readChunk(fileChannel, objectReader,
+					boundaries[index], boundaries[index + 1]))
+				.flatMap(List::stream).onClose(() -> close(fileChannel));
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			fileChannel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Reads the given json lines file into a {@link List} with one java object per line. The file
+	 * is split at line boundaries into chunks that are decoded in parallel on the given fork join
+	 * pool, the order of the lines is kept
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param jsonLinesPath
+	 *            the path of the json lines file
+	 * @param elementClass
+	 *            the class of the values
+	 * @param forkJoinPool
+	 *            the fork join pool that decodes the chunks
+	 * @return the {@link List} with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final Path jsonLinesPath, final Class<T> elementClass,
+		final ForkJoinPool forkJoinPool) throws IOException
+	{
+		Objects.requireNonNull(forkJoinPool);
+		try (Stream<T> stream = streamObjects(jsonLinesPath, elementClass, true))
+		{
+			return forkJoinPool.submit(() -> stream.collect(Collectors.toList())).get();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+		catch (final ExecutionException e)
+		{
+			if (e.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException)e.getCause()).getCause();
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Writes the values of the given stream to the given output stream, one json value per line.
+	 * All values are written with one sequence writer. The output stream is not closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param values
+	 *            the values to write
+	 * @param outputStream
+	 *            the output stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> void writeObjects(final Stream<T> values, final OutputStream outputStream)
+		throws IOException
+	{
+		Objects.requireNonNull(values);
+		writeObjects(values.iterator(), outputStream);
+	}
+
+	/**
+	 * Writes the values of the given iterator to the given output stream, one json value per line.
+	 * All values are written with one sequence writer. The output stream is not closed
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param values
+	 *            the values to write
+	 * @param outputStream
+	 *            the output stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> void writeObjects(final Iterator<T> values, final OutputStream outputStream)
+		throws IOException
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(outputStream);
+		final ObjectWriter objectWriter = JSON_LINES_WRITER
+			.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		try (JsonGenerator generator = objectWriter.createGenerator(outputStream);
+			SequenceWriter sequenceWriter = objectWriter.writeValues(generator))
+		{
+			boolean empty = true;
+			while (values.hasNext())
+			{
+				sequenceWriter.write(values.next());
+				empty = false;
+			}
+			if (!empty)
+			{
+				generator.writeRaw(LINE_SEPARATOR);
+			}
+		}
+	}
+
+	/**
+	 * Writes the values of the given stream to the given file, one json value per line
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param values
+	 *            the values to write
+	 * @param jsonLinesPath
+	 *            the path of the json lines file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> void writeObjects(final Stream<T> values, final Path jsonLinesPath)
+		throws IOException
+	{
+		Objects.requireNonNull(values);
+		writeObjects(values.iterator(), jsonLinesPath);
+	}
+
+	/**
+	 * Writes the values of the given iterator to the given file, one json value per line
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param values
+	 *            the values to write
+	 * @param jsonLinesPath
+	 *            the path of the json lines file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> void writeObjects(final Iterator<T> values, final Path jsonLinesPath)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonLinesPath);
+		try (OutputStream outputStream = Files.newOutputStream(jsonLinesPath))
+		{
+			writeObjects(values, outputStream);
+		}
+	}
+
+	/**
+	 * Writes the values of the given stream to the given file, one json value per line
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param values
+	 *            the values to write
+	 * @param jsonLinesFile
+	 *            the json lines file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> void writeObjects(final Stream<T> values, final File jsonLinesFile)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonLinesFile);
+		writeObjects(values, jsonLinesFile.toPath());
+	}
+
+	private static long[] newChunkBoundaries(final FileChannel fileChannel, final int parallelism)
+		throws IOException
+	{
+		final long size = fileChannel.size();
+		final long chunkSize = Math.max(MIN_CHUNK_SIZE,
+			Math.min(MAX_CHUNK_SIZE, size / Math.max(1, parallelism * 4L)));
+		final List<Long> boundaries = new ArrayList<>();
+		boundaries.add(0L);
+		long position = 0;
+		while (position < size)
+		{
+			position = nextLineStart(fileChannel, Math.min(size, position + chunkSize), size);
+			boundaries.add(position);
+		}
+		return boundaries.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	private static long nextLineStart(final FileChannel fileChannel, final long from,
+		final long size) throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(SEARCH_BUFFER_SIZE);
+		long position = from;
+		while (position < size)
+		{
+			buffer.clear();
+			final int read = fileChannel.read(buffer, position);
+			if (read <= 0)
+			{
+				break;
+			}
+			for (int i = 0; i < read; i++)
+			{
+				if (buffer.get(i) == LINE_SEPARATOR)
+				{
+					return position + i + 1;
+				}
+			}
+			position += read;
+		}
+		return size;
+	}
+
+	private static <T> List<T> readChunk(final FileChannel fileChannel,
+		final ObjectReader objectReader, final long start, final long end)
+	{
+		try
+		{
+			final byte[] content = new byte[(int)(end - start)];
+			final ByteBuffer buffer = ByteBuffer.wrap(content);
+			while (buffer.hasRemaining())
+			{
+				if (fileChannel.read(buffer, start + buffer.position()) < 0)
+				{
+					break;
+				}
+			}
+			final List<T> values = new ArrayList<>();
+			try (MappingIterator<T> mappingIterator = MappingIteratorExtensions
+				.newRootValueIterator(objectReader, content, 0, buffer.position()))
+			{
+				while (mappingIterator.hasNextValue())
+				{
+					values.add(mappingIterator.nextValue());
+				}
+			}
+			return values;
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void close(final FileChannel fileChannel)
+	{
+		try
+		{
+			fileChannel.close();
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
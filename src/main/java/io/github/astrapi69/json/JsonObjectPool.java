@@ -0,0 +1,255 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link JsonObjectPool} is a small thread-safe pool of instances of one type that are
+ * overwritten in place with json content, so a consumer of many messages of the same shape does
+ * not allocate a new object graph per message. A read draws an idle instance or creates one and
+ * the caller releases the instance back to the pool when it is done with it. The pool holds at
+ * most the maximum number of idle instances, released instances above this bound are dropped.<br>
+ * <br>
+ * A read writes only the properties that are in the json content, all other properties keep the
+ * values of the previous message. So every pool has a reset action that runs on release and must
+ * reset all properties that a message can leave out, otherwise stale values of the previous
+ * message leak into the next one.<br>
+ * <br>
+ * Only the root instance is updated in place with the shared mapper, the nested values are
+ * replaced. To update the nested beans and collections in place as well, create the pool with a
+ * mapper where {@link ObjectMapper#setDefaultMergeable(Boolean)} is enabled and with a reset
+ * action that clears the collections and arrays, because merged collections are appended to
+ *
+ * @param <T>
+ *            the generic type of the pooled instances
+ */
+public final class JsonObjectPool<T>
+{
+
+	/** The default maximum number of idle instances */
+	public static final int DEFAULT_MAX_IDLE = 16;
+
+	/** The object reader for the type of the pooled instances */
+	private final ObjectReader objectReader;
+
+	/** The factory that creates a new instance if no idle instance is available */
+	private final Supplier<? extends T> factory;
+
+	/** The action that resets an instance on release */
+	private final Consumer<? super T> reset;
+
+	/** The idle instances */
+	private final ArrayBlockingQueue<T> idle;
+
+	private JsonObjectPool(final ObjectReader objectReader, final Supplier<? extends T> factory,
+		final Consumer<? super T> reset, final int maxIdle)
+	{
+		if (maxIdle < 1)
+		{
+			throw new IllegalArgumentException("maxIdle must be greater than 0");
+		}
+		this.objectReader = Objects.requireNonNull(objectReader);
+		this.factory = Objects.requireNonNull(factory);
+		this.reset = Objects.requireNonNull(reset);
+		this.idle = new ArrayBlockingQueue<>(maxIdle);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonObjectPool} for the given class with the reader of
+	 * the shared mapper and the default maximum number of idle instances
+	 *
+	 * @param <T>
+	 *            the generic type of the pooled instances
+	 * @param clazz
+	 *            the class of the pooled instances
+	 * @param factory
+	 *            the factory that creates a new instance
+	 * @param reset
+	 *            the action that resets an instance on release
+	 * @return the new {@link JsonObjectPool}
+	 */
+	public static <T> JsonObjectPool<T> newJsonObjectPool(final Class<T> clazz,
+		final Supplier<? extends T> factory, final Consumer<? super T> reset)
+	{
+		return newJsonObjectPool(clazz, factory, reset, DEFAULT_MAX_IDLE);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonObjectPool} for the given class with the reader of
+	 * the shared mapper
+	 *
+	 * @param <T>
+	 *            the generic type of the pooled instances
+	 * @param clazz
+	 *            the class of the pooled instances
+	 * @param factory
+	 *            the factory that creates a new instance
+	 * @param reset
+	 *            the action that resets an instance on release
+	 * @param maxIdle
+	 *            the maximum number of idle instances
+	 * @return the new {@link JsonObjectPool}
+	 */
+	public static <T> JsonObjectPool<T> newJsonObjectPool(final Class<T> clazz,
+		final Supplier<? extends T> factory, final Consumer<? super T> reset, final int maxIdle)
+	{
+		Objects.requireNonNull(clazz);
+		return new JsonObjectPool<>(ObjectMapperFactory.getJsonCodec(clazz).getObjectReader(),
+			factory, reset, maxIdle);
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonObjectPool} for the given class with a reader of
+	 * the given mapper
+	 *
+	 * @param <T>
+	 *            the generic type of the pooled instances
+	 * @param clazz
+	 *            the class of the pooled instances
+	 * @param factory
+	 *            the factory that creates a new instance
+	 * @param reset
+	 *            the action that resets an instance on release
+	 * @param maxIdle
+	 *            the maximum number of idle instances
+	 * @param mapper
+	 *            the object mapper
+	 * @return the new {@link JsonObjectPool}
+	 */
+	public static <T> JsonObjectPool<T> newJsonObjectPool(final Class<T> clazz,
+		final Supplier<? extends T> factory, final Consumer<? super T> reset, final int maxIdle,
+		final ObjectMapper mapper)
+	{
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return new JsonObjectPool<>(mapper.readerFor(clazz), factory, reset, maxIdle);
+	}
+
+	/**
+	 * Draws an idle instance or creates a new one if no idle instance is available
+	 *
+	 * @return the instance
+	 */
+	public T acquire()
+	{
+		final T value = idle.poll();
+		return value != null ? value : Objects.requireNonNull(factory.get());
+	}
+
+	/**
+	 * Releases the given instance back to the pool. The instance is reset and must not be used by
+	 * the caller afterwards
+	 *
+	 * @param value
+	 *            the instance to release
+	 */
+	public void release(final T value)
+	{
+		Objects.requireNonNull(value);
+		reset.accept(value);
+		idle.offer(value);
+	}
+
+	/**
+	 * Draws an instance and overwrites it with the given json string. The caller releases the
+	 * returned instance when it is done with it. If the read fails or does not return the drawn
+	 * instance, the drawn instance goes back to the pool
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the overwritten instance or null if the content is the json literal null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T readValue(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		final T value = acquire();
+		T result = null;
+		try
+		{
+			result = objectReader.withValueToUpdate(value).readValue(jsonString);
+			return result;
+		}
+		finally
+		{
+			if (result != value)
+			{
+				release(value);
+			}
+		}
+	}
+
+	/**
+	 * Draws an instance and overwrites it with the given json bytes. The caller releases the
+	 * returned instance when it is done with it. If the read fails or does not return the drawn
+	 * instance, the drawn instance goes back to the pool
+	 *
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @return the overwritten instance or null if the content is the json literal null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public T readValue(final byte[] jsonBytes) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		final T value = acquire();
+		T result = null;
+		try
+		{
+			result = objectReader.withValueToUpdate(value).readValue(jsonBytes);
+			return result;
+		}
+		finally
+		{
+			if (result != value)
+			{
+				release(value);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of idle instances
+	 *
+	 * @return the number of idle instances
+	 */
+	public int getIdleCount()
+	{
+		return idle.size();
+	}
+
+}
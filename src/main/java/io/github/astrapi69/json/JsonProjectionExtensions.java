@@ -0,0 +1,379 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link JsonProjectionExtensions} reads only the values at given json pointers from a
+ * json document. The document is streamed, every subtree that can not contain a requested pointer
+ * is skipped with {@link JsonParser#skipChildren()} and only the matched values are bound. The
+ * read stops as soon as all pointers are found
+ */
+public final class JsonProjectionExtensions
+{
+
+	private JsonProjectionExtensions()
+	{
+	}
+
+	/**
+	 * Reads the values at the given json pointers from the given json file and binds every value
+	 * to the type of its pointer
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @param pointerTypes
+	 *            the map with the json pointers as keys and the types of the values as values
+	 * @return the map with the json pointers as keys and the bound values as values, pointers
+	 *         that are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final File jsonFile,
+		final Map<String, Class<?>> pointerTypes) throws IOException
+	{
+		Objects.requireNonNull(jsonFile);
+		final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper();
+		return project(mapper.createParser(jsonFile), pointerTypes, mapper);
+	}
+
+	/**
+	 * Reads the values at the given json pointers from the given json file as {@link JsonNode}
+	 *
+	 * @param jsonFile
+	 *            the json file
+	 * @param pointers
+	 *            the json pointers
+	 * @return the map with the json pointers as keys and the found nodes as values, pointers that
+	 *         are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final File jsonFile,
+		final Collection<String> pointers) throws IOException
+	{
+		return project(jsonFile, toNodeTypes(pointers));
+	}
+
+	/**
+	 * Reads the values at the given json pointers from the given json file and binds every value
+	 * to the type of its pointer
+	 *
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param pointerTypes
+	 *            the map with the json pointers as keys and the types of the values as values
+	 * @return the map with the json pointers as keys and the bound values as values, pointers
+	 *         that are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final Path jsonPath,
+		final Map<String, Class<?>> pointerTypes) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		return project(Files.newInputStream(jsonPath), pointerTypes);
+	}
+
+	/**
+	 * Reads the values at the given json pointers from the given input stream and binds every
+	 * value to the type of its pointer. The input stream is closed after reading, also when the
+	 * read stops early
+	 *
+	 * @param inputStream
+	 *            the input stream with the json content
+	 * @param pointerTypes
+	 *            the map with the json pointers as keys and the types of the values as values
+	 * @return the map with the json pointers as keys and the bound values as values, pointers
+	 *         that are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final InputStream inputStream,
+		final Map<String, Class<?>> pointerTypes) throws IOException
+	{
+		Objects.requireNonNull(inputStream);
+		try (InputStream source = inputStream)
+		{
+			final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper();
+			return project(mapper.createParser(source), pointerTypes, mapper);
+		}
+	}
+
+	/**
+	 * Reads the values at the given json pointers from the given json bytes and binds every value
+	 * to the type of its pointer
+	 *
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param pointerTypes
+	 *            the map with the json pointers as keys and the types of the values as values
+	 * @return the map with the json pointers as keys and the bound values as values, pointers
+	 *         that are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final byte[] jsonBytes,
+		final Map<String, Class<?>> pointerTypes) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper();
+		return project(mapper.createParser(jsonBytes), pointerTypes, mapper);
+	}
+
+	/**
+	 * Reads the values at the given json pointers from the given json bytes as {@link JsonNode}
+	 *
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param pointers
+	 *            the json pointers
+	 * @return the map with the json pointers as keys and the found nodes as values, pointers that
+	 *         are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final byte[] jsonBytes,
+		final Collection<String> pointers) throws IOException
+	{
+		return project(jsonBytes, toNodeTypes(pointers));
+	}
+
+	/**
+	 * Reads the values at the given json pointers with the given parser and binds every value to
+	 * the type of its pointer with the given mapper. The parser is closed after reading
+	 *
+	 * @param parser
+	 *            the parser that is positioned before the json document
+	 * @param pointerTypes
+	 *            the map with the json pointers as keys and the types of the values as values
+	 * @param mapper
+	 *            the object mapper that binds the values
+	 * @return the map with the json pointers as keys and the bound values as values, pointers
+	 *         that are not found in the document have no entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static Map<String, Object> project(final JsonParser parser,
+		final Map<String, Class<?>> pointerTypes, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(parser);
+		Objects.requireNonNull(pointerTypes);
+		Objects.requireNonNull(mapper);
+		try (JsonParser source = parser)
+		{
+			final PointerNode root = new PointerNode();
+			pointerTypes.forEach((pointer, type) -> root.add(pointer, JsonPointer.compile(pointer),
+				Objects.requireNonNull(type)));
+			final Projection projection = new Projection(mapper, pointerTypes.size());
+			if (!pointerTypes.isEmpty() && source.nextToken() != null)
+			{
+				visit(source, root, projection);
+			}
+			return projection.values;
+		}
+	}
+
+	private static Map<String, Class<?>> toNodeTypes(final Collection<String> pointers)
+	{
+		Objects.requireNonNull(pointers);
+		final Map<String, Class<?>> pointerTypes = new LinkedHashMap<>();
+		pointers.forEach(pointer -> pointerTypes.put(pointer, JsonNode.class));
+		return pointerTypes;
+	}
+
+	private static void visit(final JsonParser parser, final PointerNode node,
+		final Projection projection) throws IOException
+	{
+		if (node.pointer != null)
+		{
+			if (node.children.isEmpty())
+			{
+				projection.put(node.pointer, projection.mapper.readerFor(node.type)
+					.readValue(parser));
+			}
+			else
+			{
+				resolve(projection.mapper.readTree(parser), node, projection);
+			}
+			return;
+		}
+		final JsonToken token = parser.currentToken();
+		if (token == JsonToken.START_OBJECT)
+		{
+			while (parser.nextToken() == JsonToken.FIELD_NAME)
+			{
+				final PointerNode child = node.children.get(parser.currentName());
+				parser.nextToken();
+				if (child == null)
+				{
+					parser.skipChildren();
+				}
+				else
+				{
+					visit(parser, child, projection);
+					if (projection.isComplete())
+					{
+						return;
+					}
+				}
+			}
+		}
+		else if (token == JsonToken.START_ARRAY)
+		{
+			int index = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY)
+			{
+				final PointerNode child = node.children.get(String.valueOf(index++));
+				if (child == null)
+				{
+					parser.skipChildren();
+				}
+				else
+				{
+					visit(parser, child, projection);
+					if (projection.isComplete())
+					{
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	private static void resolve(final JsonNode jsonNode, final PointerNode node,
+		final Projection projection) throws IOException
+	{
+		if (jsonNode.isMissingNode())
+		{
+			return;
+		}
+		if (node.pointer != null)
+		{
+			projection.put(node.pointer,
+				projection.mapper.readerFor(node.type).readValue(jsonNode));
+		}
+		for (final Map.Entry<String, PointerNode> child : node.children.entrySet())
+		{
+			final JsonNode childNode = jsonNode.isArray()
+				? jsonNode.path(toIndex(child.getKey()))
+				: jsonNode.path(child.getKey());
+			resolve(childNode, child.getValue(), projection);
+		}
+	}
+
+	private static int toIndex(final String segment)
+	{
+		try
+		{
+			return Integer.parseInt(segment);
+		}
+		catch (final NumberFormatException e)
+		{
+			return -1;
+		}
+	}
+
+	/**
+	 * The class {@link PointerNode} is one segment of the tree of the requested json pointers
+	 */
+	private static final class PointerNode
+	{
+
+		/** The child segments by name or array index */
+		final Map<String, PointerNode> children = new HashMap<>();
+
+		/** The json pointer that ends at this segment or null */
+		String pointer;
+
+		/** The type of the value of the json pointer that ends at this segment */
+		Class<?> type;
+
+		void add(final String pointer, final JsonPointer remaining, final Class<?> type)
+		{
+			if (remaining.matches())
+			{
+				this.pointer = pointer;
+				this.type = type;
+				return;
+			}
+			children.computeIfAbsent(remaining.getMatchingProperty(), key -> new PointerNode())
+				.add(pointer, remaining.tail(), type);
+		}
+
+	}
+
+	/**
+	 * The class {@link Projection} holds the state of one projection read
+	 */
+	private static final class Projection
+	{
+
+		/** The object mapper that binds the values */
+		final ObjectMapper mapper;
+
+		/** The found values by json pointer */
+		final Map<String, Object> values = new LinkedHashMap<>();
+
+		/** The number of requested json pointers */
+		final int requested;
+
+		Projection(final ObjectMapper mapper, final int requested)
+		{
+			this.mapper = mapper;
+			this.requested = requested;
+		}
+
+		void put(final String pointer, final Object value)
+		{
+			values.put(pointer, value);
+		}
+
+		boolean isComplete()
+		{
+			return values.size() == requested;
+		}
+
+	}
+
+}
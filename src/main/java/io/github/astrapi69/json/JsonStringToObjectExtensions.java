@@ -25,15 +25,24 @@
 package io.github.astrapi69.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+import io.github.astrapi69.json.factory.JavaTypeFactory;
 import io.github.astrapi69.json.factory.ObjectMapperFactory;
 
 /**
@@ -96,6 +105,77 @@ public final class JsonStringToObjectExtensions
 		return mapper.readValue(jsonString, typeReference);
 	}
 
+	/**
+	 * Transforms the given json string into a compact immutable java map object that is read in one
+	 * streaming pass. The map holds no entry objects and keeps the order of the json object
+	 *
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonString
+	 *            the json string
+	 * @param valueClass
+	 *            the class of the values
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <V> CompactStringMap<V> toCompactMapObject(final String jsonString,
+		final Class<V> valueClass) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		Objects.requireNonNull(valueClass);
+		final ObjectReader valueReader = ObjectMapperFactory.getJsonCodec(valueClass)
+			.getObjectReader();
+		try (JsonParser parser = valueReader.createParser(jsonString))
+		{
+			return CompactStringMap.read(parser, valueReader);
+		}
+	}
+
+	/**
+	 * Transforms the given json string into a compact immutable java map object with primitive long
+	 * values that is read in one streaming pass. The map holds no entry objects and no boxed values
+	 * and keeps the order of the json object
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             integer numbers as values
+	 */
+	public static CompactStringLongMap toCompactLongMapObject(final String jsonString)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return CompactStringLongMap.read(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string into a compact immutable java map object with primitive
+	 * double values that is read in one streaming pass. The map holds no entry objects and no boxed
+	 * values and keeps the order of the json object
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             numbers as values
+	 */
+	public static CompactStringDoubleMap toCompactDoubleMapObject(final String jsonString)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return CompactStringDoubleMap.read(parser);
+		}
+	}
+
 	/**
 	 * Transforms the given json string into a java object.
 	 *
@@ -152,7 +232,8 @@ public final class JsonStringToObjectExtensions
 	 * @param clazz
 	 *            the clazz of the generic type
 	 * @param modules
-	 *            The modules to register for the mapper
+	 *            The modules to register for the mapper, the mapper is shared between all calls
+	 *            with the same module instances
 	 * @return the object
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
@@ -162,9 +243,7 @@ public final class JsonStringToObjectExtensions
 	{
 		Objects.requireNonNull(jsonString);
 		Objects.requireNonNull(clazz);
-		ObjectMapper mapper = ObjectMapperFactory.newObjectMapper(true);
-		mapper = mapper.registerModules(modules);
-		return toObject(jsonString, clazz, mapper);
+		return toObject(jsonString, clazz, ObjectMapperFactory.getObjectMapper(modules));
 	}
 
 	/**
@@ -237,9 +316,8 @@ public final class JsonStringToObjectExtensions
 		Objects.requireNonNull(jsonString);
 		Objects.requireNonNull(collectionClass);
 		Objects.requireNonNull(elementClass);
-		final ObjectMapper mapper = ObjectMapperFactory.newObjectMapper(true);
-		return mapper.readValue(jsonString,
-			mapper.getTypeFactory().constructCollectionType(collectionClass, elementClass));
+		return ObjectMapperFactory.newObjectMapper().readValue(jsonString,
+			JavaTypeFactory.newCollectionType(collectionClass, elementClass));
 	}
 
 	/**
@@ -263,4 +341,1145 @@ public final class JsonStringToObjectExtensions
 		return (List<T>)toObjectCollection(jsonString, List.class, elementClass);
 	}
 
+	/**
+	 * Transforms the given json string with a json array of numbers into an int array without
+	 * boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the int array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             integer numbers in the int range
+	 */
+	public static int[] toIntArray(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootIntArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of numbers into a long array without
+	 * boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the long array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             integer numbers in the long range
+	 */
+	public static long[] toLongArray(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootLongArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of numbers into a double array without
+	 * boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the double array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             numbers
+	 */
+	public static double[] toDoubleArray(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootDoubleArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of numbers into a float array without
+	 * boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the float array or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             numbers
+	 */
+	public static float[] toFloatArray(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootFloatArray(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of arrays of numbers into an array of int
+	 * arrays without boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the array of int arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of integer numbers in the int range
+	 */
+	public static int[][] toIntArrays(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootIntArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of arrays of numbers into an array of long
+	 * arrays without boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the array of long arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of integer numbers in the long range
+	 */
+	public static long[][] toLongArrays(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootLongArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of arrays of numbers into an array of
+	 * double arrays without boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the array of double arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of numbers
+	 */
+	public static double[][] toDoubleArrays(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootDoubleArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json string with a json array of arrays of numbers into an array of
+	 * float arrays without boxing of the elements
+	 *
+	 * @param jsonString
+	 *            the json string
+	 * @return the array of float arrays or null if the json value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not an array of
+	 *             arrays of numbers
+	 */
+	public static float[][] toFloatArrays(final String jsonString) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return PrimitiveArrayReader.readRootFloatArrays(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given json bytes into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final byte[] jsonBytes,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json bytes into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final byte[] jsonBytes,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] jsonBytes, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(clazz)
+			.getObjectReader();
+		return readValue(objectReader, jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] jsonBytes, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] jsonBytes,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] jsonBytes,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json bytes into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final byte[] jsonBytes,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = ObjectMapperFactory
+			.getJsonCodec(JavaTypeFactory.newCollectionType(List.class, elementClass))
+			.getObjectReader();
+		return readValue(objectReader, jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final ByteBuffer jsonBuffer,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final ByteBuffer jsonBuffer,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer jsonBuffer, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(clazz)
+			.getObjectReader();
+		return readValue(objectReader, jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer jsonBuffer, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer jsonBuffer,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer jsonBuffer,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json byte buffer into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBuffer
+	 *            the byte buffer with the json content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final ByteBuffer jsonBuffer,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonBuffer);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = ObjectMapperFactory
+			.getJsonCodec(JavaTypeFactory.newCollectionType(List.class, elementClass))
+			.getObjectReader();
+		return readValue(objectReader, jsonBuffer);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final InputStream jsonInputStream,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final InputStream jsonInputStream,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream jsonInputStream, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(clazz)
+			.getObjectReader();
+		return readValue(objectReader, jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream jsonInputStream, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream jsonInputStream,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream jsonInputStream,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json input stream into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonInputStream
+	 *            the input stream with the json content, the input stream is closed after reading
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final InputStream jsonInputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonInputStream);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = ObjectMapperFactory
+			.getJsonCodec(JavaTypeFactory.newCollectionType(List.class, elementClass))
+			.getObjectReader();
+		return readValue(objectReader, jsonInputStream);
+	}
+
+	/**
+	 * Transforms the given json file into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final Path jsonPath,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonPath);
+	}
+
+	/**
+	 * Transforms the given json file into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final Path jsonPath,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonPath);
+	}
+
+	/**
+	 * Transforms the given json file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path jsonPath, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(clazz)
+			.getObjectReader();
+		return readValue(objectReader, jsonPath);
+	}
+
+	/**
+	 * Transforms the given json file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path jsonPath, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), jsonPath);
+	}
+
+	/**
+	 * Transforms the given json file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path jsonPath,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(typeReference)
+			.getObjectReader();
+		return readValue(objectReader, jsonPath);
+	}
+
+	/**
+	 * Transforms the given json file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the object mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path jsonPath,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), jsonPath);
+	}
+
+	/**
+	 * Transforms the given json file into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final Path jsonPath,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = ObjectMapperFactory
+			.getJsonCodec(JavaTypeFactory.newCollectionType(List.class, elementClass))
+			.getObjectReader();
+		return readValue(objectReader, jsonPath);
+	}
+
+	/**
+	 * Overwrites the given target instance in place with the given json string instead of creating
+	 * a new instance. Nested values are replaced unless the mapper enables merging
+	 *
+	 * @param <T>
+	 *            the generic type of the target
+	 * @param jsonString
+	 *            the json string
+	 * @param target
+	 *            the instance to overwrite
+	 * @return the overwritten target instance
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T updateObject(final String jsonString, final T target) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		Objects.requireNonNull(target);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(target.getClass())
+			.getObjectReader();
+		return objectReader.withValueToUpdate(target).readValue(jsonString);
+	}
+
+	/**
+	 * Overwrites the given target instance in place with the given json string instead of creating
+	 * a new instance. Nested values are replaced unless the mapper enables merging
+	 *
+	 * @param <T>
+	 *            the generic type of the target
+	 * @param jsonString
+	 *            the json string
+	 * @param target
+	 *            the instance to overwrite
+	 * @param mapper
+	 *            the object mapper
+	 * @return the overwritten target instance
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T updateObject(final String jsonString, final T target,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonString);
+		Objects.requireNonNull(target);
+		Objects.requireNonNull(mapper);
+		return mapper.readerForUpdating(target).readValue(jsonString);
+	}
+
+	/**
+	 * Overwrites the given target instance in place with the given json bytes instead of creating
+	 * a new instance. Nested values are replaced unless the mapper enables merging
+	 *
+	 * @param <T>
+	 *            the generic type of the target
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param target
+	 *            the instance to overwrite
+	 * @return the overwritten target instance
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T updateObject(final byte[] jsonBytes, final T target) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(target);
+		final ObjectReader objectReader = ObjectMapperFactory.getJsonCodec(target.getClass())
+			.getObjectReader();
+		return objectReader.withValueToUpdate(target).readValue(jsonBytes);
+	}
+
+	/**
+	 * Overwrites the given target instance in place with the given json bytes instead of creating
+	 * a new instance. Nested values are replaced unless the mapper enables merging
+	 *
+	 * @param <T>
+	 *            the generic type of the target
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param target
+	 *            the instance to overwrite
+	 * @param mapper
+	 *            the object mapper
+	 * @return the overwritten target instance
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T updateObject(final byte[] jsonBytes, final T target,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(target);
+		Objects.requireNonNull(mapper);
+		return mapper.readerForUpdating(target).readValue(jsonBytes);
+	}
+
+	/**
+	 * Transforms the given json strings into java objects. The reader is resolved once for the
+	 * whole batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonStrings
+	 *            the json strings
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjects(final Collection<String> jsonStrings,
+		final Class<T> clazz)
+	{
+		return toObjects(jsonStrings, clazz, false);
+	}
+
+	/**
+	 * Transforms the given json strings into java objects. The reader is resolved once for the
+	 * whole batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonStrings
+	 *            the json strings
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param parallel
+	 *            flag that indicates if the elements should be deserialized in parallel on the
+	 *            common fork join pool
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjects(final Collection<String> jsonStrings,
+		final Class<T> clazz, final boolean parallel)
+	{
+		Objects.requireNonNull(jsonStrings);
+		Objects.requireNonNull(clazz);
+		return toObjects(jsonStrings, ObjectMapperFactory.getJsonCodec(clazz).getObjectReader(),
+			parallel);
+	}
+
+	/**
+	 * Transforms the given strings into java objects with the given object reader. The format of
+	 * the strings is the format of the factory of the object reader and an element that can not be
+	 * deserialized is recorded as a failure on its index instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param strings
+	 *            the strings
+	 * @param objectReader
+	 *            the object reader for the generic type
+	 * @param parallel
+	 *            flag that indicates if the elements should be deserialized in parallel on the
+	 *            common fork join pool
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjects(final Collection<String> strings,
+		final ObjectReader objectReader, final boolean parallel)
+	{
+		Objects.requireNonNull(strings);
+		Objects.requireNonNull(objectReader);
+		return readBatch(strings.toArray(), objectReader, parallel);
+	}
+
+	/**
+	 * Transforms the given json bytes into java objects. The reader is resolved once for the whole
+	 * batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json contents as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjectsFromBytes(final Collection<byte[]> jsonBytes,
+		final Class<T> clazz)
+	{
+		return toObjectsFromBytes(jsonBytes, clazz, false);
+	}
+
+	/**
+	 * Transforms the given json bytes into java objects. The reader is resolved once for the whole
+	 * batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param jsonBytes
+	 *            the json contents as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param parallel
+	 *            flag that indicates if the elements should be deserialized in parallel on the
+	 *            common fork join pool
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjectsFromBytes(final Collection<byte[]> jsonBytes,
+		final Class<T> clazz, final boolean parallel)
+	{
+		Objects.requireNonNull(jsonBytes);
+		Objects.requireNonNull(clazz);
+		return toObjectsFromBytes(jsonBytes,
+			ObjectMapperFactory.getJsonCodec(clazz).getObjectReader(), parallel);
+	}
+
+	/**
+	 * Transforms the given bytes into java objects with the given object reader. The format of the
+	 * bytes is the format of the factory of the object reader and an element that can not be
+	 * deserialized is recorded as a failure on its index instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param bytes
+	 *            the contents as utf-8 bytes
+	 * @param objectReader
+	 *            the object reader for the generic type
+	 * @param parallel
+	 *            flag that indicates if the elements should be deserialized in parallel on the
+	 *            common fork join pool
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjectsFromBytes(final Collection<byte[]> bytes,
+		final ObjectReader objectReader, final boolean parallel)
+	{
+		Objects.requireNonNull(bytes);
+		Objects.requireNonNull(objectReader);
+		return readBatch(bytes.toArray(), objectReader, parallel);
+	}
+
+	private static <T> BatchResult<T> readBatch(final Object[] sources,
+		final ObjectReader objectReader, final boolean parallel)
+	{
+		final Object[] values = new Object[sources.length];
+		final Exception[] causes = new Exception[sources.length];
+		IntStream indexes = IntStream.range(0, sources.length);
+		if (parallel)
+		{
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(index -> {
+			final Object source = sources[index];
+			if (source == null)
+			{
+				causes[index] = new NullPointerException("Batch element " + index + " is null");
+				return;
+			}
+			try
+			{
+				values[index] = source instanceof byte[]
+					? readValue(objectReader, (byte[])source)
+					: objectReader.readValue((String)source);
+			}
+			catch (final IOException | RuntimeException exception)
+			{
+				causes[index] = exception;
+			}
+		});
+		return new BatchResult<>(values, causes);
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader, final byte[] bytes)
+		throws IOException
+	{
+		return objectReader.readValue(bytes);
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader, final ByteBuffer buffer)
+		throws IOException
+	{
+		if (buffer.hasArray())
+		{
+			return objectReader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+				buffer.remaining());
+		}
+		return objectReader.readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader,
+		final InputStream inputStream) throws IOException
+	{
+		try (InputStream source = inputStream)
+		{
+			return objectReader.readValue(source);
+		}
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader, final Path path)
+		throws IOException
+	{
+		try (InputStream inputStream = Files.newInputStream(path))
+		{
+			return objectReader.readValue(inputStream);
+		}
+	}
+
 }
@@ -56,7 +56,8 @@ public final class JsonToYamlExtensions
 	public static String toYaml(final String jsonString) throws JsonProcessingException
 	{
 		JsonNode jsonNode = ObjectMapperFactory.newObjectMapper().readTree(jsonString);
-		final String yamlString = YAMLMapperFactory.newYAMLMapper().writeValueAsString(jsonNode);
+		final String yamlString = YAMLMapperFactory.getObjectWriter(JsonNode.class)
+			.writeValueAsString(jsonNode);
 		return yamlString;
 	}
 
@@ -72,8 +73,9 @@ public final class JsonToYamlExtensions
 	 */
 	public static String toYaml(final File jsonFile) throws IOException
 	{
-		JsonNode jsonNode = YAMLMapperFactory.newYAMLMapper().readTree(jsonFile);
-		final String yamlString = YAMLMapperFactory.newYAMLMapper().writeValueAsString(jsonNode);
+		JsonNode jsonNode = YAMLMapperFactory.newYAMLMapper(false).readTree(jsonFile);
+		final String yamlString = YAMLMapperFactory.getObjectWriter(JsonNode.class)
+			.writeValueAsString(jsonNode);
 		return yamlString;
 	}
 
@@ -0,0 +1,582 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link LazyJsonDocument} is a read only {@link JsonNode} view of a json document that
+ * builds its nodes only when they are navigated to. One pass over the document builds a structural
+ * index in arrays with the byte offsets of all values, the field names and the links between the
+ * containers and their children. Objects and arrays are regular {@link ObjectNode} and
+ * {@link ArrayNode} instances whose children are created from the index on access, so code that
+ * works with {@link JsonNode} works unchanged. Changes of the nodes throw an
+ * {@link UnsupportedOperationException}. Documents up to 2 GB are supported, a file is memory
+ * mapped instead of read into the heap
+ */
+public final class LazyJsonDocument
+{
+
+	/** The initial capacity of the index arrays */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The tokens by ordinal, {@link JsonToken#values()} creates a new array on every call */
+	private static final JsonToken[] TOKENS = JsonToken.values();
+
+	/** The content of the json document */
+	private final ByteBuffer content;
+
+	/** The mapper that parses the scalar values */
+	private final ObjectMapper mapper;
+
+	/** The flag that indicates if navigated nodes are cached */
+	private final boolean cacheNodes;
+
+	/** The number of indexed values */
+	private int valueCount;
+
+	/** The token of every value */
+	private byte[] kinds;
+
+	/** The byte offset of every value */
+	private long[] valueOffsets;
+
+	/**
+	 * The field name of every value or null for values that are no fields, the parser of the index
+	 * pass decodes and canonicalizes the names, so equal names share one string
+	 */
+	private String[] names;
+
+	/** The first child of every container or -1 */
+	private int[] firstChildren;
+
+	/** The next sibling of every value or -1 */
+	private int[] nextSiblings;
+
+	/** The number of children of every container */
+	private int[] childCounts;
+
+	/** The root node */
+	private final JsonNode root;
+
+	private LazyJsonDocument(final ByteBuffer content, final boolean cacheNodes)
+		throws IOException
+	{
+		this.content = content;
+		this.cacheNodes = cacheNodes;
+		this.mapper = ObjectMapperFactory.newObjectMapper();
+		index();
+		this.root = newNode(0);
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyJsonDocument} from the given json bytes that
+	 * caches the navigated nodes
+	 *
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @return the new {@link LazyJsonDocument}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public static LazyJsonDocument of(final byte[] jsonBytes) throws IOException
+	{
+		return of(jsonBytes, true);
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyJsonDocument} from the given json bytes
+	 *
+	 * @param jsonBytes
+	 *            the json content as utf-8 bytes
+	 * @param cacheNodes
+	 *            flag that indicates if navigated nodes are cached, if false every navigation
+	 *            creates the node again and only the index stays in memory
+	 * @return the new {@link LazyJsonDocument}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public static LazyJsonDocument of(final byte[] jsonBytes, final boolean cacheNodes)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonBytes);
+		return new LazyJsonDocument(ByteBuffer.wrap(jsonBytes), cacheNodes);
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyJsonDocument} from the given json file that
+	 * caches the navigated nodes
+	 *
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @return the new {@link LazyJsonDocument}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public static LazyJsonDocument open(final Path jsonPath) throws IOException
+	{
+		return open(jsonPath, true);
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyJsonDocument} from the given json file. The file
+	 * is memory mapped
+	 *
+	 * @param jsonPath
+	 *            the path of the json file
+	 * @param cacheNodes
+	 *            flag that indicates if navigated nodes are cached, if false every navigation
+	 *            creates the node again and only the index stays in memory
+	 * @return the new {@link LazyJsonDocument}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is not valid json
+	 */
+	public static LazyJsonDocument open(final Path jsonPath, final boolean cacheNodes)
+		throws IOException
+	{
+		Objects.requireNonNull(jsonPath);
+		try (FileChannel fileChannel = FileChannel.open(jsonPath, StandardOpenOption.READ))
+		{
+			if (Integer.MAX_VALUE < fileChannel.size())
+			{
+				throw new IOException("The json file is larger than 2 GB: " + jsonPath);
+			}
+			return new LazyJsonDocument(
+				fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()),
+				cacheNodes);
+		}
+	}
+
+	/**
+	 * Gets the root node of the document
+	 *
+	 * @return the root node
+	 */
+	public JsonNode getRoot()
+	{
+		return root;
+	}
+
+	/**
+	 * Gets the node at the given json pointer, only the nodes on the way are created
+	 *
+	 * @param jsonPointer
+	 *            the json pointer
+	 * @return the node or a missing node if the pointer does not match
+	 */
+	public JsonNode at(final String jsonPointer)
+	{
+		return root.at(jsonPointer);
+	}
+
+	/**
+	 * Gets the number of values in the index
+	 *
+	 * @return the number of values
+	 */
+	public int getValueCount()
+	{
+		return valueCount;
+	}
+
+	private void index() throws IOException
+	{
+		kinds = new byte[INITIAL_CAPACITY];
+		valueOffsets = new long[INITIAL_CAPACITY];
+		names = new String[INITIAL_CAPACITY];
+		firstChildren = new int[INITIAL_CAPACITY];
+		nextSiblings = new int[INITIAL_CAPACITY];
+		childCounts = new int[INITIAL_CAPACITY];
+		int[] lastChildren = new int[INITIAL_CAPACITY];
+		int[] openContainers = new int[INITIAL_CAPACITY];
+		int depth = 0;
+		String name = null;
+		try (JsonParser parser = newParser(0))
+		{
+			JsonToken token;
+			while ((token = parser.nextToken()) != null)
+			{
+				if (token == JsonToken.FIELD_NAME)
+				{
+					name = parser.currentName();
+					continue;
+				}
+				if (token.isStructEnd())
+				{
+					depth--;
+					if (depth == 0)
+					{
+						break;
+					}
+					continue;
+				}
+				if (valueCount == kinds.length)
+				{
+					final int capacity = valueCount * 2;
+					kinds = Arrays.copyOf(kinds, capacity);
+					valueOffsets = Arrays.copyOf(valueOffsets, capacity);
+					names = Arrays.copyOf(names, capacity);
+					firstChildren = Arrays.copyOf(firstChildren, capacity);
+					nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+					childCounts = Arrays.copyOf(childCounts, capacity);
+					lastChildren = Arrays.copyOf(lastChildren, capacity);
+				}
+				final int value = valueCount++;
+				kinds[value] = (byte)token.ordinal();
+				valueOffsets[value] = parser.currentTokenLocation().getByteOffset();
+				names[value] = name;
+				firstChildren[value] = -1;
+				nextSiblings[value] = -1;
+				lastChildren[value] = -1;
+				name = null;
+				if (0 < depth)
+				{
+					final int parent = openContainers[depth - 1];
+					if (lastChildren[parent] == -1)
+					{
+						firstChildren[parent] = value;
+					}
+					else
+					{
+						nextSiblings[lastChildren[parent]] = value;
+					}
+					lastChildren[parent] = value;
+					childCounts[parent]++;
+				}
+				if (token.isStructStart())
+				{
+					if (depth == openContainers.length)
+					{
+						openContainers = Arrays.copyOf(openContainers, depth * 2);
+					}
+					openContainers[depth++] = value;
+				}
+				else if (depth == 0)
+				{
+					break;
+				}
+			}
+		}
+		if (valueCount == 0)
+		{
+			throw new IOException("The json document has no content");
+		}
+		kinds = Arrays.copyOf(kinds, valueCount);
+		valueOffsets = Arrays.copyOf(valueOffsets, valueCount);
+		names = Arrays.copyOf(names, valueCount);
+		firstChildren = Arrays.copyOf(firstChildren, valueCount);
+		nextSiblings = Arrays.copyOf(nextSiblings, valueCount);
+		childCounts = Arrays.copyOf(childCounts, valueCount);
+	}
+
+	private JsonParser newParser(final long offset) throws IOException
+	{
+		return newParser(offset, content.limit() - offset);
+	}
+
+	private JsonParser newParser(final long offset, final long length) throws IOException
+	{
+		final int start = (int)offset;
+		if (content.hasArray())
+		{
+			return mapper.createParser(content.array(), content.arrayOffset() + start,
+				(int)length);
+		}
+		return mapper
+			.createParser(new ByteBufferBackedInputStream(content.slice(start, (int)length)));
+	}
+
+	private long getNumberLength(final long offset)
+	{
+		int end = (int)offset;
+		while (end < content.limit())
+		{
+			final byte value = content.get(end);
+			if ((value < '0' || '9' < value) && value != '-' && value != '+' && value != '.'
+				&& value != 'e' && value != 'E')
+			{
+				break;
+			}
+			end++;
+		}
+		return end - offset;
+	}
+
+	private JsonNode newNode(final int value)
+	{
+		final JsonToken token = TOKENS[kinds[value]];
+		if (token == JsonToken.START_OBJECT)
+		{
+			return new ObjectNode(mapper.getNodeFactory(), new LazyChildMap(value));
+		}
+		if (token == JsonToken.START_ARRAY)
+		{
+			return new ArrayNode(mapper.getNodeFactory(), new LazyChildList(value));
+		}
+		// a number at the root level of a parser must be followed by a separator, so numbers are
+		// parsed with their exact length
+		final long length = token.isNumeric()
+			? getNumberLength(valueOffsets[value])
+			: content.limit() - valueOffsets[value];
+		try (JsonParser parser = newParser(valueOffsets[value], length))
+		{
+			parser.nextToken();
+			return mapper.readTree(parser);
+		}
+		catch (final IOException e)
+		{
+			throw new IllegalStateException("The indexed value can not be read", e);
+		}
+	}
+
+	private int[] children(final int container)
+	{
+		final int[] children = new int[childCounts[container]];
+		int child = firstChildren[container];
+		for (int i = 0; i < children.length; i++)
+		{
+			children[i] = child;
+			child = nextSiblings[child];
+		}
+		return children;
+	}
+
+	/**
+	 * The class {@link LazyChildren} holds the children of one container and creates their nodes
+	 * on access
+	 */
+	private final class LazyChildren
+	{
+
+		/** The indexed children of the container */
+		final int[] children;
+
+		/** The cached nodes or null if nodes are not cached */
+		final JsonNode[] nodes;
+
+		LazyChildren(final int container)
+		{
+			children = children(container);
+			nodes = cacheNodes ? new JsonNode[children.length] : null;
+		}
+
+		JsonNode get(final int position)
+		{
+			if (nodes == null)
+			{
+				return newNode(children[position]);
+			}
+			JsonNode node = nodes[position];
+			if (node == null)
+			{
+				node = newNode(children[position]);
+				nodes[position] = node;
+			}
+			return node;
+		}
+
+	}
+
+	/**
+	 * The class {@link LazyChildList} is the read only child list of an {@link ArrayNode} that
+	 * creates the element nodes on access
+	 */
+	private final class LazyChildList extends AbstractList<JsonNode> implements RandomAccess
+	{
+
+		/** The indexed array */
+		private final int container;
+
+		/** The children of the array, created on the first access */
+		private volatile LazyChildren lazyChildren;
+
+		LazyChildList(final int container)
+		{
+			this.container = container;
+		}
+
+		@Override
+		public JsonNode get(final int index)
+		{
+			Objects.checkIndex(index, size());
+			return getLazyChildren().get(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return childCounts[container];
+		}
+
+		private LazyChildren getLazyChildren()
+		{
+			LazyChildren children = lazyChildren;
+			if (children == null)
+			{
+				children = new LazyChildren(container);
+				lazyChildren = children;
+			}
+			return children;
+		}
+
+	}
+
+	/**
+	 * The class {@link LazyChildMap} is the read only child map of an {@link ObjectNode} that
+	 * maps the indexed field names on the first access and creates the value nodes on access
+	 */
+	private final class LazyChildMap extends AbstractMap<String, JsonNode>
+	{
+
+		/** The indexed object */
+		private final int container;
+
+		/** The children of the object, created on the first access */
+		private volatile LazyChildren lazyChildren;
+
+		/** The positions of the children by field name, created on the first access */
+		private volatile Map<String, Integer> positions;
+
+		LazyChildMap(final int container)
+		{
+			this.container = container;
+		}
+
+		@Override
+		public JsonNode get(final Object key)
+		{
+			final Integer position = getPositions().get(key);
+			return position == null ? null : getLazyChildren().get(position);
+		}
+
+		@Override
+		public boolean containsKey(final Object key)
+		{
+			return getPositions().containsKey(key);
+		}
+
+		@Override
+		public int size()
+		{
+			return getPositions().size();
+		}
+
+		@Override
+		public Set<String> keySet()
+		{
+			return Collections.unmodifiableSet(getPositions().keySet());
+		}
+
+		@Override
+		public Set<Entry<String, JsonNode>> entrySet()
+		{
+			return new AbstractSet<>()
+			{
+				@Override
+				public Iterator<Entry<String, JsonNode>> iterator()
+				{
+					final Iterator<Entry<String, Integer>> iterator = getPositions().entrySet()
+						.iterator();
+					return new Iterator<>()
+					{
+						@Override
+						public boolean hasNext()
+						{
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Entry<String, JsonNode> next()
+						{
+							final Entry<String, Integer> entry = iterator.next();
+							return new SimpleImmutableEntry<>(entry.getKey(),
+								getLazyChildren().get(entry.getValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size()
+				{
+					return getPositions().size();
+				}
+			};
+		}
+
+		private LazyChildren getLazyChildren()
+		{
+			LazyChildren children = lazyChildren;
+			if (children == null)
+			{
+				children = new LazyChildren(container);
+				lazyChildren = children;
+			}
+			return children;
+		}
+
+		private Map<String, Integer> getPositions()
+		{
+			Map<String, Integer> fieldPositions = positions;
+			if (fieldPositions == null)
+			{
+				final int[] children = getLazyChildren().children;
+				fieldPositions = new LinkedHashMap<>();
+				for (int i = 0; i < children.length; i++)
+				{
+					fieldPositions.put(names[children[i]], i);
+				}
+				positions = fieldPositions;
+			}
+			return fieldPositions;
+		}
+
+	}
+
+}
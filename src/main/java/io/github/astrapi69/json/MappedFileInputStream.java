@@ -0,0 +1,203 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * The class {@link MappedFileInputStream} reads a file through read only memory mappings instead
+ * of read calls on a file descriptor. A mapping can not be larger than {@link Integer#MAX_VALUE}
+ * bytes, so larger files are mapped region by region while the stream is read. A region is mapped
+ * when the stream reaches it and released to the garbage collector when the stream leaves it
+ */
+public class MappedFileInputStream extends InputStream
+{
+
+	/** The default size of one mapped region */
+	public static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+	/** The channel of the mapped file */
+	private final FileChannel fileChannel;
+
+	/** The size of one mapped region */
+	private final int regionSize;
+
+	/** The size of the mapped file */
+	private final long size;
+
+	/** The file position where the current region starts */
+	private long regionStart;
+
+	/** The current region or null if no region is mapped yet */
+	private MappedByteBuffer region;
+
+	/**
+	 * Instantiates a new {@link MappedFileInputStream} with the default region size
+	 *
+	 * @param path
+	 *            the path of the file to map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public MappedFileInputStream(final Path path) throws IOException
+	{
+		this(path, DEFAULT_REGION_SIZE);
+	}
+
+	/**
+	 * Instantiates a new {@link MappedFileInputStream} with the given region size
+	 *
+	 * @param path
+	 *            the path of the file to map
+	 * @param regionSize
+	 *            the maximum size of one mapped region
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public MappedFileInputStream(final Path path, final int regionSize) throws IOException
+	{
+		Objects.requireNonNull(path);
+		if (regionSize <= 0)
+		{
+			throw new IllegalArgumentException("regionSize must be positive: " + regionSize);
+		}
+		this.regionSize = regionSize;
+		this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		this.size = fileChannel.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int read() throws IOException
+	{
+		if (!nextRegion())
+		{
+			return -1;
+		}
+		return region.get() & 0xFF;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int read(final byte[] bytes, final int offset, final int length) throws IOException
+	{
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+		if (length == 0)
+		{
+			return 0;
+		}
+		if (!nextRegion())
+		{
+			return -1;
+		}
+		final int count = Math.min(length, region.remaining());
+		region.get(bytes, offset, count);
+		return count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long skip(final long count) throws IOException
+	{
+		if (count <= 0)
+		{
+			return 0;
+		}
+		final long position = getPosition();
+		final long skipped = Math.min(count, size - position);
+		seek(position + skipped);
+		return skipped;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int available() throws IOException
+	{
+		return (int)Math.min(Integer.MAX_VALUE, size - getPosition());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		region = null;
+		fileChannel.close();
+	}
+
+	private long getPosition()
+	{
+		return region == null ? regionStart : regionStart + region.position();
+	}
+
+	private void seek(final long position) throws IOException
+	{
+		if (region != null && regionStart <= position
+			&& position <= regionStart + region.limit())
+		{
+			region.position((int)(position - regionStart));
+			return;
+		}
+		region = null;
+		regionStart = position;
+	}
+
+	private boolean nextRegion() throws IOException
+	{
+		if (region != null && region.hasRemaining())
+		{
+			return true;
+		}
+		final long position = getPosition();
+		if (size <= position)
+		{
+			return false;
+		}
+		if (!fileChannel.isOpen())
+		{
+			throw new IOException("Stream closed");
+		}
+		regionStart = position;
+		region = fileChannel.map(FileChannel.MapMode.READ_ONLY, position,
+			Math.min(regionSize, size - position));
+		return true;
+	}
+
+}
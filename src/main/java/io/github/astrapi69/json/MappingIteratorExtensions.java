@@ -0,0 +1,165 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * The class {@link MappingIteratorExtensions} provides methods for the lazy reading of values with
+ * a {@link MappingIterator}
+ */
+public final class MappingIteratorExtensions
+{
+
+	private MappingIteratorExtensions()
+	{
+	}
+
+	/**
+	 * Creates a lazy sequential {@link Stream} from the given {@link MappingIterator}. Every value is
+	 * read from the underlying parser when the stream requests it, so only the current value is
+	 * held in memory. <br>
+	 * <br>
+	 * The returned stream must be closed, for instance with a try-with-resources statement, this
+	 * closes the {@link MappingIterator} and the underlying source. A failure on read is thrown by
+	 * the {@link MappingIterator}, a mapping failure as a
+	 * {@link com.fasterxml.jackson.databind.RuntimeJsonMappingException} and any other
+	 * {@link IOException} as a {@link RuntimeException} with the {@link IOException} as cause. An
+	 * {@link IOException} on close is thrown as an {@link UncheckedIOException}
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param mappingIterator
+	 *            the mapping iterator
+	 * @return the lazy {@link Stream}
+	 */
+	public static <T> Stream<T> toStream(final MappingIterator<T> mappingIterator)
+	{
+		Objects.requireNonNull(mappingIterator);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(mappingIterator, Spliterator.ORDERED),
+				false)
+			.onClose(() -> close(mappingIterator));
+	}
+
+	/**
+	 * Creates a lazy iterator over the root level values of the given input stream with the given
+	 * {@link ObjectReader}. Other than {@link ObjectReader#readValues(InputStream)} a root level
+	 * array is not unwrapped, so every root level value is one element. The returned iterator must
+	 * be closed, this closes the input stream
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param objectReader
+	 *            the object reader for the type of the values
+	 * @param inputStream
+	 *            the input stream
+	 * @return the lazy {@link MappingIterator}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> MappingIterator<T> newRootValueIterator(final ObjectReader objectReader,
+		final InputStream inputStream) throws IOException
+	{
+		Objects.requireNonNull(objectReader);
+		Objects.requireNonNull(inputStream);
+		return newRootValueIterator(objectReader, objectReader.createParser(inputStream));
+	}
+
+	/**
+	 * Creates a lazy iterator over the root level values of the given range of the given byte
+	 * array with the given {@link ObjectReader}. A root level array is not unwrapped, so every
+	 * root level value is one element
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param objectReader
+	 *            the object reader for the type of the values
+	 * @param content
+	 *            the byte array
+	 * @param offset
+	 *            the offset of the first byte to read
+	 * @param length
+	 *            the number of bytes to read
+	 * @return the lazy {@link MappingIterator}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> MappingIterator<T> newRootValueIterator(final ObjectReader objectReader,
+		final byte[] content, final int offset, final int length) throws IOException
+	{
+		Objects.requireNonNull(objectReader);
+		Objects.requireNonNull(content);
+		return newRootValueIterator(objectReader,
+			objectReader.createParser(content, offset, length));
+	}
+
+	private static <T> MappingIterator<T> newRootValueIterator(final ObjectReader objectReader,
+		final JsonParser parser) throws IOException
+	{
+		// a parser that is not managed from the reader is not unwrapped on a root level array
+		try
+		{
+			return objectReader.readValues(parser);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			parser.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes the given {@link MappingIterator}
+	 *
+	 * @param mappingIterator
+	 *            the mapping iterator
+	 * @throws UncheckedIOException
+	 *             if the close fails
+	 */
+	static void close(final MappingIterator<?> mappingIterator)
+	{
+		try
+		{
+			mappingIterator.close();
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The class {@link ObjectToJSONObjectExtensions} converts java objects to {@link JSONObject} and
+ * {@link JSONArray} objects. The java object is serialized as jackson tokens into a
+ * {@link TokenBuffer} that is walked into the org.json values, no json text is created in between
+ */
+public final class ObjectToJSONObjectExtensions
+{
+
+	private ObjectToJSONObjectExtensions()
+	{
+	}
+
+	/**
+	 * Transforms the given java object into a {@link JSONObject} with the shared object mapper
+	 *
+	 * @param object
+	 *            the java object
+	 * @return the json object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static JSONObject toJSONObject(final Object object) throws IOException
+	{
+		return toJSONObject(object, ObjectMapperFactory.newObjectMapper());
+	}
+
+	/**
+	 * Transforms the given java object into a {@link JSONObject}
+	 *
+	 * @param object
+	 *            the java object
+	 * @param mapper
+	 *            the object mapper
+	 * @return the json object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws IllegalArgumentException
+	 *             if the java object is not serialized as a json object
+	 */
+	public static JSONObject toJSONObject(final Object object, final ObjectMapper mapper)
+		throws IOException
+	{
+		final Object jsonValue = toJSONValue(object, mapper);
+		if (!(jsonValue instanceof JSONObject))
+		{
+			throw new IllegalArgumentException(
+				"The object of " + object.getClass() + " is not serialized as a json object");
+		}
+		return (JSONObject)jsonValue;
+	}
+
+	/**
+	 * Transforms the given java object into a {@link JSONArray} with the shared object mapper
+	 *
+	 * @param object
+	 *            the java object, for instance a collection or an array
+	 * @return the json array
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static JSONArray toJSONArray(final Object object) throws IOException
+	{
+		return toJSONArray(object, ObjectMapperFactory.newObjectMapper());
+	}
+
+	/**
+	 * Transforms the given java object into a {@link JSONArray}
+	 *
+	 * @param object
+	 *            the java object, for instance a collection or an array
+	 * @param mapper
+	 *            the object mapper
+	 * @return the json array
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws IllegalArgumentException
+	 *             if the java object is not serialized as a json array
+	 */
+	public static JSONArray toJSONArray(final Object object, final ObjectMapper mapper)
+		throws IOException
+	{
+		final Object jsonValue = toJSONValue(object, mapper);
+		if (!(jsonValue instanceof JSONArray))
+		{
+			throw new IllegalArgumentException(
+				"The object of " + object.getClass() + " is not serialized as a json array");
+		}
+		return (JSONArray)jsonValue;
+	}
+
+	private static Object toJSONValue(final Object object, final ObjectMapper mapper)
+		throws IOException
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(mapper);
+		final TokenBuffer tokenBuffer = new TokenBuffer(mapper, false);
+		mapper.writeValue(tokenBuffer, object);
+		try (JsonParser parser = tokenBuffer.asParser())
+		{
+			return JSONTreeTokens.read(parser);
+		}
+	}
+
+}
@@ -0,0 +1,363 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The class {@link PrimitiveArrayReader} reads json arrays of numbers token by token straight into
+ * primitive arrays, so no boxed number and no list of references is created. The buffer of a row
+ * grows geometrically and is trimmed once to the number of read elements. Arrays of arrays are
+ * read into arrays of primitive arrays, the rows may have different lengths
+ */
+final class PrimitiveArrayReader
+{
+
+	/** The initial capacity of the buffer of a row */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** The largest capacity that can be allocated for an array */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private PrimitiveArrayReader()
+	{
+	}
+
+	/**
+	 * Reads the root json array of the given parser into an int array
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the int array or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of integer
+	 *             numbers in the int range
+	 */
+	static int[] readRootIntArray(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readIntArray(parser);
+	}
+
+	/**
+	 * Reads the root json array of the given parser into a long array
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the long array or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of integer
+	 *             numbers in the long range
+	 */
+	static long[] readRootLongArray(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readLongArray(parser);
+	}
+
+	/**
+	 * Reads the root json array of the given parser into a double array
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the double array or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of numbers
+	 */
+	static double[] readRootDoubleArray(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readDoubleArray(parser);
+	}
+
+	/**
+	 * Reads the root json array of the given parser into a float array
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the float array or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of numbers
+	 */
+	static float[] readRootFloatArray(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readFloatArray(parser);
+	}
+
+	/**
+	 * Reads the root json array of arrays of the given parser into an array of int arrays
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the array of int arrays or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of arrays
+	 *             of integer numbers in the int range
+	 */
+	static int[][] readRootIntArrays(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readArrays(parser, PrimitiveArrayReader::readIntArray, int[][]::new);
+	}
+
+	/**
+	 * Reads the root json array of arrays of the given parser into an array of long arrays
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the array of long arrays or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of arrays
+	 *             of integer numbers in the long range
+	 */
+	static long[][] readRootLongArrays(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readArrays(parser, PrimitiveArrayReader::readLongArray, long[][]::new);
+	}
+
+	/**
+	 * Reads the root json array of arrays of the given parser into an array of double arrays
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the array of double arrays or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of arrays
+	 *             of numbers
+	 */
+	static double[][] readRootDoubleArrays(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readArrays(parser, PrimitiveArrayReader::readDoubleArray, double[][]::new);
+	}
+
+	/**
+	 * Reads the root json array of arrays of the given parser into an array of float arrays
+	 *
+	 * @param parser
+	 *            the parser before the first token
+	 * @return the array of float arrays or null if the root value is null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no array of arrays
+	 *             of numbers
+	 */
+	static float[][] readRootFloatArrays(final JsonParser parser) throws IOException
+	{
+		parser.nextToken();
+		return readArrays(parser, PrimitiveArrayReader::readFloatArray, float[][]::new);
+	}
+
+	private static int[] readIntArray(final JsonParser parser) throws IOException
+	{
+		if (startArray(parser))
+		{
+			return null;
+		}
+		int[] values = new int[INITIAL_CAPACITY];
+		int size = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+		{
+			if (token != JsonToken.VALUE_NUMBER_INT)
+			{
+				throw unexpectedToken(parser, token, "an integer number");
+			}
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, grow(size));
+			}
+			values[size++] = parser.getIntValue();
+		}
+		return size == values.length ? values : Arrays.copyOf(values, size);
+	}
+
+	private static long[] readLongArray(final JsonParser parser) throws IOException
+	{
+		if (startArray(parser))
+		{
+			return null;
+		}
+		long[] values = new long[INITIAL_CAPACITY];
+		int size = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+		{
+			if (token != JsonToken.VALUE_NUMBER_INT)
+			{
+				throw unexpectedToken(parser, token, "an integer number");
+			}
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, grow(size));
+			}
+			values[size++] = parser.getLongValue();
+		}
+		return size == values.length ? values : Arrays.copyOf(values, size);
+	}
+
+	private static double[] readDoubleArray(final JsonParser parser) throws IOException
+	{
+		if (startArray(parser))
+		{
+			return null;
+		}
+		double[] values = new double[INITIAL_CAPACITY];
+		int size = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+		{
+			if (!isNumber(token))
+			{
+				throw unexpectedToken(parser, token, "a number");
+			}
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, grow(size));
+			}
+			values[size++] = parser.getDoubleValue();
+		}
+		return size == values.length ? values : Arrays.copyOf(values, size);
+	}
+
+	private static float[] readFloatArray(final JsonParser parser) throws IOException
+	{
+		if (startArray(parser))
+		{
+			return null;
+		}
+		float[] values = new float[INITIAL_CAPACITY];
+		int size = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+		{
+			if (!isNumber(token))
+			{
+				throw unexpectedToken(parser, token, "a number");
+			}
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, grow(size));
+			}
+			values[size++] = parser.getFloatValue();
+		}
+		return size == values.length ? values : Arrays.copyOf(values, size);
+	}
+
+	private static <A> A[] readArrays(final JsonParser parser, final RowReader<A> rowReader,
+		final IntFunction<A[]> arrayFactory) throws IOException
+	{
+		if (startArray(parser))
+		{
+			return null;
+		}
+		A[] rows = arrayFactory.apply(INITIAL_CAPACITY);
+		int size = 0;
+		while (parser.nextToken() != JsonToken.END_ARRAY)
+		{
+			if (size == rows.length)
+			{
+				rows = Arrays.copyOf(rows, grow(size));
+			}
+			rows[size++] = rowReader.read(parser);
+		}
+		return size == rows.length ? rows : Arrays.copyOf(rows, size);
+	}
+
+	/**
+	 * Checks that the current token starts an array
+	 *
+	 * @param parser
+	 *            the parser on the first token of the array
+	 * @return true if the current token is a null value otherwise false
+	 * @throws IOException
+	 *             if the current token neither starts an array nor is a null value
+	 */
+	private static boolean startArray(final JsonParser parser) throws IOException
+	{
+		final JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NULL)
+		{
+			return true;
+		}
+		if (token != JsonToken.START_ARRAY)
+		{
+			throw unexpectedToken(parser, token, "an array");
+		}
+		return false;
+	}
+
+	private static boolean isNumber(final JsonToken token)
+	{
+		return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+	}
+
+	private static int grow(final int capacity)
+	{
+		if (capacity == MAX_CAPACITY)
+		{
+			throw new OutOfMemoryError("The json array has too many elements for a java array");
+		}
+		return (int)Math.min((long)capacity << 1, MAX_CAPACITY);
+	}
+
+	private static JsonParseException unexpectedToken(final JsonParser parser,
+		final JsonToken token, final String expected)
+	{
+		return new JsonParseException(parser, "Expected " + expected + " but was "
+			+ (token != null ? token : "the end of the input"));
+	}
+
+	/**
+	 * The reader of one row of an array of arrays
+	 *
+	 * @param <A>
+	 *            the generic type of the primitive array of a row
+	 */
+	@FunctionalInterface
+	private interface RowReader<A>
+	{
+
+		/**
+		 * Reads the row that starts at the current token of the given parser
+		 *
+		 * @param parser
+		 *            the parser on the first token of the row
+		 * @return the row or null if the row is a null value
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred
+		 */
+		A read(JsonParser parser) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,196 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The class {@link BoundedConcurrentCache} is a thread-safe cache with an upper bound of entries
+ * that counts hits and misses. Lookups never lock, values are created outside of any lock and the
+ * first created value for a key wins, so all callers share the same instance. If the cache is full
+ * an arbitrary entry is evicted before a new entry is added
+ *
+ * @param <K>
+ *            the generic type of the keys
+ * @param <V>
+ *            the generic type of the values
+ */
+public final class BoundedConcurrentCache<K, V>
+{
+
+	/** The default maximum number of entries */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	/** The map that holds the cached values */
+	private final ConcurrentHashMap<K, V> cache;
+
+	/** The maximum number of entries */
+	private final int maxSize;
+
+	/** The counter for cache hits */
+	private final LongAdder hits = new LongAdder();
+
+	/** The counter for cache misses */
+	private final LongAdder misses = new LongAdder();
+
+	/** The counter for evicted entries */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Instantiates a new {@link BoundedConcurrentCache} with the default maximum number of entries
+	 */
+	public BoundedConcurrentCache()
+	{
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Instantiates a new {@link BoundedConcurrentCache} with the given maximum number of entries
+	 *
+	 * @param maxSize
+	 *            the maximum number of entries
+	 */
+	public BoundedConcurrentCache(final int maxSize)
+	{
+		if (maxSize < 1)
+		{
+			throw new IllegalArgumentException("maxSize must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		this.cache = new ConcurrentHashMap<>(Math.min(maxSize, 64));
+	}
+
+	/**
+	 * Gets the value for the given key. If no value is cached the given loader creates it and the
+	 * created value will be cached
+	 *
+	 * @param key
+	 *            the key
+	 * @param loader
+	 *            the function that creates the value if it is not cached
+	 * @return the cached or created value
+	 */
+	public V get(final K key, final Function<? super K, ? extends V> loader)
+	{
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(loader);
+		final V value = cache.get(key);
+		if (value != null)
+		{
+			hits.increment();
+			return value;
+		}
+		misses.increment();
+		final V created = Objects.requireNonNull(loader.apply(key));
+		if (maxSize <= cache.size())
+		{
+			evictOne();
+		}
+		final V previous = cache.putIfAbsent(key, created);
+		return previous != null ? previous : created;
+	}
+
+	/**
+	 * Gets the cached value for the given key without creating it
+	 *
+	 * @param key
+	 *            the key
+	 * @return the cached value or null if no value is cached
+	 */
+	public V getIfPresent(final K key)
+	{
+		return cache.get(key);
+	}
+
+	/**
+	 * Gets a read-only view of the keys that are currently cached
+	 *
+	 * @return the cached keys
+	 */
+	public Set<K> keySet()
+	{
+		return Collections.unmodifiableSet(cache.keySet());
+	}
+
+	/**
+	 * Gets the number of cached entries
+	 *
+	 * @return the number of cached entries
+	 */
+	public int size()
+	{
+		return cache.size();
+	}
+
+	/**
+	 * Gets the maximum number of entries
+	 *
+	 * @return the maximum number of entries
+	 */
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Removes all cached entries and resets the counters
+	 */
+	public void clear()
+	{
+		cache.clear();
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	/**
+	 * Gets a snapshot of the statistics of this cache
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public CacheStatistics getStatistics()
+	{
+		return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), cache.size(),
+			maxSize);
+	}
+
+	private void evictOne()
+	{
+		final Iterator<K> iterator = cache.keySet().iterator();
+		if (iterator.hasNext())
+		{
+			iterator.next();
+			iterator.remove();
+			evictions.increment();
+		}
+	}
+
+}
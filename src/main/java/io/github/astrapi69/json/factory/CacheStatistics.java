@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+/**
+ * The class {@link CacheStatistics} is an immutable snapshot of the counters of a cache
+ */
+public final class CacheStatistics
+{
+
+	/** The number of lookups that found a cached value */
+	private final long hitCount;
+
+	/** The number of lookups that had to create a value */
+	private final long missCount;
+
+	/** The number of entries that was removed because the cache was full */
+	private final long evictionCount;
+
+	/** The number of cached entries */
+	private final int size;
+
+	/** The maximum number of entries */
+	private final int maxSize;
+
+	/**
+	 * Instantiates a new {@link CacheStatistics}
+	 *
+	 * @param hitCount
+	 *            the number of lookups that found a cached value
+	 * @param missCount
+	 *            the number of lookups that had to create a value
+	 * @param evictionCount
+	 *            the number of entries that was removed because the cache was full
+	 * @param size
+	 *            the number of cached entries
+	 * @param maxSize
+	 *            the maximum number of entries
+	 */
+	public CacheStatistics(final long hitCount, final long missCount, final long evictionCount,
+		final int size, final int maxSize)
+	{
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Gets the number of lookups that found a cached value
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount()
+	{
+		return hitCount;
+	}
+
+	/**
+	 * Gets the number of lookups that had to create a value
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount()
+	{
+		return missCount;
+	}
+
+	/**
+	 * Gets the number of entries that was removed because the cache was full
+	 *
+	 * @return the eviction count
+	 */
+	public long getEvictionCount()
+	{
+		return evictionCount;
+	}
+
+	/**
+	 * Gets the number of cached entries
+	 *
+	 * @return the size
+	 */
+	public int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Gets the maximum number of entries
+	 *
+	 * @return the maximum size
+	 */
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Gets the total number of lookups
+	 *
+	 * @return the request count
+	 */
+	public long getRequestCount()
+	{
+		return hitCount + missCount;
+	}
+
+	/**
+	 * Gets the ratio of lookups that found a cached value
+	 *
+	 * @return the hit rate between 0.0 and 1.0, or 1.0 if no lookup was made
+	 */
+	public double getHitRate()
+	{
+		final long requestCount = getRequestCount();
+		return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "CacheStatistics(hitCount=" + hitCount + ", missCount=" + missCount
+			+ ", evictionCount=" + evictionCount + ", size=" + size + ", maxSize=" + maxSize + ")";
+	}
+
+}
@@ -25,19 +25,45 @@
 package io.github.astrapi69.json.factory;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
  * The factory class {@link JavaTypeFactory} for creating {@link JavaType} objects for serializing
- * java collection beans to xml string and deserialize xml string to java collection beans
+ * java collection beans to xml string and deserialize xml string to java collection beans. <br>
+ * The resolved {@link JavaType} objects of the default {@link TypeFactory} are cached, so
+ * repeated calls with the same container and parameter types resolve the type only once
  */
 public class JavaTypeFactory
 {
+	/** The cache for the resolved {@link JavaType} objects of the default {@link TypeFactory} */
+	private static final BoundedConcurrentCache<List<Object>, JavaType> JAVA_TYPE_CACHE = new BoundedConcurrentCache<>(
+		1024);
+
+	/** The cache for the {@link TypeReference} objects of classes */
+	private static final BoundedConcurrentCache<Class<?>, TypeReference<?>> TYPE_REFERENCE_CACHE = new BoundedConcurrentCache<>(
+		1024);
+
+	/** The kind of a parametric type in the cache key */
+	private static final String PARAMETRIC = "parametric";
+
+	/** The kind of a collection type in the cache key */
+	private static final String COLLECTION = "collection";
+
+	/** The kind of a map type in the cache key */
+	private static final String MAP = "map";
+
+	/** The kind of a generic type in the cache key */
+	private static final String TYPE = "type";
+
 	private JavaTypeFactory()
 	{
 	}
@@ -74,8 +100,9 @@ public class JavaTypeFactory
 	public static JavaType newParametricType(final ObjectMapper objectMapper,
 		final Class<?> parametrized, final Class<?>... parameterClasses)
 	{
-		return objectMapper.getTypeFactory().constructParametricType(parametrized,
-			parameterClasses);
+		return resolve(objectMapper.getTypeFactory(),
+			newKey(PARAMETRIC, parametrized, (Object[])parameterClasses),
+			typeFactory -> typeFactory.constructParametricType(parametrized, parameterClasses));
 	}
 
 	/**
@@ -110,7 +137,9 @@ public class JavaTypeFactory
 	public static JavaType newParametricType(final ObjectMapper objectMapper,
 		final Class<?> parametrized, final JavaType... parameterTypes)
 	{
-		return objectMapper.getTypeFactory().constructParametricType(parametrized, parameterTypes);
+		return resolve(objectMapper.getTypeFactory(),
+			newKey(PARAMETRIC, parametrized, (Object[])parameterTypes),
+			typeFactory -> typeFactory.constructParametricType(parametrized, parameterTypes));
 	}
 
 	/**
@@ -145,7 +174,9 @@ public class JavaTypeFactory
 	public static JavaType newCollectionType(final ObjectMapper objectMapper,
 		final Class<? extends Collection> collectionClass, final Class<?> elementClass)
 	{
-		return objectMapper.getTypeFactory().constructCollectionType(collectionClass, elementClass);
+		return resolve(objectMapper.getTypeFactory(),
+			newKey(COLLECTION, collectionClass, elementClass),
+			typeFactory -> typeFactory.constructCollectionType(collectionClass, elementClass));
 	}
 
 	/**
@@ -180,8 +211,9 @@ public class JavaTypeFactory
 	public static JavaType newCollectionType(final ObjectMapper objectMapper,
 		final Class<? extends Collection> collectionClass, final JavaType elementJavaType)
 	{
-		return objectMapper.getTypeFactory().constructCollectionType(collectionClass,
-			elementJavaType);
+		return resolve(objectMapper.getTypeFactory(),
+			newKey(COLLECTION, collectionClass, elementJavaType),
+			typeFactory -> typeFactory.constructCollectionType(collectionClass, elementJavaType));
 	}
 
 	/**
@@ -219,7 +251,8 @@ public class JavaTypeFactory
 	public static JavaType newMapType(final ObjectMapper objectMapper,
 		final Class<? extends Map> mapClass, final JavaType keyType, final JavaType valueType)
 	{
-		return objectMapper.getTypeFactory().constructMapType(mapClass, keyType, valueType);
+		return resolve(objectMapper.getTypeFactory(), newKey(MAP, mapClass, keyType, valueType),
+			typeFactory -> typeFactory.constructMapType(mapClass, keyType, valueType));
 	}
 
 	/**
@@ -257,7 +290,8 @@ public class JavaTypeFactory
 	public static JavaType newMapType(final ObjectMapper objectMapper,
 		final Class<? extends Map> mapClass, final Class<?> keyClass, final Class<?> valueClass)
 	{
-		return objectMapper.getTypeFactory().constructMapType(mapClass, keyClass, valueClass);
+		return resolve(objectMapper.getTypeFactory(), newKey(MAP, mapClass, keyClass, valueClass),
+			typeFactory -> typeFactory.constructMapType(mapClass, keyClass, valueClass));
 	}
 
 	/**
@@ -290,11 +324,14 @@ public class JavaTypeFactory
 	public static <T> JavaType newJavaType(final ObjectMapper objectMapper,
 		final TypeReference<T> typeReference)
 	{
-		return objectMapper.getTypeFactory().constructType(typeReference);
+		return resolve(objectMapper.getTypeFactory(), newKey(TYPE, typeReference.getType()),
+			typeFactory -> typeFactory.constructType(typeReference));
 	}
 
 	/**
-	 * Factory method for create a new {@link TypeReference} from the given type class
+	 * Factory method for create a new {@link TypeReference} from the given type class. The
+	 * {@link TypeReference} is cached, so repeated calls with the same class return the same
+	 * instance
 	 *
 	 * @param <T>
 	 *            the generic type
@@ -302,16 +339,52 @@ public class JavaTypeFactory
 	 *            the type class
 	 * @return the new {@link TypeReference}
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> TypeReference<T> newTypeReference(final Class<T> typeClass)
 	{
-		return new TypeReference<T>()
-		{
-			@Override
-			public Type getType()
+		return (TypeReference<T>)TYPE_REFERENCE_CACHE.get(typeClass,
+			key -> new TypeReference<T>()
 			{
-				return typeClass;
-			}
-		};
+				@Override
+				public Type getType()
+				{
+					return typeClass;
+				}
+			});
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the resolved {@link JavaType} objects
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getJavaTypeCacheStatistics()
+	{
+		return JAVA_TYPE_CACHE.getStatistics();
+	}
+
+	private static JavaType resolve(final TypeFactory typeFactory, final List<Object> key,
+		final Function<TypeFactory, JavaType> resolver)
+	{
+		// only the default type factory is cached, others can have type modifiers
+		if (typeFactory != TypeFactory.defaultInstance())
+		{
+			return resolver.apply(typeFactory);
+		}
+		return JAVA_TYPE_CACHE.get(key, k -> resolver.apply(typeFactory));
+	}
+
+	private static List<Object> newKey(final String kind, final Object type,
+		final Object... parameterTypes)
+	{
+		final List<Object> key = new ArrayList<>(parameterTypes.length + 2);
+		key.add(kind);
+		key.add(type);
+		for (final Object parameterType : parameterTypes)
+		{
+			key.add(parameterType);
+		}
+		return key;
 	}
 
 
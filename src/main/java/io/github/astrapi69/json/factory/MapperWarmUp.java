@@ -0,0 +1,213 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The class {@link MapperWarmUp} resolves the serializers and deserializers of given types
+ * eagerly, so the first read or write of a type after a startup does not pay for the
+ * introspection of the type
+ */
+public final class MapperWarmUp
+{
+
+	private MapperWarmUp()
+	{
+	}
+
+	/**
+	 * Resolves the serializer and the deserializer of the given type in the given
+	 * {@link ObjectMapper}
+	 *
+	 * @param objectMapper
+	 *            the object mapper
+	 * @param javaType
+	 *            the type to resolve
+	 * @throws UncheckedIOException
+	 *             if the serializer of the type can not be resolved
+	 */
+	public static void resolve(final ObjectMapper objectMapper, final JavaType javaType)
+	{
+		Objects.requireNonNull(objectMapper);
+		Objects.requireNonNull(javaType);
+		objectMapper.readerFor(javaType);
+		try
+		{
+			objectMapper.getSerializerProviderInstance().findValueSerializer(javaType);
+		}
+		catch (final JsonMappingException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Warms up the given types in the given {@link ObjectMapper}
+	 *
+	 * @param objectMapper
+	 *            the object mapper
+	 * @param javaTypes
+	 *            the types to warm up
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 */
+	public static WarmUpReport warmUp(final ObjectMapper objectMapper,
+		final Collection<JavaType> javaTypes, final boolean parallel)
+	{
+		Objects.requireNonNull(objectMapper);
+		return warmUp(javaTypes, javaType -> resolve(objectMapper, javaType), parallel);
+	}
+
+	/**
+	 * Warms up the given types with the given resolver. A type that the resolver fails on is
+	 * reported as skipped
+	 *
+	 * @param javaTypes
+	 *            the types to warm up
+	 * @param resolver
+	 *            the resolver that warms up one type
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel on the common
+	 *            fork join pool
+	 * @return the {@link WarmUpReport} object
+	 */
+	public static WarmUpReport warmUp(final Collection<JavaType> javaTypes,
+		final Consumer<JavaType> resolver, final boolean parallel)
+	{
+		return warmUp(javaTypes, resolver, parallel, new ArrayList<>());
+	}
+
+	/**
+	 * Replays the types of the given types file that was written from a {@link TypeRecorder} and
+	 * warms them up in the given {@link ObjectMapper}
+	 *
+	 * @param objectMapper
+	 *            the object mapper
+	 * @param typesFile
+	 *            the types file
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static WarmUpReport replay(final ObjectMapper objectMapper, final Path typesFile,
+		final boolean parallel) throws IOException
+	{
+		Objects.requireNonNull(objectMapper);
+		return replay(objectMapper, typesFile, javaType -> resolve(objectMapper, javaType),
+			parallel);
+	}
+
+	/**
+	 * Replays the types of the given types file that was written from a {@link TypeRecorder} and
+	 * warms them up with the given resolver. Types that can not be loaded are reported as skipped
+	 *
+	 * @param objectMapper
+	 *            the object mapper that resolves the canonical type names
+	 * @param typesFile
+	 *            the types file
+	 * @param resolver
+	 *            the resolver that warms up one type
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static WarmUpReport replay(final ObjectMapper objectMapper, final Path typesFile,
+		final Consumer<JavaType> resolver, final boolean parallel) throws IOException
+	{
+		Objects.requireNonNull(objectMapper);
+		final List<JavaType> javaTypes = new ArrayList<>();
+		final List<String> skippedTypes = new ArrayList<>();
+		for (final String canonicalName : TypeRecorder.read(typesFile))
+		{
+			try
+			{
+				javaTypes.add(objectMapper.getTypeFactory().constructFromCanonical(canonicalName));
+			}
+			catch (final IllegalArgumentException e)
+			{
+				skippedTypes.add(canonicalName);
+			}
+		}
+		return warmUp(javaTypes, resolver, parallel, skippedTypes);
+	}
+
+	private static WarmUpReport warmUp(final Collection<JavaType> javaTypes,
+		final Consumer<JavaType> resolver, final boolean parallel, final List<String> skippedTypes)
+	{
+		Objects.requireNonNull(javaTypes);
+		Objects.requireNonNull(resolver);
+		final Map<JavaType, Duration> durations = new ConcurrentHashMap<>();
+		final Queue<String> failedTypes = new ConcurrentLinkedQueue<>();
+		final long start = System.nanoTime();
+		(parallel ? javaTypes.parallelStream() : javaTypes.stream()).forEach(javaType -> {
+			final long typeStart = System.nanoTime();
+			try
+			{
+				resolver.accept(javaType);
+				durations.put(javaType, Duration.ofNanos(System.nanoTime() - typeStart));
+			}
+			catch (final RuntimeException e)
+			{
+				failedTypes.add(javaType.toCanonical());
+			}
+		});
+		final Duration totalDuration = Duration.ofNanos(System.nanoTime() - start);
+		final Map<JavaType, Duration> orderedDurations = new LinkedHashMap<>();
+		for (final JavaType javaType : javaTypes)
+		{
+			final Duration duration = durations.get(javaType);
+			if (duration != null)
+			{
+				orderedDurations.put(javaType, duration);
+			}
+		}
+		skippedTypes.addAll(failedTypes);
+		return new WarmUpReport(orderedDurations, skippedTypes, totalDuration);
+	}
+
+}
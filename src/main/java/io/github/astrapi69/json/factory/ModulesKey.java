@@ -0,0 +1,96 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.Module;
+
+/**
+ * The class {@link ModulesKey} is the cache key of a list of modules. The modules are compared by
+ * their instance identity and in their order of registration and not by their
+ * {@link Module#getTypeId()}, because modules with the same name can hold different serializers
+ * and deserializers
+ */
+public final class ModulesKey
+{
+
+	/** The modules */
+	private final Module[] modules;
+
+	/** The hash code of the module instances */
+	private final int hashCode;
+
+	/**
+	 * Instantiates a new {@link ModulesKey} for the given modules
+	 *
+	 * @param modules
+	 *            the modules in their order of registration
+	 */
+	public ModulesKey(final Module... modules)
+	{
+		this.modules = Objects.requireNonNull(modules).clone();
+		int hash = 1;
+		for (final Module module : this.modules)
+		{
+			Objects.requireNonNull(module);
+			hash = 31 * hash + System.identityHashCode(module);
+		}
+		this.hashCode = hash;
+	}
+
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (this == o)
+		{
+			return true;
+		}
+		if (!(o instanceof ModulesKey))
+		{
+			return false;
+		}
+		final Module[] other = ((ModulesKey)o).modules;
+		if (modules.length != other.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < modules.length; i++)
+		{
+			if (modules[i] != other[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hashCode;
+	}
+
+}
@@ -24,21 +24,52 @@
  */
 package io.github.astrapi69.json.factory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.DatatypeFeature;
 
+import io.github.astrapi69.json.JsonCodec;
+
 /**
  * The factory class {@link ObjectMapperFactory} for creating {@link ObjectMapper} objects
  */
 public final class ObjectMapperFactory
 {
+	/** The cache for the shared readers and writers keyed by their features */
+	private static final BoundedConcurrentCache<List<Map<?, Boolean>>, JsonCodec<Object>> FEATURE_CODEC_CACHE = new BoundedConcurrentCache<>();
+
+	/** The cache for the shared {@link ObjectMapper} objects keyed by their registered modules */
+	private static final BoundedConcurrentCache<ModulesKey, ObjectMapper> MODULE_MAPPER_CACHE = new BoundedConcurrentCache<>(
+		64);
+
+	/** The cache for the shared {@link ObjectMapper} objects keyed by their recycler pool strategy */
+	private static final BoundedConcurrentCache<RecyclerPoolStrategy, ObjectMapper> STRATEGY_MAPPER_CACHE = new BoundedConcurrentCache<>(
+		RecyclerPoolStrategy.values().length);
+
+	/** The cache for the shared {@link ObjectMapper} objects of the profiles */
+	private static final BoundedConcurrentCache<ObjectMapperProfile, ObjectMapper> PROFILE_MAPPER_CACHE = new BoundedConcurrentCache<>(
+		ObjectMapperProfile.values().length);
+
+	/** The cache for the {@link JsonCodec} objects of the default {@link ObjectMapper} */
+	private static final BoundedConcurrentCache<JavaType, JsonCodec<?>> CODEC_CACHE = new BoundedConcurrentCache<>();
+
 	private ObjectMapperFactory()
 	{
 	}
@@ -53,8 +84,13 @@ public final class ObjectMapperFactory
 		return newObjectMapper(false);
 	}
 
+	/** The initially disabled recorder of the bean types of the default {@link ObjectMapper} */
+	private static final TypeRecorder TYPE_RECORDER = new TypeRecorder(false,
+		TypeRecorder.DEFAULT_MAX_SIZE);
+
 	/** The constant mapper. */
-	private final static ObjectMapper OBJECT_MAPPER = newObjectMapper(true);
+	private final static ObjectMapper OBJECT_MAPPER = newObjectMapper(
+		RecyclerPoolStrategy.VIRTUAL_THREAD_AWARE).registerModule(TYPE_RECORDER.newModule());
 
 	/**
 	 * Factory method for create a new {@link ObjectMapper}. If the given flag is true a new
@@ -86,8 +122,6 @@ public final class ObjectMapperFactory
 	 */
 	public static ObjectMapper newObjectMapper(Map<JsonParser.Feature, Boolean> jsonParserFeatures)
 	{
-		final ObjectMapper objectMapper = newObjectMapper(true);
-		jsonParserFeatures.forEach(objectMapper::configure);
 		return newObjectMapper(jsonParserFeatures, null, null, null, null);
 	}
 
@@ -148,4 +182,352 @@ public final class ObjectMapperFactory
 		return new ObjectMapper(jsonFactory);
 	}
 
+	/**
+	 * Factory method for create a new {@link JsonFactory} that recycles its buffers with the pool
+	 * of the given {@link RecyclerPoolStrategy}
+	 *
+	 * @param recyclerPoolStrategy
+	 *            the recycler pool strategy
+	 * @return the new {@link JsonFactory}
+	 */
+	public static JsonFactory newJsonFactory(final RecyclerPoolStrategy recyclerPoolStrategy)
+	{
+		Objects.requireNonNull(recyclerPoolStrategy);
+		return JsonFactory.builder().recyclerPool(recyclerPoolStrategy.newRecyclerPool()).build();
+	}
+
+	/**
+	 * Factory method for create a new {@link ObjectMapper} that recycles its buffers with the pool
+	 * of the given {@link RecyclerPoolStrategy}
+	 *
+	 * @param recyclerPoolStrategy
+	 *            the recycler pool strategy
+	 * @return the new {@link ObjectMapper}
+	 */
+	public static ObjectMapper newObjectMapper(final RecyclerPoolStrategy recyclerPoolStrategy)
+	{
+		return newObjectMapper(newJsonFactory(recyclerPoolStrategy));
+	}
+
+	/**
+	 * Gets the shared {@link ObjectMapper} that recycles its buffers with the pool of the given
+	 * {@link RecyclerPoolStrategy}. <br>
+	 * Note: the returned {@link ObjectMapper} is shared and must not be reconfigured
+	 *
+	 * @param recyclerPoolStrategy
+	 *            the recycler pool strategy
+	 * @return the shared {@link ObjectMapper}
+	 */
+	public static ObjectMapper getObjectMapper(final RecyclerPoolStrategy recyclerPoolStrategy)
+	{
+		Objects.requireNonNull(recyclerPoolStrategy);
+		return STRATEGY_MAPPER_CACHE.get(recyclerPoolStrategy,
+			ObjectMapperFactory::newObjectMapper);
+	}
+
+	/**
+	 * Gets the shared {@link ObjectReader} for the given map of json parser features. The first
+	 * call for a distinct feature set creates an {@link ObjectMapper} that is never handed out,
+	 * all following calls with an equal feature set return the same immutable reader. A reader for
+	 * a type is created with {@link ObjectReader#forType(Class)} and shares the deserializers of
+	 * the feature set
+	 *
+	 * @param jsonParserFeatures
+	 *            the map with the json parser features
+	 * @return the shared {@link ObjectReader}
+	 */
+	public static ObjectReader getObjectReader(Map<JsonParser.Feature, Boolean> jsonParserFeatures)
+	{
+		return getObjectReader(jsonParserFeatures, null, null, null, null);
+	}
+
+	/**
+	 * Gets the shared {@link ObjectReader} for the given features. The first call for a distinct
+	 * feature set creates an {@link ObjectMapper} that is never handed out, all following calls
+	 * with an equal feature set return the same immutable reader. A reader for a type is created
+	 * with {@link ObjectReader#forType(Class)} and shares the deserializers of the feature set
+	 *
+	 * @param jsonParserFeatures
+	 *            the map with the json parser features
+	 * @param jsonGeneratorFeatures
+	 *            the map with the json generator features
+	 * @param deserializationFeatures
+	 *            the map with the json deserialization features
+	 * @param serializationFeatures
+	 *            the map with the json serialization features
+	 * @param datatypeFeatures
+	 *            the map with the datatype features
+	 * @return the shared {@link ObjectReader}
+	 */
+	public static ObjectReader getObjectReader(Map<JsonParser.Feature, Boolean> jsonParserFeatures,
+		Map<JsonGenerator.Feature, Boolean> jsonGeneratorFeatures,
+		Map<DeserializationFeature, Boolean> deserializationFeatures,
+		Map<SerializationFeature, Boolean> serializationFeatures,
+		Map<DatatypeFeature, Boolean> datatypeFeatures)
+	{
+		return getFeatureCodec(jsonParserFeatures, jsonGeneratorFeatures, deserializationFeatures,
+			serializationFeatures, datatypeFeatures).getObjectReader();
+	}
+
+	/**
+	 * Gets the shared {@link ObjectWriter} for the given features. The first call for a distinct
+	 * feature set creates an {@link ObjectMapper} that is never handed out, all following calls
+	 * with an equal feature set return the same immutable writer. The writer serializes values by
+	 * their runtime type, a writer for a type is created with {@link ObjectWriter#forType(Class)}
+	 *
+	 * @param jsonParserFeatures
+	 *            the map with the json parser features
+	 * @param jsonGeneratorFeatures
+	 *            the map with the json generator features
+	 * @param deserializationFeatures
+	 *            the map with the json deserialization features
+	 * @param serializationFeatures
+	 *            the map with the json serialization features
+	 * @param datatypeFeatures
+	 *            the map with the datatype features
+	 * @return the shared {@link ObjectWriter}
+	 */
+	public static ObjectWriter getObjectWriter(Map<JsonParser.Feature, Boolean> jsonParserFeatures,
+		Map<JsonGenerator.Feature, Boolean> jsonGeneratorFeatures,
+		Map<DeserializationFeature, Boolean> deserializationFeatures,
+		Map<SerializationFeature, Boolean> serializationFeatures,
+		Map<DatatypeFeature, Boolean> datatypeFeatures)
+	{
+		return getFeatureCodec(jsonParserFeatures, jsonGeneratorFeatures, deserializationFeatures,
+			serializationFeatures, datatypeFeatures).getObjectWriter();
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the shared readers and writers keyed by their
+	 * features
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getObjectMapperCacheStatistics()
+	{
+		return FEATURE_CODEC_CACHE.getStatistics();
+	}
+
+	/**
+	 * Gets the shared {@link ObjectMapper} with the given registered modules. Modules are
+	 * identified by their instance and not by their {@link Module#getTypeId()}, because modules
+	 * with the same name can hold different serializers and deserializers. So the first call for a
+	 * distinct list of module instances creates the {@link ObjectMapper} and all following calls
+	 * with the same module instances return the same instance. Callers that create new modules on
+	 * every call should keep the module instances for reuse. <br>
+	 * Note: the returned {@link ObjectMapper} is shared and must not be reconfigured
+	 *
+	 * @param modules
+	 *            the modules to register
+	 * @return the shared {@link ObjectMapper}
+	 */
+	public static ObjectMapper getObjectMapper(final Module... modules)
+	{
+		Objects.requireNonNull(modules);
+		return MODULE_MAPPER_CACHE.get(new ModulesKey(modules),
+			k -> newObjectMapper(true).registerModules(modules));
+	}
+
+	/**
+	 * Factory method for create a new {@link ObjectMapper} with the settings of the given
+	 * {@link ObjectMapperProfile}
+	 *
+	 * @param profile
+	 *            the profile
+	 * @return the new {@link ObjectMapper}
+	 */
+	public static ObjectMapper newObjectMapper(final ObjectMapperProfile profile)
+	{
+		Objects.requireNonNull(profile);
+		return profile.newObjectMapper();
+	}
+
+	/**
+	 * Gets the shared {@link ObjectMapper} with the settings of the given
+	 * {@link ObjectMapperProfile}. <br>
+	 * Note: the returned {@link ObjectMapper} is shared and must not be reconfigured
+	 *
+	 * @param profile
+	 *            the profile
+	 * @return the shared {@link ObjectMapper}
+	 */
+	public static ObjectMapper getObjectMapper(final ObjectMapperProfile profile)
+	{
+		Objects.requireNonNull(profile);
+		return PROFILE_MAPPER_CACHE.get(profile, ObjectMapperProfile::newObjectMapper);
+	}
+
+	/**
+	 * Factory method for create a new {@link ObjectMapper} that deduplicates the deserialized
+	 * strings with the given {@link StringInternTable}. This covers string values, string map keys,
+	 * the values of text nodes and the field names of object nodes
+	 *
+	 * @param internTable
+	 *            the intern table
+	 * @return the new {@link ObjectMapper}
+	 */
+	public static ObjectMapper newObjectMapper(final StringInternTable internTable)
+	{
+		Objects.requireNonNull(internTable);
+		final ObjectMapper mapper = newObjectMapper(true).registerModule(internTable.newModule());
+		mapper.setNodeFactory(internTable.newJsonNodeFactory());
+		return mapper;
+	}
+
+	/**
+	 * Gets the cached {@link JsonCodec} of the default {@link ObjectMapper} for the given class
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param valueType
+	 *            the class of the values
+	 * @return the cached {@link JsonCodec}
+	 */
+	public static <T> JsonCodec<T> getJsonCodec(final Class<T> valueType)
+	{
+		return getJsonCodec(OBJECT_MAPPER.constructType(valueType));
+	}
+
+	/**
+	 * Gets the cached {@link JsonCodec} of the default {@link ObjectMapper} for the given type
+	 * reference
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param typeReference
+	 *            the type reference of the values
+	 * @return the cached {@link JsonCodec}
+	 */
+	public static <T> JsonCodec<T> getJsonCodec(final TypeReference<T> typeReference)
+	{
+		return getJsonCodec(OBJECT_MAPPER.constructType(typeReference));
+	}
+
+	/**
+	 * Gets the cached {@link JsonCodec} of the default {@link ObjectMapper} for the given
+	 * {@link JavaType}
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param javaType
+	 *            the type of the values
+	 * @return the cached {@link JsonCodec}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JsonCodec<T> getJsonCodec(final JavaType javaType)
+	{
+		Objects.requireNonNull(javaType);
+		return (JsonCodec<T>)CODEC_CACHE.get(javaType, k -> new JsonCodec<>(OBJECT_MAPPER, k));
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the {@link JsonCodec} objects
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getJsonCodecCacheStatistics()
+	{
+		return CODEC_CACHE.getStatistics();
+	}
+
+	/**
+	 * Warms up the given classes in the default {@link ObjectMapper}
+	 *
+	 * @param classes
+	 *            the classes to warm up
+	 * @return the {@link WarmUpReport} object
+	 */
+	public static WarmUpReport warmUp(final Class<?>... classes)
+	{
+		Objects.requireNonNull(classes);
+		final List<JavaType> javaTypes = new ArrayList<>(classes.length);
+		for (final Class<?> clazz : classes)
+		{
+			javaTypes.add(OBJECT_MAPPER.constructType(clazz));
+		}
+		return warmUp(javaTypes, false);
+	}
+
+	/**
+	 * Warms up the given types in the default {@link ObjectMapper}, so the first read or write of
+	 * a type does not pay for the introspection of the type
+	 *
+	 * @param javaTypes
+	 *            the types to warm up
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 */
+	public static WarmUpReport warmUp(final Collection<JavaType> javaTypes,
+		final boolean parallel)
+	{
+		return MapperWarmUp.warmUp(OBJECT_MAPPER, javaTypes, parallel);
+	}
+
+	/**
+	 * Warms up the types of the given types file in the default {@link ObjectMapper}. The types
+	 * file can be written from the {@link TypeRecorder} of a previous run
+	 *
+	 * @param typesFile
+	 *            the types file
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @see #getTypeRecorder()
+	 */
+	public static WarmUpReport warmUp(final Path typesFile, final boolean parallel)
+		throws IOException
+	{
+		return MapperWarmUp.replay(OBJECT_MAPPER, typesFile, parallel);
+	}
+
+	/**
+	 * Gets the {@link TypeRecorder} that records the types the default {@link ObjectMapper} has
+	 * built serializers or deserializers for. The recording is disabled by default and is enabled
+	 * with {@link TypeRecorder#setEnabled(boolean)} at startup, before the first read or write,
+	 * because a type is recorded only when its serializer or deserializer is built
+	 *
+	 * @return the {@link TypeRecorder} of the default {@link ObjectMapper}
+	 */
+	public static TypeRecorder getTypeRecorder()
+	{
+		return TYPE_RECORDER;
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the shared {@link ObjectMapper} objects keyed by
+	 * their registered modules
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getModuleMapperCacheStatistics()
+	{
+		return MODULE_MAPPER_CACHE.getStatistics();
+	}
+
+	private static JsonCodec<Object> getFeatureCodec(
+		Map<JsonParser.Feature, Boolean> jsonParserFeatures,
+		Map<JsonGenerator.Feature, Boolean> jsonGeneratorFeatures,
+		Map<DeserializationFeature, Boolean> deserializationFeatures,
+		Map<SerializationFeature, Boolean> serializationFeatures,
+		Map<DatatypeFeature, Boolean> datatypeFeatures)
+	{
+		final List<Map<?, Boolean>> key = List.of(copyOf(jsonParserFeatures),
+			copyOf(jsonGeneratorFeatures), copyOf(deserializationFeatures),
+			copyOf(serializationFeatures), copyOf(datatypeFeatures));
+		return FEATURE_CODEC_CACHE.get(key, k -> {
+			final ObjectMapper objectMapper = newObjectMapper(jsonParserFeatures,
+				jsonGeneratorFeatures, deserializationFeatures, serializationFeatures,
+				datatypeFeatures);
+			return new JsonCodec<>(objectMapper, objectMapper.constructType(Object.class));
+		});
+	}
+
+	private static <F> Map<F, Boolean> copyOf(Map<F, Boolean> features)
+	{
+		return features == null ? Map.of() : Map.copyOf(features);
+	}
+
 }
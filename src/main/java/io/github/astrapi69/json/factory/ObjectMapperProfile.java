@@ -0,0 +1,140 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteConstraints;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The enum {@link ObjectMapperProfile} holds vetted settings of an {@link ObjectMapper} for a
+ * workload, so the features have not to be tuned by hand
+ */
+public enum ObjectMapperProfile
+{
+
+	/**
+	 * For a high throughput: fast double and float parsing and writing, no interning of field
+	 * names and no failing on unknown properties
+	 */
+	THROUGHPUT,
+
+	/**
+	 * For a low memory footprint: the buffers are recycled in a shared bounded pool instead of one
+	 * buffer set per thread, field names are canonicalized without interning and the parser
+	 * locations hold no reference to the source
+	 */
+	LOW_MEMORY,
+
+	/**
+	 * For untrusted input: tight stream read and write constraints, duplicate keys, trailing
+	 * tokens, unknown properties and nulls for primitives are rejected
+	 */
+	STRICT;
+
+	/** The maximum nesting depth of the {@link #STRICT} profile */
+	public static final int STRICT_MAX_NESTING_DEPTH = 64;
+
+	/** The maximum length of a number of the {@link #STRICT} profile */
+	public static final int STRICT_MAX_NUMBER_LENGTH = 100;
+
+	/** The maximum length of a string value of the {@link #STRICT} profile */
+	public static final int STRICT_MAX_STRING_LENGTH = 1_000_000;
+
+	/** The maximum length of a property name of the {@link #STRICT} profile */
+	public static final int STRICT_MAX_NAME_LENGTH = 1_000;
+
+	/** The maximum length of a document of the {@link #STRICT} profile */
+	public static final long STRICT_MAX_DOCUMENT_LENGTH = 10_000_000L;
+
+	/**
+	 * Factory method for create a new {@link JsonFactory} with the settings of this profile
+	 *
+	 * @return the new {@link JsonFactory}
+	 */
+	public JsonFactory newJsonFactory()
+	{
+		switch (this)
+		{
+			case THROUGHPUT :
+				return JsonFactory.builder()
+					.recyclerPool(RecyclerPoolStrategy.VIRTUAL_THREAD_AWARE.newRecyclerPool())
+					.disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+					.enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+					.enable(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER)
+					.enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER).build();
+			case LOW_MEMORY :
+				return JsonFactory.builder()
+					.recyclerPool(RecyclerPoolStrategy.BOUNDED.newRecyclerPool())
+					.disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+					.enable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES)
+					.disable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION).build();
+			default :
+				return JsonFactory.builder()
+					.recyclerPool(RecyclerPoolStrategy.VIRTUAL_THREAD_AWARE.newRecyclerPool())
+					.enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
+					.disable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION)
+					.streamReadConstraints(StreamReadConstraints.builder()
+						.maxNestingDepth(STRICT_MAX_NESTING_DEPTH)
+						.maxNumberLength(STRICT_MAX_NUMBER_LENGTH)
+						.maxStringLength(STRICT_MAX_STRING_LENGTH)
+						.maxNameLength(STRICT_MAX_NAME_LENGTH)
+						.maxDocumentLength(STRICT_MAX_DOCUMENT_LENGTH).build())
+					.streamWriteConstraints(StreamWriteConstraints.builder()
+						.maxNestingDepth(STRICT_MAX_NESTING_DEPTH).build())
+					.build();
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link ObjectMapper} with the settings of this profile
+	 *
+	 * @return the new {@link ObjectMapper}
+	 */
+	public ObjectMapper newObjectMapper()
+	{
+		final ObjectMapper objectMapper = new ObjectMapper(newJsonFactory());
+		switch (this)
+		{
+			case THROUGHPUT :
+				objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+				break;
+			case LOW_MEMORY :
+				break;
+			default :
+				objectMapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+					DeserializationFeature.FAIL_ON_TRAILING_TOKENS,
+					DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY,
+					DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+				break;
+		}
+		return objectMapper;
+	}
+
+}
@@ -0,0 +1,149 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+/**
+ * The enum {@link RecyclerPoolStrategy} decides which {@link RecyclerPool} the factory of a mapper
+ * uses for the recycling of its read and write buffers. <br>
+ * <br>
+ * The thread local pool works well on platform threads, but on virtual threads every thread gets
+ * its own buffers, so the shared pools are the better choice there
+ */
+public enum RecyclerPoolStrategy
+{
+
+	/** One buffer recycler per thread, the default of jackson */
+	THREAD_LOCAL,
+
+	/**
+	 * A lock-free pool that is shared between all threads
+	 *
+	 * @deprecated jackson 2.18 deprecated the lock-free pool because it may perform poorly, use
+	 *             {@link #CONCURRENT_DEQUE} instead
+	 */
+	@Deprecated
+	LOCK_FREE,
+
+	/** A pool on a concurrent deque that is shared between all threads */
+	CONCURRENT_DEQUE,
+
+	/** A pool on a bounded queue that is shared between all threads */
+	BOUNDED,
+
+	/** No recycling, every parser and generator allocates its own buffers */
+	NONE,
+
+	/**
+	 * Decides on every acquire of a buffer recycler, virtual threads use the
+	 * {@link #CONCURRENT_DEQUE} pool and platform threads the {@link #THREAD_LOCAL} pool
+	 */
+	VIRTUAL_THREAD_AWARE;
+
+	/** The method handle of Thread.isVirtual or null if the runtime has no virtual threads */
+	private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+	/**
+	 * Factory method for create the {@link RecyclerPool} of this strategy. The shared pools of
+	 * jackson are returned, so all factories with the same strategy share their buffers
+	 *
+	 * @return the {@link RecyclerPool} of this strategy
+	 */
+	@SuppressWarnings("deprecation")
+	public RecyclerPool<BufferRecycler> newRecyclerPool()
+	{
+		switch (this)
+		{
+			case LOCK_FREE :
+				return JsonRecyclerPools.sharedLockFreePool();
+			case CONCURRENT_DEQUE :
+				return JsonRecyclerPools.sharedConcurrentDequePool();
+			case BOUNDED :
+				return JsonRecyclerPools.sharedBoundedPool();
+			case NONE :
+				return JsonRecyclerPools.nonRecyclingPool();
+			case VIRTUAL_THREAD_AWARE :
+				return VirtualThreadAwareRecyclerPool.INSTANCE;
+			default :
+				return JsonRecyclerPools.threadLocalPool();
+		}
+	}
+
+	/**
+	 * Gets the strategy for the current thread, {@link #CONCURRENT_DEQUE} if the current thread is
+	 * a virtual thread otherwise {@link #THREAD_LOCAL}
+	 *
+	 * @return the strategy for the current thread
+	 */
+	public static RecyclerPoolStrategy forCurrentThread()
+	{
+		return isVirtual(Thread.currentThread()) ? CONCURRENT_DEQUE : THREAD_LOCAL;
+	}
+
+	/**
+	 * Checks if the given thread is a virtual thread. On a runtime without virtual threads this is
+	 * always false
+	 *
+	 * @param thread
+	 *            the thread
+	 * @return true if the given thread is a virtual thread otherwise false
+	 */
+	public static boolean isVirtual(final Thread thread)
+	{
+		if (IS_VIRTUAL == null)
+		{
+			return false;
+		}
+		try
+		{
+			return (boolean)IS_VIRTUAL.invokeExact(thread);
+		}
+		catch (final Throwable throwable)
+		{
+			return false;
+		}
+	}
+
+	private static MethodHandle findIsVirtual()
+	{
+		try
+		{
+			return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+				MethodType.methodType(boolean.class));
+		}
+		catch (final NoSuchMethodException | IllegalAccessException e)
+		{
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,258 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * The class {@link StringInternTable} is a bounded, thread-safe table of canonical string
+ * instances. Deserialized text values that occur many times, like status codes, currency symbols
+ * or country codes, are replaced with the canonical instance of the table, so each distinct value
+ * is retained only once. The table is bounded by a maximum number of entries and if it is full an
+ * arbitrary entry is evicted. Strings that are longer than the maximum length are not interned
+ * because long texts rarely repeat. The hit rate of the statistics shows how effective the
+ * deduplication is for a data set
+ */
+public final class StringInternTable
+{
+
+	/** The default maximum number of entries */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	/** The default maximum length of interned strings */
+	public static final int DEFAULT_MAX_LENGTH = 64;
+
+	/** The loader that makes the first seen instance the canonical one */
+	private static final Function<String, String> CANONICAL = Function.identity();
+
+	/** The table with the canonical instances */
+	private final BoundedConcurrentCache<String, String> table;
+
+	/** The maximum length of interned strings */
+	private final int maxLength;
+
+	/**
+	 * Instantiates a new {@link StringInternTable} with the default maximum number of entries and
+	 * the default maximum length
+	 */
+	public StringInternTable()
+	{
+		this(DEFAULT_MAX_SIZE, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * Instantiates a new {@link StringInternTable} with the given maximum number of entries and
+	 * maximum length
+	 *
+	 * @param maxSize
+	 *            the maximum number of entries
+	 * @param maxLength
+	 *            the maximum length of interned strings
+	 */
+	public StringInternTable(final int maxSize, final int maxLength)
+	{
+		if (maxLength < 0)
+		{
+			throw new IllegalArgumentException("maxLength must not be negative");
+		}
+		this.table = new BoundedConcurrentCache<>(maxSize);
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Gets the canonical instance of the given string. Strings that are longer than the maximum
+	 * length are returned as they are
+	 *
+	 * @param value
+	 *            the string
+	 * @return the canonical instance, the given string if it is too long or null if the given
+	 *         string is null
+	 */
+	public String intern(final String value)
+	{
+		if (value == null || maxLength < value.length())
+		{
+			return value;
+		}
+		return table.get(value, CANONICAL);
+	}
+
+	/**
+	 * Gets the maximum length of interned strings
+	 *
+	 * @return the maximum length
+	 */
+	public int getMaxLength()
+	{
+		return maxLength;
+	}
+
+	/**
+	 * Removes all canonical instances and resets the counters
+	 */
+	public void clear()
+	{
+		table.clear();
+	}
+
+	/**
+	 * Gets a snapshot of the statistics of this table. The hit rate is the ratio of interned
+	 * strings that were duplicates
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public CacheStatistics getStatistics()
+	{
+		return table.getStatistics();
+	}
+
+	/**
+	 * Factory method for create a new {@link Module} that interns the deserialized string values
+	 * and the string map keys in this {@link StringInternTable}. The string values cover bean
+	 * properties, collection elements and the values of untyped maps
+	 *
+	 * @return the new {@link Module}
+	 */
+	public Module newModule()
+	{
+		final SimpleModule module = new SimpleModule("string-deduplication");
+		module.addDeserializer(String.class, new InterningStringDeserializer(this));
+		module.addKeyDeserializer(String.class, new KeyDeserializer()
+		{
+			@Override
+			public Object deserializeKey(final String key, final DeserializationContext ctxt)
+			{
+				return intern(key);
+			}
+		});
+		return module;
+	}
+
+	/**
+	 * Factory method for create a new {@link JsonNodeFactory} that interns the values of text
+	 * nodes and the field names of object nodes in this {@link StringInternTable}
+	 *
+	 * @return the new {@link JsonNodeFactory}
+	 */
+	public JsonNodeFactory newJsonNodeFactory()
+	{
+		return new InterningJsonNodeFactory(this);
+	}
+
+	/**
+	 * The deserializer that interns the string values of the standard string deserializer
+	 */
+	private static final class InterningStringDeserializer extends StdScalarDeserializer<String>
+	{
+
+		/**
+		 * the serialVersionUID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/** The intern table */
+		private final transient StringInternTable internTable;
+
+		InterningStringDeserializer(final StringInternTable internTable)
+		{
+			super(String.class);
+			this.internTable = internTable;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public String deserialize(final JsonParser parser, final DeserializationContext ctxt)
+			throws IOException
+		{
+			return internTable.intern(StringDeserializer.instance.deserialize(parser, ctxt));
+		}
+
+	}
+
+	/**
+	 * The node factory that interns the values of text nodes and the field names of object nodes
+	 */
+	private static final class InterningJsonNodeFactory extends JsonNodeFactory
+	{
+
+		/**
+		 * the serialVersionUID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/** The intern table */
+		private final transient StringInternTable internTable;
+
+		InterningJsonNodeFactory(final StringInternTable internTable)
+		{
+			this.internTable = internTable;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public TextNode textNode(final String text)
+		{
+			return super.textNode(internTable.intern(text));
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public ObjectNode objectNode()
+		{
+			return new ObjectNode(this, new LinkedHashMap<>()
+			{
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public JsonNode put(final String key, final JsonNode value)
+				{
+					return super.put(internTable.intern(key), value);
+				}
+
+				@Override
+				public JsonNode putIfAbsent(final String key, final JsonNode value)
+				{
+					return super.putIfAbsent(internTable.intern(key), value);
+				}
+			});
+		}
+
+	}
+
+}
@@ -0,0 +1,258 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+/**
+ * The class {@link TypeRecorder} records the bean types for which a mapper has built a serializer
+ * or a deserializer, jdk types are not recorded. The recorded types can be written to a file and
+ * replayed on the next startup with
+ * {@link MapperWarmUp#replay(com.fasterxml.jackson.databind.ObjectMapper, Path, boolean)}. <br>
+ * <br>
+ * The types are recorded only once when the mapper builds the serializer or the deserializer, so
+ * the recording costs nothing on the following reads and writes. The module records only while
+ * the recorder is enabled and the number of recorded types is bounded by the maximum size
+ */
+public final class TypeRecorder
+{
+
+	/** The prefix of a comment line in a types file */
+	private static final String COMMENT_PREFIX = "#";
+
+	/** The default maximum number of recorded types */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	/** The recorded types */
+	private final Set<JavaType> types = ConcurrentHashMap.newKeySet();
+
+	/** The maximum number of recorded types */
+	private final int maxSize;
+
+	/** The flag that indicates if the module records the types */
+	private volatile boolean enabled;
+
+	/**
+	 * Instantiates a new enabled {@link TypeRecorder} with the default maximum number of recorded
+	 * types
+	 */
+	public TypeRecorder()
+	{
+		this(true, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Instantiates a new {@link TypeRecorder}
+	 *
+	 * @param enabled
+	 *            flag that indicates if the module records the types
+	 * @param maxSize
+	 *            the maximum number of recorded types
+	 */
+	public TypeRecorder(final boolean enabled, final int maxSize)
+	{
+		if (maxSize < 1)
+		{
+			throw new IllegalArgumentException("maxSize must be greater than 0");
+		}
+		this.enabled = enabled;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Checks if the module records the types
+	 *
+	 * @return true if the module records the types
+	 */
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the recording of the module. Types whose serializer or deserializer
+	 * was built while the recording was disabled are not recorded later
+	 *
+	 * @param enabled
+	 *            flag that indicates if the module records the types
+	 */
+	public void setEnabled(final boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Gets the maximum number of recorded types
+	 *
+	 * @return the maximum number of recorded types
+	 */
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Records the given type if the maximum number of recorded types is not reached
+	 *
+	 * @param javaType
+	 *            the type to record
+	 */
+	public void record(final JavaType javaType)
+	{
+		Objects.requireNonNull(javaType);
+		if (types.size() < maxSize)
+		{
+			types.add(javaType);
+		}
+	}
+
+	/**
+	 * Gets the recorded types sorted by their canonical names
+	 *
+	 * @return the recorded types
+	 */
+	public List<JavaType> getTypes()
+	{
+		return types.stream().sorted(Comparator.comparing(JavaType::toCanonical))
+			.collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * Removes all recorded types
+	 */
+	public void clear()
+	{
+		types.clear();
+	}
+
+	/**
+	 * Writes the canonical names of the recorded types to the given file, one type per line
+	 *
+	 * @param typesFile
+	 *            the file to write
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public void write(final Path typesFile) throws IOException
+	{
+		Objects.requireNonNull(typesFile);
+		final List<String> lines = new ArrayList<>();
+		for (final JavaType javaType : getTypes())
+		{
+			lines.add(javaType.toCanonical());
+		}
+		Files.write(typesFile, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the canonical type names of the given file. Empty lines and lines that starts with
+	 * '#' are ignored
+	 *
+	 * @param typesFile
+	 *            the file to read
+	 * @return the canonical type names
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static List<String> read(final Path typesFile) throws IOException
+	{
+		Objects.requireNonNull(typesFile);
+		final List<String> canonicalNames = new ArrayList<>();
+		for (final String line : Files.readAllLines(typesFile, StandardCharsets.UTF_8))
+		{
+			final String canonicalName = line.trim();
+			if (!canonicalName.isEmpty() && !canonicalName.startsWith(COMMENT_PREFIX))
+			{
+				canonicalNames.add(canonicalName);
+			}
+		}
+		return canonicalNames;
+	}
+
+	/**
+	 * Factory method for create a new {@link Module} that records the bean types of the mapper
+	 * that registers it in this {@link TypeRecorder} while this {@link TypeRecorder} is enabled
+	 *
+	 * @return the new {@link Module}
+	 */
+	public Module newModule()
+	{
+		final SimpleModule module = new SimpleModule("type-recorder");
+		module.setDeserializerModifier(new BeanDeserializerModifier()
+		{
+			@Override
+			public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config,
+				final BeanDescription beanDesc, final JsonDeserializer<?> deserializer)
+			{
+				recordBean(beanDesc.getType());
+				return deserializer;
+			}
+		});
+		module.setSerializerModifier(new BeanSerializerModifier()
+		{
+			@Override
+			public JsonSerializer<?> modifySerializer(final SerializationConfig config,
+				final BeanDescription beanDesc, final JsonSerializer<?> serializer)
+			{
+				recordBean(beanDesc.getType());
+				return serializer;
+			}
+		});
+		return module;
+	}
+
+	private void recordBean(final JavaType javaType)
+	{
+		// the jdk types are resolved fast and are not worth a warm-up
+		final Class<?> rawClass = javaType.getRawClass();
+		if (enabled && !rawClass.isPrimitive() && !ClassUtil.isJDKClass(rawClass))
+		{
+			record(javaType);
+		}
+	}
+
+}
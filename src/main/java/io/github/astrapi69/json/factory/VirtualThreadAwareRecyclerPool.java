@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+/**
+ * The class {@link VirtualThreadAwareRecyclerPool} hands out buffer recyclers from the pool of
+ * {@link RecyclerPoolStrategy#forCurrentThread()}. A buffer recycler is linked to the pool it was
+ * taken from, so it goes back to that pool even if it is released on another thread
+ */
+final class VirtualThreadAwareRecyclerPool implements RecyclerPool<BufferRecycler>
+{
+
+	private static final long serialVersionUID = 1L;
+
+	/** The shared instance */
+	static final VirtualThreadAwareRecyclerPool INSTANCE = new VirtualThreadAwareRecyclerPool();
+
+	private VirtualThreadAwareRecyclerPool()
+	{
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BufferRecycler acquireAndLinkPooled()
+	{
+		return getPool().acquireAndLinkPooled();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BufferRecycler acquirePooled()
+	{
+		return getPool().acquirePooled();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void releasePooled(final BufferRecycler pooled)
+	{
+		getPool().releasePooled(pooled);
+	}
+
+	private RecyclerPool<BufferRecycler> getPool()
+	{
+		return RecyclerPoolStrategy.forCurrentThread().newRecyclerPool();
+	}
+
+	/**
+	 * Resolves the shared instance on deserialization
+	 *
+	 * @return the shared instance
+	 */
+	private Object readResolve()
+	{
+		return INSTANCE;
+	}
+
+}
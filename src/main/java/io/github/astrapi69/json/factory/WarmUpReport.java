@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * The class {@link WarmUpReport} is an immutable report of a warm-up that holds how long the
+ * resolution of the serializers and deserializers took per type
+ */
+public final class WarmUpReport
+{
+
+	/** The durations of the warmed up types in the order of the given types */
+	private final Map<JavaType, Duration> durations;
+
+	/** The types that could not be resolved or warmed up */
+	private final List<String> skippedTypes;
+
+	/** The wall clock duration of the whole warm-up */
+	private final Duration totalDuration;
+
+	/**
+	 * Instantiates a new {@link WarmUpReport}
+	 *
+	 * @param durations
+	 *            the durations of the warmed up types
+	 * @param skippedTypes
+	 *            the types that could not be resolved or warmed up
+	 * @param totalDuration
+	 *            the wall clock duration of the whole warm-up
+	 */
+	WarmUpReport(final Map<JavaType, Duration> durations, final List<String> skippedTypes,
+		final Duration totalDuration)
+	{
+		this.durations = Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+		this.skippedTypes = List.copyOf(skippedTypes);
+		this.totalDuration = totalDuration;
+	}
+
+	/**
+	 * Gets the durations of the warmed up types in the order of the given types
+	 *
+	 * @return the durations of the warmed up types
+	 */
+	public Map<JavaType, Duration> getDurations()
+	{
+		return durations;
+	}
+
+	/**
+	 * Gets the canonical names of the types that could not be resolved or warmed up
+	 *
+	 * @return the skipped types
+	 */
+	public List<String> getSkippedTypes()
+	{
+		return skippedTypes;
+	}
+
+	/**
+	 * Gets the wall clock duration of the whole warm-up. On a parallel warm-up this is less than
+	 * the sum of the durations per type
+	 *
+	 * @return the total duration
+	 */
+	public Duration getTotalDuration()
+	{
+		return totalDuration;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "WarmUpReport{" + "warmedUp=" + durations.size() + ", skipped="
+			+ skippedTypes.size() + ", totalDuration=" + totalDuration + '}';
+	}
+
+}
@@ -58,8 +58,7 @@ public final class ObjectToYamlExtensions
 	public static <T> String toYaml(final List<T> list) throws IOException
 	{
 		Objects.requireNonNull(list);
-		final YAMLMapper mapper = YAMLMapperFactory.newYAMLMapper();
-		return toYaml(list, mapper);
+		return YAMLMapperFactory.getObjectWriter(list.getClass()).writeValueAsString(list);
 	}
 
 	/**
@@ -112,8 +111,8 @@ public final class ObjectToYamlExtensions
 	 *            the object
 	 * @param newMapper
 	 *            flag that indicates if a new ObjectMapper should be created. if true a new
-	 *            ObjectMapper will be created otherwise the ObjectMapper from this class will be
-	 *            returned.
+	 *            ObjectMapper will be created otherwise the cached writer of the default
+	 *            ObjectMapper will be taken.
 	 * @return the string
 	 * @throws JsonProcessingException
 	 *             If an error occurs when converting object to String
@@ -122,8 +121,11 @@ public final class ObjectToYamlExtensions
 		throws JsonProcessingException
 	{
 		Objects.requireNonNull(object);
-		final YAMLMapper mapper = YAMLMapperFactory.newYAMLMapper(newMapper);
-		return toYaml(object, mapper);
+		if (newMapper)
+		{
+			return toYaml(object, YAMLMapperFactory.newYAMLMapper(true));
+		}
+		return YAMLMapperFactory.getObjectWriter(object.getClass()).writeValueAsString(object);
 	}
 
 	/**
@@ -72,8 +72,8 @@ public final class ObjectToYamlFileExtensions
 	 *            the result file
 	 * @param newMapper
 	 *            flag that indicates if a new ObjectMapper should be created. if true a new
-	 *            ObjectMapper will be created otherwise the ObjectMapper from this class will be
-	 *            returned.
+	 *            ObjectMapper will be created otherwise the cached writer of the default
+	 *            ObjectMapper will be taken.
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
@@ -82,8 +82,12 @@ public final class ObjectToYamlFileExtensions
 	{
 		Objects.requireNonNull(object);
 		Objects.requireNonNull(resultFile);
-		final YAMLMapper mapper = YAMLMapperFactory.newYAMLMapper(newMapper);
-		toYamlFile(object, resultFile, mapper);
+		if (newMapper)
+		{
+			toYamlFile(object, resultFile, YAMLMapperFactory.newYAMLMapper(true));
+			return;
+		}
+		YAMLMapperFactory.getObjectWriter(object.getClass()).writeValue(resultFile, object);
 	}
 
 	/**
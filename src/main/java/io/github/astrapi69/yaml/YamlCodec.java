@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.yaml;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+import io.github.astrapi69.json.JsonCodec;
+
+/**
+ * The class {@link YamlCodec} pins a resolved {@link ObjectReader} and {@link ObjectWriter} of a
+ * {@link YAMLMapper} for one type, so a read or a write of a yaml document costs only the parsing
+ * and the binding of the value. The stream methods close the given streams like the ones of
+ * {@link JsonCodec}
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class YamlCodec<T> extends JsonCodec<T>
+{
+
+	/**
+	 * Instantiates a new {@link YamlCodec} object for the given type with the reader and the
+	 * writer of the given {@link YAMLMapper}
+	 *
+	 * @param yamlMapper
+	 *            the yaml mapper
+	 * @param javaType
+	 *            the type of the values
+	 */
+	public YamlCodec(final YAMLMapper yamlMapper, final JavaType javaType)
+	{
+		super(yamlMapper, javaType);
+	}
+
+	/**
+	 * Instantiates a new {@link YamlCodec} object for the given type with the given reader and
+	 * writer of a {@link YAMLMapper}
+	 *
+	 * @param javaType
+	 *            the type of the values
+	 * @param objectReader
+	 *            the reader for the type
+	 * @param objectWriter
+	 *            the writer for the type
+	 */
+	public YamlCodec(final JavaType javaType, final ObjectReader objectReader,
+		final ObjectWriter objectWriter)
+	{
+		super(javaType, objectReader, objectWriter);
+	}
+
+}
@@ -25,15 +25,28 @@
 package io.github.astrapi69.yaml;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
+import io.github.astrapi69.json.CompactStringDoubleMap;
+import io.github.astrapi69.json.CompactStringLongMap;
+import io.github.astrapi69.json.CompactStringMap;
+import io.github.astrapi69.json.MappingIteratorExtensions;
+import io.github.astrapi69.json.factory.JavaTypeFactory;
 import io.github.astrapi69.yaml.factory.YAMLMapperFactory;
 
 /**
@@ -66,7 +79,7 @@ public final class YamlFileToObjectExtensions
 	{
 		Objects.requireNonNull(yamlFile);
 		Objects.requireNonNull(typeReference);
-		return toMapObject(yamlFile, typeReference, YAMLMapperFactory.newYAMLMapper());
+		return YAMLMapperFactory.getObjectReader(typeReference).readValue(yamlFile);
 	}
 
 	/**
@@ -95,6 +108,76 @@ public final class YamlFileToObjectExtensions
 		return mapper.readValue(yamlFile, typeReference);
 	}
 
+	/**
+	 * Transforms the given yaml file into a compact immutable java map object that is read in one
+	 * streaming pass. The map holds no entry objects and keeps the order of the yaml object
+	 *
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlFile
+	 *            the yaml file
+	 * @param valueClass
+	 *            the class of the values
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <V> CompactStringMap<V> toCompactMapObject(final File yamlFile,
+		final Class<V> valueClass) throws IOException
+	{
+		Objects.requireNonNull(yamlFile);
+		Objects.requireNonNull(valueClass);
+		final ObjectReader valueReader = YAMLMapperFactory.getObjectReader(valueClass);
+		try (JsonParser parser = valueReader.createParser(yamlFile))
+		{
+			return CompactStringMap.read(parser, valueReader);
+		}
+	}
+
+	/**
+	 * Transforms the given yaml file into a compact immutable java map object with primitive long
+	 * values that is read in one streaming pass. The map holds no entry objects and no boxed values
+	 * and keeps the order of the yaml object
+	 *
+	 * @param yamlFile
+	 *            the yaml file
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             integer numbers as values
+	 */
+	public static CompactStringLongMap toCompactLongMapObject(final File yamlFile)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlFile);
+		try (JsonParser parser = YAMLMapperFactory.newYAMLMapper().createParser(yamlFile))
+		{
+			return CompactStringLongMap.read(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given yaml file into a compact immutable java map object with primitive double
+	 * values that is read in one streaming pass. The map holds no entry objects and no boxed values
+	 * and keeps the order of the yaml object
+	 *
+	 * @param yamlFile
+	 *            the yaml file
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             numbers as values
+	 */
+	public static CompactStringDoubleMap toCompactDoubleMapObject(final File yamlFile)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlFile);
+		try (JsonParser parser = YAMLMapperFactory.newYAMLMapper().createParser(yamlFile))
+		{
+			return CompactStringDoubleMap.read(parser);
+		}
+	}
+
 	/**
 	 * Transforms the given yaml file into a java object.
 	 *
@@ -110,7 +193,9 @@ public final class YamlFileToObjectExtensions
 	 */
 	public static <T> T toObject(final File yamlFile, final Class<T> clazz) throws IOException
 	{
-		return toObject(yamlFile, clazz, YAMLMapperFactory.newYAMLMapper());
+		Objects.requireNonNull(yamlFile);
+		Objects.requireNonNull(clazz);
+		return YAMLMapperFactory.getObjectReader(clazz).readValue(yamlFile);
 	}
 
 	/**
@@ -183,9 +268,11 @@ public final class YamlFileToObjectExtensions
 		Objects.requireNonNull(yamlFile);
 		Objects.requireNonNull(collectionClass);
 		Objects.requireNonNull(elementClass);
-		final ObjectMapper mapper = YAMLMapperFactory.newYAMLMapper();
-		return mapper.readValue(yamlFile,
-			mapper.getTypeFactory().constructCollectionType(collectionClass, elementClass));
+		final ObjectMapper mapper = YAMLMapperFactory.newYAMLMapper(false);
+		return YAMLMapperFactory
+			.getObjectReader(
+				JavaTypeFactory.newCollectionType(mapper, collectionClass, elementClass))
+			.readValue(yamlFile);
 	}
 
 	/**
@@ -209,4 +296,133 @@ public final class YamlFileToObjectExtensions
 		return (List<T>)toObjectCollection(yamlFile, List.class, elementClass);
 	}
 
+	/**
+	 * Creates a lazy iterator that reads one java object per document of the given yaml input
+	 * stream. The documents are read with one parser and the cached reader of the given class, so
+	 * only the current document is held in memory. The returned iterator must be closed, this
+	 * closes the input stream
+	 *
+	 * @param <T>
+	 *            the generic type of the documents
+	 * @param inputStream
+	 *            the input stream with the yaml documents
+	 * @param elementClass
+	 *            the class of the documents
+	 * @return the lazy {@link MappingIterator}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> MappingIterator<T> toObjectIterator(final InputStream inputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(inputStream);
+		Objects.requireNonNull(elementClass);
+		// a first document that is a sequence is not unwrapped, so every document is one value
+		return MappingIteratorExtensions
+			.newRootValueIterator(YAMLMapperFactory.getObjectReader(elementClass), inputStream);
+	}
+
+	/**
+	 * Creates a lazy iterator that reads one java object per document of the given yaml file. The
+	 * returned iterator must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the documents
+	 * @param yamlFile
+	 *            the yaml file
+	 * @param elementClass
+	 *            the class of the documents
+	 * @return the lazy {@link MappingIterator}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> MappingIterator<T> toObjectIterator(final File yamlFile,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(yamlFile);
+		Objects.requireNonNull(elementClass);
+		final InputStream inputStream = new FileInputStream(yamlFile);
+		try
+		{
+			return toObjectIterator(inputStream, elementClass);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			inputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates a lazy stream that reads one java object per document of the given yaml input
+	 * stream, the documents are separated with '---'. The returned stream must be closed, this
+	 * closes the input stream
+	 *
+	 * @param <T>
+	 *            the generic type of the documents
+	 * @param inputStream
+	 *            the input stream with the yaml documents
+	 * @param elementClass
+	 *            the class of the documents
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final InputStream inputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		return MappingIteratorExtensions.toStream(toObjectIterator(inputStream, elementClass));
+	}
+
+	/**
+	 * Creates a lazy stream that reads one java object per document of the given yaml file, the
+	 * documents are separated with '---'. The returned stream must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the documents
+	 * @param yamlFile
+	 *            the yaml file
+	 * @param elementClass
+	 *            the class of the documents
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final File yamlFile, final Class<T> elementClass)
+		throws IOException
+	{
+		return MappingIteratorExtensions.toStream(toObjectIterator(yamlFile, elementClass));
+	}
+
+	/**
+	 * Creates a lazy stream that reads one java object per document of the given yaml file, the
+	 * documents are separated with '---'. The returned stream must be closed
+	 *
+	 * @param <T>
+	 *            the generic type of the documents
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param elementClass
+	 *            the class of the documents
+	 * @return the lazy {@link Stream}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> Stream<T> streamObjects(final Path yamlPath, final Class<T> elementClass)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(elementClass);
+		final InputStream inputStream = Files.newInputStream(yamlPath);
+		try
+		{
+			return streamObjects(inputStream, elementClass);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			inputStream.close();
+			throw e;
+		}
+	}
+
 }
@@ -25,15 +25,28 @@
 package io.github.astrapi69.yaml;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+import io.github.astrapi69.json.BatchResult;
+import io.github.astrapi69.json.CompactStringDoubleMap;
+import io.github.astrapi69.json.CompactStringLongMap;
+import io.github.astrapi69.json.CompactStringMap;
+import io.github.astrapi69.json.JsonStringToObjectExtensions;
+import io.github.astrapi69.json.factory.JavaTypeFactory;
 import io.github.astrapi69.yaml.factory.YAMLMapperFactory;
 
 /**
@@ -67,7 +80,7 @@ public final class YamlStringToObjectExtensions
 	{
 		Objects.requireNonNull(yamlString);
 		Objects.requireNonNull(typeReference);
-		return toMapObject(yamlString, typeReference, YAMLMapperFactory.newYAMLMapper());
+		return YAMLMapperFactory.getObjectReader(typeReference).readValue(yamlString);
 	}
 
 	/**
@@ -96,6 +109,76 @@ public final class YamlStringToObjectExtensions
 		return mapper.readValue(yamlString, typeReference);
 	}
 
+	/**
+	 * Transforms the given yaml string into a compact immutable java map object that is read in one
+	 * streaming pass. The map holds no entry objects and keeps the order of the yaml object
+	 *
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlString
+	 *            the yaml string
+	 * @param valueClass
+	 *            the class of the values
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <V> CompactStringMap<V> toCompactMapObject(final String yamlString,
+		final Class<V> valueClass) throws IOException
+	{
+		Objects.requireNonNull(yamlString);
+		Objects.requireNonNull(valueClass);
+		final ObjectReader valueReader = YAMLMapperFactory.getObjectReader(valueClass);
+		try (JsonParser parser = valueReader.createParser(yamlString))
+		{
+			return CompactStringMap.read(parser, valueReader);
+		}
+	}
+
+	/**
+	 * Transforms the given yaml string into a compact immutable java map object with primitive long
+	 * values that is read in one streaming pass. The map holds no entry objects and no boxed values
+	 * and keeps the order of the yaml object
+	 *
+	 * @param yamlString
+	 *            the yaml string
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             integer numbers as values
+	 */
+	public static CompactStringLongMap toCompactLongMapObject(final String yamlString)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlString);
+		try (JsonParser parser = YAMLMapperFactory.newYAMLMapper().createParser(yamlString))
+		{
+			return CompactStringLongMap.read(parser);
+		}
+	}
+
+	/**
+	 * Transforms the given yaml string into a compact immutable java map object with primitive
+	 * double values that is read in one streaming pass. The map holds no entry objects and no boxed
+	 * values and keeps the order of the yaml object
+	 *
+	 * @param yamlString
+	 *            the yaml string
+	 * @return the compact map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the content is no object with
+	 *             numbers as values
+	 */
+	public static CompactStringDoubleMap toCompactDoubleMapObject(final String yamlString)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlString);
+		try (JsonParser parser = YAMLMapperFactory.newYAMLMapper().createParser(yamlString))
+		{
+			return CompactStringDoubleMap.read(parser);
+		}
+	}
+
 	/**
 	 * Transforms the given yaml string into a java object.
 	 *
@@ -127,8 +210,8 @@ public final class YamlStringToObjectExtensions
 	 *            the clazz of the generic type
 	 * @param newMapper
 	 *            flag that indicates if a new ObjectMapper should be created. if true a new
-	 *            ObjectMapper will be created otherwise the ObjectMapper from this class will be
-	 *            returned.
+	 *            ObjectMapper will be created otherwise the cached reader of the default
+	 *            ObjectMapper will be taken.
 	 * @return the object
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
@@ -138,8 +221,11 @@ public final class YamlStringToObjectExtensions
 	{
 		Objects.requireNonNull(yamlString);
 		Objects.requireNonNull(clazz);
-		final ObjectMapper mapper = YAMLMapperFactory.newYAMLMapper();
-		return toObject(yamlString, clazz, mapper);
+		if (newMapper)
+		{
+			return toObject(yamlString, clazz, YAMLMapperFactory.newYAMLMapper(true));
+		}
+		return YAMLMapperFactory.getObjectReader(clazz).readValue(yamlString);
 	}
 
 	/**
@@ -152,7 +238,8 @@ public final class YamlStringToObjectExtensions
 	 * @param clazz
 	 *            the clazz of the generic type
 	 * @param modules
-	 *            The modules to register for the mapper
+	 *            The modules to register for the mapper, the mapper is shared between all calls
+	 *            with the same module instances
 	 * @return the object
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
@@ -162,9 +249,7 @@ public final class YamlStringToObjectExtensions
 	{
 		Objects.requireNonNull(yamlString);
 		Objects.requireNonNull(clazz);
-		ObjectMapper mapper = YAMLMapperFactory.newYAMLMapper();
-		mapper = mapper.registerModules(modules);
-		return toObject(yamlString, clazz, mapper);
+		return toObject(yamlString, clazz, YAMLMapperFactory.getYAMLMapper(modules));
 	}
 
 	/**
@@ -237,9 +322,11 @@ public final class YamlStringToObjectExtensions
 		Objects.requireNonNull(yamlString);
 		Objects.requireNonNull(collectionClass);
 		Objects.requireNonNull(elementClass);
-		final ObjectMapper mapper = YAMLMapperFactory.newYAMLMapper();
-		return mapper.readValue(yamlString,
-			mapper.getTypeFactory().constructCollectionType(collectionClass, elementClass));
+		final ObjectMapper mapper = YAMLMapperFactory.newYAMLMapper(false);
+		return YAMLMapperFactory
+			.getObjectReader(
+				JavaTypeFactory.newCollectionType(mapper, collectionClass, elementClass))
+			.readValue(yamlString);
 	}
 
 	/**
@@ -263,4 +350,798 @@ public final class YamlStringToObjectExtensions
 		return (List<T>)toObjectCollection(yamlString, List.class, elementClass);
 	}
 
+	/**
+	 * Transforms the given yaml bytes into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final byte[] yamlBytes,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final byte[] yamlBytes,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] yamlBytes, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(clazz);
+		return readValue(objectReader, yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] yamlBytes, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] yamlBytes,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final byte[] yamlBytes,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml content as utf-8 bytes
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final byte[] yamlBytes,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(
+			JavaTypeFactory.newCollectionType(YAMLMapperFactory.newYAMLMapper(false), List.class,
+				elementClass));
+		return readValue(objectReader, yamlBytes);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final ByteBuffer yamlBuffer,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final ByteBuffer yamlBuffer,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer yamlBuffer, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(clazz);
+		return readValue(objectReader, yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer yamlBuffer, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer yamlBuffer,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final ByteBuffer yamlBuffer,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml byte buffer into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBuffer
+	 *            the byte buffer with the yaml content as utf-8 bytes, the position of the
+	 *            buffer is not changed
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final ByteBuffer yamlBuffer,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(yamlBuffer);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(
+			JavaTypeFactory.newCollectionType(YAMLMapperFactory.newYAMLMapper(false), List.class,
+				elementClass));
+		return readValue(objectReader, yamlBuffer);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final InputStream yamlInputStream,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final InputStream yamlInputStream,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream yamlInputStream, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(clazz);
+		return readValue(objectReader, yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream yamlInputStream, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream yamlInputStream,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final InputStream yamlInputStream,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml input stream into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlInputStream
+	 *            the input stream with the yaml content, the input stream is closed after reading
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final InputStream yamlInputStream,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(yamlInputStream);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(
+			JavaTypeFactory.newCollectionType(YAMLMapperFactory.newYAMLMapper(false), List.class,
+				elementClass));
+		return readValue(objectReader, yamlInputStream);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param typeReference
+	 *            the type reference
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final Path yamlPath,
+		final TypeReference<Map<K, V>> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java map object
+	 *
+	 * @param <K>
+	 *            the generic type of keys
+	 * @param <V>
+	 *            the generic type of values
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the map
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <K, V> Map<K, V> toMapObject(final Path yamlPath,
+		final TypeReference<Map<K, V>> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path yamlPath, final Class<T> clazz)
+		throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(clazz);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(clazz);
+		return readValue(objectReader, yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path yamlPath, final Class<T> clazz,
+		final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(clazz);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(clazz), yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param typeReference
+	 *            the type reference
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path yamlPath,
+		final TypeReference<T> typeReference) throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(typeReference);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(typeReference);
+		return readValue(objectReader, yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java object
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param typeReference
+	 *            the type reference
+	 * @param mapper
+	 *            the mapper
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> T toObject(final Path yamlPath,
+		final TypeReference<T> typeReference, final ObjectMapper mapper) throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(typeReference);
+		Objects.requireNonNull(mapper);
+		return readValue(mapper.readerFor(typeReference), yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml file into a java object {@link List}
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlPath
+	 *            the path of the yaml file
+	 * @param elementClass
+	 *            the element class of the generic type
+	 * @return the list with the java objects
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> List<T> toObjectList(final Path yamlPath,
+		final Class<T> elementClass) throws IOException
+	{
+		Objects.requireNonNull(yamlPath);
+		Objects.requireNonNull(elementClass);
+		final ObjectReader objectReader = YAMLMapperFactory.getObjectReader(
+			JavaTypeFactory.newCollectionType(YAMLMapperFactory.newYAMLMapper(false), List.class,
+				elementClass));
+		return readValue(objectReader, yamlPath);
+	}
+
+	/**
+	 * Transforms the given yaml strings into java objects. The reader is resolved once for the
+	 * whole batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlStrings
+	 *            the yaml strings
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjects(final Collection<String> yamlStrings,
+		final Class<T> clazz)
+	{
+		return toObjects(yamlStrings, clazz, false);
+	}
+
+	/**
+	 * Transforms the given yaml strings into java objects. The reader is resolved once for the
+	 * whole batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlStrings
+	 *            the yaml strings
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param parallel
+	 *            flag that indicates if the elements should be deserialized in parallel on the
+	 *            common fork join pool
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjects(final Collection<String> yamlStrings,
+		final Class<T> clazz, final boolean parallel)
+	{
+		Objects.requireNonNull(yamlStrings);
+		Objects.requireNonNull(clazz);
+		return JsonStringToObjectExtensions.toObjects(yamlStrings,
+			YAMLMapperFactory.getObjectReader(clazz), parallel);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into java objects. The reader is resolved once for the whole
+	 * batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml contents as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjectsFromBytes(final Collection<byte[]> yamlBytes,
+		final Class<T> clazz)
+	{
+		return toObjectsFromBytes(yamlBytes, clazz, false);
+	}
+
+	/**
+	 * Transforms the given yaml bytes into java objects. The reader is resolved once for the whole
+	 * batch and an element that can not be deserialized is recorded as a failure on its index
+	 * instead of aborting the batch
+	 *
+	 * @param <T>
+	 *            the generic type of the return type
+	 * @param yamlBytes
+	 *            the yaml contents as utf-8 bytes
+	 * @param clazz
+	 *            the clazz of the generic type
+	 * @param parallel
+	 *            flag that indicates if the elements should be deserialized in parallel on the
+	 *            common fork join pool
+	 * @return the batch result with the java objects and the failures
+	 */
+	public static <T> BatchResult<T> toObjectsFromBytes(final Collection<byte[]> yamlBytes,
+		final Class<T> clazz, final boolean parallel)
+	{
+		Objects.requireNonNull(yamlBytes);
+		Objects.requireNonNull(clazz);
+		return JsonStringToObjectExtensions.toObjectsFromBytes(yamlBytes,
+			YAMLMapperFactory.getObjectReader(clazz), parallel);
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader, final byte[] bytes)
+		throws IOException
+	{
+		return objectReader.readValue(bytes);
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader, final ByteBuffer buffer)
+		throws IOException
+	{
+		if (buffer.hasArray())
+		{
+			return objectReader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+				buffer.remaining());
+		}
+		return objectReader.readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader,
+		final InputStream inputStream) throws IOException
+	{
+		try (InputStream source = inputStream)
+		{
+			return objectReader.readValue(source);
+		}
+	}
+
+	private static <T> T readValue(final ObjectReader objectReader, final Path path)
+		throws IOException
+	{
+		try (InputStream inputStream = Files.newInputStream(path))
+		{
+			return objectReader.readValue(inputStream);
+		}
+	}
+
 }
@@ -29,9 +29,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
 import io.github.astrapi69.json.factory.ObjectMapperFactory;
 import io.github.astrapi69.yaml.factory.YAMLMapperFactory;
@@ -42,6 +41,14 @@ import io.github.astrapi69.yaml.factory.YAMLMapperFactory;
 public final class YamlToJsonExtensions
 {
 
+	/** The writer for compact json output */
+	private static final ObjectWriter COMPACT_WRITER = ObjectMapperFactory.newObjectMapper()
+		.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+	/** The writer for pretty formatted json output */
+	private static final ObjectWriter PRETTY_WRITER = COMPACT_WRITER
+		.with(SerializationFeature.INDENT_OUTPUT);
+
 	private YamlToJsonExtensions()
 	{
 	}
@@ -74,14 +81,8 @@ public final class YamlToJsonExtensions
 	public static String toJson(final String yamlString, boolean prettyPrint)
 		throws JsonProcessingException
 	{
-		final YAMLMapper yamlMapper = YAMLMapperFactory.newYAMLMapper();
-		Object value = yamlMapper.readValue(yamlString, Object.class);
-		final ObjectMapper objectMapper = ObjectMapperFactory.newObjectMapper();
-		if (prettyPrint)
-		{
-			objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-		}
-		return objectMapper.writeValueAsString(value);
+		Object value = YAMLMapperFactory.getObjectReader(Object.class).readValue(yamlString);
+		return getJsonWriter(prettyPrint).writeValueAsString(value);
 	}
 
 
@@ -112,14 +113,8 @@ public final class YamlToJsonExtensions
 	 */
 	public static String toJson(final File yamlFile, boolean prettyPrint) throws IOException
 	{
-		final YAMLMapper yamlMapper = YAMLMapperFactory.newYAMLMapper();
-		Object value = yamlMapper.readValue(yamlFile, Object.class);
-		final ObjectMapper objectMapper = ObjectMapperFactory.newObjectMapper();
-		if (prettyPrint)
-		{
-			objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-		}
-		return objectMapper.writeValueAsString(value);
+		Object value = YAMLMapperFactory.getObjectReader(Object.class).readValue(yamlFile);
+		return getJsonWriter(prettyPrint).writeValueAsString(value);
 	}
 
 	/**
@@ -148,4 +143,9 @@ public final class YamlToJsonExtensions
 		}
 	}
 
+	private static ObjectWriter getJsonWriter(final boolean prettyPrint)
+	{
+		return prettyPrint ? PRETTY_WRITER : COMPACT_WRITER;
+	}
+
 }
@@ -24,9 +24,31 @@
  */
 package io.github.astrapi69.yaml.factory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
+import io.github.astrapi69.json.factory.BoundedConcurrentCache;
+import io.github.astrapi69.json.factory.CacheStatistics;
+import io.github.astrapi69.json.factory.MapperWarmUp;
+import io.github.astrapi69.json.factory.ModulesKey;
+import io.github.astrapi69.json.factory.RecyclerPoolStrategy;
+import io.github.astrapi69.json.factory.StringInternTable;
+import io.github.astrapi69.json.factory.TypeRecorder;
+import io.github.astrapi69.json.factory.WarmUpReport;
+import io.github.astrapi69.yaml.YamlCodec;
+
 /**
  * The factory class {@link YAMLMapperFactory} for creating {@link YAMLMapper} objects
  */
@@ -46,8 +68,30 @@ public final class YAMLMapperFactory
 		return newYAMLMapper(true);
 	}
 
+	/** The initially disabled recorder of the bean types of the default {@link YAMLMapper} */
+	private static final TypeRecorder TYPE_RECORDER = new TypeRecorder(false,
+		TypeRecorder.DEFAULT_MAX_SIZE);
+
 	/** The constant mapper. */
-	private final static YAMLMapper YAML_MAPPER = newYAMLMapper(true);
+	private final static YAMLMapper YAML_MAPPER = (YAMLMapper)newYAMLMapper(
+		RecyclerPoolStrategy.VIRTUAL_THREAD_AWARE).registerModule(TYPE_RECORDER.newModule());
+
+	/** The cache for the {@link ObjectReader} objects of the constant mapper */
+	private static final BoundedConcurrentCache<JavaType, ObjectReader> READER_CACHE = new BoundedConcurrentCache<>();
+
+	/** The cache for the {@link ObjectWriter} objects of the constant mapper */
+	private static final BoundedConcurrentCache<JavaType, ObjectWriter> WRITER_CACHE = new BoundedConcurrentCache<>();
+
+	/** The cache for the shared {@link YAMLMapper} objects keyed by their recycler pool strategy */
+	private static final BoundedConcurrentCache<RecyclerPoolStrategy, YAMLMapper> STRATEGY_MAPPER_CACHE = new BoundedConcurrentCache<>(
+		RecyclerPoolStrategy.values().length);
+
+	/** The cache for the {@link YamlCodec} objects of the default {@link YAMLMapper} */
+	private static final BoundedConcurrentCache<JavaType, YamlCodec<?>> CODEC_CACHE = new BoundedConcurrentCache<>();
+
+	/** The cache for the shared {@link YAMLMapper} objects keyed by their registered modules */
+	private static final BoundedConcurrentCache<ModulesKey, YAMLMapper> MODULE_MAPPER_CACHE = new BoundedConcurrentCache<>(
+		64);
 
 	/**
 	 * Factory method for create a new {@link YAMLMapper}. If the given flag is true a new
@@ -81,6 +125,48 @@ public final class YAMLMapperFactory
 		return new YAMLMapper(yamlFactory);
 	}
 
+	/**
+	 * Factory method for create a new {@link YAMLFactory} that recycles its buffers with the pool
+	 * of the given {@link RecyclerPoolStrategy}
+	 *
+	 * @param recyclerPoolStrategy
+	 *            the recycler pool strategy
+	 * @return the new {@link YAMLFactory}
+	 */
+	public static YAMLFactory newYAMLFactory(final RecyclerPoolStrategy recyclerPoolStrategy)
+	{
+		Objects.requireNonNull(recyclerPoolStrategy);
+		return YAMLFactory.builder().recyclerPool(recyclerPoolStrategy.newRecyclerPool()).build();
+	}
+
+	/**
+	 * Factory method for create a new {@link YAMLMapper} that recycles its buffers with the pool
+	 * of the given {@link RecyclerPoolStrategy}
+	 *
+	 * @param recyclerPoolStrategy
+	 *            the recycler pool strategy
+	 * @return the new {@link YAMLMapper}
+	 */
+	public static YAMLMapper newYAMLMapper(final RecyclerPoolStrategy recyclerPoolStrategy)
+	{
+		return newYAMLMapper(newYAMLFactory(recyclerPoolStrategy));
+	}
+
+	/**
+	 * Gets the shared {@link YAMLMapper} that recycles its buffers with the pool of the given
+	 * {@link RecyclerPoolStrategy}. <br>
+	 * Note: the returned {@link YAMLMapper} is shared and must not be reconfigured
+	 *
+	 * @param recyclerPoolStrategy
+	 *            the recycler pool strategy
+	 * @return the shared {@link YAMLMapper}
+	 */
+	public static YAMLMapper getYAMLMapper(final RecyclerPoolStrategy recyclerPoolStrategy)
+	{
+		Objects.requireNonNull(recyclerPoolStrategy);
+		return STRATEGY_MAPPER_CACHE.get(recyclerPoolStrategy, YAMLMapperFactory::newYAMLMapper);
+	}
+
 	/**
 	 * Factory method for create a new {@link YAMLMapper}
 	 *
@@ -94,5 +180,267 @@ public final class YAMLMapperFactory
 		return new YAMLMapper(yamlMapper);
 	}
 
+	/**
+	 * Factory method for create a new {@link YAMLMapper} that deduplicates the deserialized strings
+	 * with the given {@link StringInternTable}. This covers string values, string map keys, the
+	 * values of text nodes and the field names of object nodes
+	 *
+	 * @param internTable
+	 *            the intern table
+	 * @return the new {@link YAMLMapper}
+	 */
+	public static YAMLMapper newYAMLMapper(final StringInternTable internTable)
+	{
+		Objects.requireNonNull(internTable);
+		final YAMLMapper yamlMapper = newYAMLMapper(true);
+		yamlMapper.registerModule(internTable.newModule());
+		yamlMapper.setNodeFactory(internTable.newJsonNodeFactory());
+		return yamlMapper;
+	}
+
+	/**
+	 * Gets the cached {@link ObjectReader} of the default {@link YAMLMapper} for the given class
+	 *
+	 * @param valueType
+	 *            the class of the values to read
+	 * @return the cached {@link ObjectReader}
+	 */
+	public static ObjectReader getObjectReader(final Class<?> valueType)
+	{
+		return getObjectReader(YAML_MAPPER.constructType(valueType));
+	}
+
+	/**
+	 * Gets the cached {@link ObjectReader} of the default {@link YAMLMapper} for the given type
+	 * reference
+	 *
+	 * @param typeReference
+	 *            the type reference of the values to read
+	 * @return the cached {@link ObjectReader}
+	 */
+	public static ObjectReader getObjectReader(final TypeReference<?> typeReference)
+	{
+		return getObjectReader(YAML_MAPPER.constructType(typeReference));
+	}
+
+	/**
+	 * Gets the cached {@link ObjectReader} of the default {@link YAMLMapper} for the given
+	 * {@link JavaType}
+	 *
+	 * @param javaType
+	 *            the type of the values to read
+	 * @return the cached {@link ObjectReader}
+	 */
+	public static ObjectReader getObjectReader(final JavaType javaType)
+	{
+		return READER_CACHE.get(javaType, YAML_MAPPER::readerFor);
+	}
+
+	/**
+	 * Gets the cached {@link ObjectWriter} of the default {@link YAMLMapper} for the given class
+	 *
+	 * @param valueType
+	 *            the class of the values to write
+	 * @return the cached {@link ObjectWriter}
+	 */
+	public static ObjectWriter getObjectWriter(final Class<?> valueType)
+	{
+		return getObjectWriter(YAML_MAPPER.constructType(valueType));
+	}
+
+	/**
+	 * Gets the cached {@link ObjectWriter} of the default {@link YAMLMapper} for the given
+	 * {@link JavaType}
+	 *
+	 * @param javaType
+	 *            the type of the values to write
+	 * @return the cached {@link ObjectWriter}
+	 */
+	public static ObjectWriter getObjectWriter(final JavaType javaType)
+	{
+		return WRITER_CACHE.get(javaType, YAML_MAPPER::writerFor);
+	}
+
+	/**
+	 * Gets the shared {@link YAMLMapper} with the given registered modules. Modules are identified
+	 * by their instance and not by their {@link Module#getTypeId()}, because modules with the same
+	 * name can hold different serializers and deserializers. So the first call for a distinct list
+	 * of module instances creates the {@link YAMLMapper} and all following calls with the same
+	 * module instances return the same instance. Callers that create new modules on every call
+	 * should keep the module instances for reuse. <br>
+	 * Note: the returned {@link YAMLMapper} is shared and must not be reconfigured
+	 *
+	 * @param modules
+	 *            the modules to register
+	 * @return the shared {@link YAMLMapper}
+	 */
+	public static YAMLMapper getYAMLMapper(final Module... modules)
+	{
+		Objects.requireNonNull(modules);
+		return MODULE_MAPPER_CACHE.get(new ModulesKey(modules),
+			k -> (YAMLMapper)newYAMLMapper(true).registerModules(modules));
+	}
+
+	/**
+	 * Gets the cached {@link YamlCodec} of the default {@link YAMLMapper} for the given class
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param valueType
+	 *            the class of the values
+	 * @return the cached {@link YamlCodec}
+	 */
+	public static <T> YamlCodec<T> getYamlCodec(final Class<T> valueType)
+	{
+		return getYamlCodec(YAML_MAPPER.constructType(valueType));
+	}
+
+	/**
+	 * Gets the cached {@link YamlCodec} of the default {@link YAMLMapper} for the given type
+	 * reference
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param typeReference
+	 *            the type reference of the values
+	 * @return the cached {@link YamlCodec}
+	 */
+	public static <T> YamlCodec<T> getYamlCodec(final TypeReference<T> typeReference)
+	{
+		return getYamlCodec(YAML_MAPPER.constructType(typeReference));
+	}
+
+	/**
+	 * Gets the cached {@link YamlCodec} of the default {@link YAMLMapper} for the given
+	 * {@link JavaType}
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param javaType
+	 *            the type of the values
+	 * @return the cached {@link YamlCodec}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> YamlCodec<T> getYamlCodec(final JavaType javaType)
+	{
+		Objects.requireNonNull(javaType);
+		return (YamlCodec<T>)CODEC_CACHE.get(javaType,
+			k -> new YamlCodec<>(k, getObjectReader(k), getObjectWriter(k)));
+	}
+
+	/**
+	 * Warms up the given classes in the default {@link YAMLMapper}
+	 *
+	 * @param classes
+	 *            the classes to warm up
+	 * @return the {@link WarmUpReport} object
+	 */
+	public static WarmUpReport warmUp(final Class<?>... classes)
+	{
+		Objects.requireNonNull(classes);
+		final List<JavaType> javaTypes = new ArrayList<>(classes.length);
+		for (final Class<?> clazz : classes)
+		{
+			javaTypes.add(YAML_MAPPER.constructType(clazz));
+		}
+		return warmUp(javaTypes, false);
+	}
+
+	/**
+	 * Warms up the given types in the default {@link YAMLMapper} and fills the caches of the
+	 * readers and writers, so the first read or write of a type does not pay for the
+	 * introspection of the type
+	 *
+	 * @param javaTypes
+	 *            the types to warm up
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 */
+	public static WarmUpReport warmUp(final Collection<JavaType> javaTypes,
+		final boolean parallel)
+	{
+		return MapperWarmUp.warmUp(javaTypes, YAMLMapperFactory::resolve, parallel);
+	}
+
+	/**
+	 * Warms up the types of the given types file in the default {@link YAMLMapper}. The types
+	 * file can be written from the {@link TypeRecorder} of a previous run
+	 *
+	 * @param typesFile
+	 *            the types file
+	 * @param parallel
+	 *            flag that indicates if the types should be warmed up in parallel
+	 * @return the {@link WarmUpReport} object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @see #getTypeRecorder()
+	 */
+	public static WarmUpReport warmUp(final Path typesFile, final boolean parallel)
+		throws IOException
+	{
+		return MapperWarmUp.replay(YAML_MAPPER, typesFile, YAMLMapperFactory::resolve, parallel);
+	}
+
+	/**
+	 * Gets the {@link TypeRecorder} that records the types the default {@link YAMLMapper} has
+	 * built serializers or deserializers for. The recording is disabled by default and is enabled
+	 * with {@link TypeRecorder#setEnabled(boolean)} at startup, before the first read or write,
+	 * because a type is recorded only when its serializer or deserializer is built
+	 *
+	 * @return the {@link TypeRecorder} of the default {@link YAMLMapper}
+	 */
+	public static TypeRecorder getTypeRecorder()
+	{
+		return TYPE_RECORDER;
+	}
+
+	private static void resolve(final JavaType javaType)
+	{
+		MapperWarmUp.resolve(YAML_MAPPER, javaType);
+		getObjectReader(javaType);
+		getObjectWriter(javaType);
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the shared {@link YAMLMapper} objects keyed by
+	 * their registered modules
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getModuleMapperCacheStatistics()
+	{
+		return MODULE_MAPPER_CACHE.getStatistics();
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the {@link ObjectReader} objects
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getObjectReaderCacheStatistics()
+	{
+		return READER_CACHE.getStatistics();
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the {@link ObjectWriter} objects
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getObjectWriterCacheStatistics()
+	{
+		return WRITER_CACHE.getStatistics();
+	}
+
+	/**
+	 * Gets the statistics of the cache that holds the {@link YamlCodec} objects
+	 *
+	 * @return the {@link CacheStatistics} object
+	 */
+	public static CacheStatistics getYamlCodecCacheStatistics()
+	{
+		return CODEC_CACHE.getStatistics();
+	}
 
 }
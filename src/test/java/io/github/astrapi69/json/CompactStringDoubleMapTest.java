@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link CompactStringDoubleMap}
+ */
+public class CompactStringDoubleMapTest
+{
+
+	/**
+	 * Test method for {@link CompactStringDoubleMap#read(JsonParser)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testRead() throws IOException
+	{
+		CompactStringDoubleMap actual;
+		Map<String, Double> expected;
+
+		// new scenario: integer and floating point numbers are read as double values
+		actual = read("{\"x\":1.5,\"y\":2,\"z\":-0.25}");
+		expected = new LinkedHashMap<>();
+		expected.put("x", 1.5d);
+		expected.put("y", 2.0d);
+		expected.put("z", -0.25d);
+		assertEquals(expected, actual);
+		assertEquals(Arrays.asList("x", "y", "z"), new ArrayList<>(actual.keySet()));
+		assertEquals(Double.valueOf(2.0d), actual.get("y"));
+		assertNull(actual.get("w"));
+	}
+
+	/**
+	 * Test method for {@link CompactStringDoubleMap#getDouble(String, double)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testGetDouble() throws IOException
+	{
+		double actual;
+		double expected;
+		CompactStringDoubleMap map;
+
+		map = read("{\"x\":1.5,\"y\":2}");
+		// new scenario: an existing key
+		actual = map.getDouble("x", Double.NaN);
+		expected = 1.5d;
+		assertEquals(expected, actual, 0.0d);
+		// new scenario: a missing key
+		actual = map.getDouble("w", -1.0d);
+		expected = -1.0d;
+		assertEquals(expected, actual, 0.0d);
+	}
+
+	/**
+	 * Test method for {@link CompactStringDoubleMap#read(JsonParser)} with a value that is no
+	 * number
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = JsonParseException.class)
+	public void testReadNoNumber() throws IOException
+	{
+		read("{\"x\":1.5,\"y\":\"2\"}");
+	}
+
+	private static CompactStringDoubleMap read(final String jsonString) throws IOException
+	{
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return CompactStringDoubleMap.read(parser);
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link CompactStringLongMap}
+ */
+public class CompactStringLongMapTest
+{
+
+	/**
+	 * Test method for {@link CompactStringLongMap#read(JsonParser)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testRead() throws IOException
+	{
+		CompactStringLongMap actual;
+		Map<String, Long> expected;
+
+		// new scenario: the iteration order is the order of the json object
+		actual = read("{\"b\":2,\"a\":9007199254740993,\"c\":-3,\"b\":4}");
+		expected = new LinkedHashMap<>();
+		expected.put("b", 4L);
+		expected.put("a", 9007199254740993L);
+		expected.put("c", -3L);
+		assertEquals(expected, actual);
+		assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(actual.keySet()));
+		assertEquals(Long.valueOf(-3L), actual.get("c"));
+		assertNull(actual.get("d"));
+		assertFalse(actual.containsKey("d"));
+	}
+
+	/**
+	 * Test method for {@link CompactStringLongMap#getLong(String, long)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testGetLong() throws IOException
+	{
+		long actual;
+		long expected;
+		CompactStringLongMap map;
+
+		map = read("{\"a\":1,\"b\":2}");
+		// new scenario: an existing key
+		actual = map.getLong("b", -1L);
+		expected = 2L;
+		assertEquals(expected, actual);
+		// new scenario: a missing key
+		actual = map.getLong("c", -1L);
+		expected = -1L;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link CompactStringLongMap#read(JsonParser)} with a value that is no integer
+	 * number
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = JsonParseException.class)
+	public void testReadNoIntegerNumber() throws IOException
+	{
+		read("{\"a\":1,\"b\":1.5}");
+	}
+
+	private static CompactStringLongMap read(final String jsonString) throws IOException
+	{
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return CompactStringLongMap.read(parser);
+		}
+	}
+
+}
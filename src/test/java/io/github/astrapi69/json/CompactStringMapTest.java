@@ -0,0 +1,185 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link CompactStringMap}
+ */
+public class CompactStringMapTest
+{
+
+	/**
+	 * Test method for {@link CompactStringMap#read(JsonParser, ObjectReader)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testRead() throws IOException
+	{
+		CompactStringMap<Integer> actual;
+		Map<String, Integer> expected;
+		ObjectReader valueReader;
+		String jsonString;
+		StringBuilder sb;
+
+		valueReader = ObjectMapperFactory.getJsonCodec(Integer.class).getObjectReader();
+		// new scenario: the iteration order is the order of the json object
+		jsonString = "{\"c\":3,\"a\":1,\"b\":null}";
+		actual = read(jsonString, valueReader);
+		expected = new LinkedHashMap<>();
+		expected.put("c", 3);
+		expected.put("a", 1);
+		expected.put("b", null);
+		assertEquals(expected, actual);
+		assertEquals(expected.hashCode(), actual.hashCode());
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+		assertEquals(Integer.valueOf(1), actual.get("a"));
+		assertNull(actual.get("b"));
+		assertTrue(actual.containsKey("b"));
+		assertFalse(actual.containsKey("d"));
+		assertNull(actual.get("d"));
+		assertNull(actual.get(1));
+		// new scenario: a duplicate key keeps its position and the last value
+		jsonString = "{\"a\":1,\"b\":2,\"a\":3}";
+		actual = read(jsonString, valueReader);
+		assertEquals(2, actual.size());
+		assertEquals(Integer.valueOf(3), actual.get("a"));
+		assertEquals("a", actual.keySet().iterator().next());
+		// new scenario: an empty object
+		actual = read("{}", valueReader);
+		assertTrue(actual.isEmpty());
+		// new scenario: more keys than the initial capacity
+		sb = new StringBuilder("{");
+		expected = new LinkedHashMap<>();
+		for (int i = 0; i < 100; i++)
+		{
+			sb.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":").append(i);
+			expected.put("key" + i, i);
+		}
+		jsonString = sb.append("}").toString();
+		actual = read(jsonString, valueReader);
+		assertEquals(expected, actual);
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+		for (int i = 0; i < 100; i++)
+		{
+			assertEquals(Integer.valueOf(i), actual.get("key" + i));
+		}
+	}
+
+	/**
+	 * Test method for {@link CompactStringMap#read(JsonParser, ObjectReader)} with values of a
+	 * generic type
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadListValues() throws IOException
+	{
+		CompactStringMap<List<String>> actual;
+		ObjectReader valueReader;
+
+		valueReader = ObjectMapperFactory.newObjectMapper().readerFor(List.class);
+		actual = read("{\"a\":[\"x\",\"y\"],\"b\":[]}", valueReader);
+		assertEquals(2, actual.size());
+		assertEquals(2, actual.get("a").size());
+		assertEquals("y", actual.get("a").get(1));
+		assertTrue(actual.get("b").isEmpty());
+	}
+
+	/**
+	 * Test method for {@link CompactStringMap} that all mutating methods throw an
+	 * {@link UnsupportedOperationException}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void testPut() throws IOException
+	{
+		CompactStringMap<Integer> map;
+
+		map = read("{\"a\":1}",
+			ObjectMapperFactory.getJsonCodec(Integer.class).getObjectReader());
+		map.put("b", 2);
+	}
+
+	/**
+	 * Test method for {@link CompactStringMap} that the entries can not be changed
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void testEntrySetValue() throws IOException
+	{
+		CompactStringMap<Integer> map;
+
+		map = read("{\"a\":1}",
+			ObjectMapperFactory.getJsonCodec(Integer.class).getObjectReader());
+		map.entrySet().iterator().next().setValue(2);
+	}
+
+	/**
+	 * Test method for {@link CompactStringMap#read(JsonParser, ObjectReader)} with a json array
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IOException.class)
+	public void testReadNoObject() throws IOException
+	{
+		read("[1,2]", ObjectMapperFactory.getJsonCodec(Integer.class).getObjectReader());
+	}
+
+	private static <V> CompactStringMap<V> read(final String jsonString,
+		final ObjectReader valueReader) throws IOException
+	{
+		try (JsonParser parser = ObjectMapperFactory.newObjectMapper().createParser(jsonString))
+		{
+			return CompactStringMap.read(parser, valueReader);
+		}
+	}
+
+}
@@ -27,7 +27,9 @@ package io.github.astrapi69.json;
 import static org.testng.AssertJUnit.assertEquals;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -113,6 +115,59 @@ public class JSONObjectToObjectExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link JSONObjectToObjectExtensions#toObject(JSONObject, Class)} with
+	 * nested json objects and json arrays, numbers and null values that are built in code
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testToObjectFromTree() throws IOException
+	{
+		Map<String, Object> actual;
+		Map<String, Object> expected;
+		JSONObject jsonObject;
+
+		jsonObject = new JSONObject().put("name", "Anna").put("age", 42)
+			.put("score", 1.5d).put("married", true)
+			.put("nothing", JSONObject.NULL)
+			.put("tags", new JSONArray().put("a").put(new JSONObject().put("b", 2)));
+		actual = JSONObjectToObjectExtensions.toObject(jsonObject, Map.class);
+		expected = new LinkedHashMap<>();
+		expected.put("name", "Anna");
+		expected.put("age", 42);
+		expected.put("score", 1.5d);
+		expected.put("married", true);
+		expected.put("nothing", null);
+		expected.put("tags", List.of("a", Map.of("b", 2)));
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link JSONObjectToObjectExtensions#toObjectList(JSONArray, Class, ObjectMapper)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testToObjectListWithObjectMapper() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+		JSONArray jsonArray;
+
+		jsonArray = new JSONArray()
+			.put(new JSONObject().put("username", "foo").put("password", "bar"))
+			.put(new JSONObject().put("username", "bla").put("password", "fasel"));
+		actual = JSONObjectToObjectExtensions.toObjectList(jsonArray, Signin.class,
+			ObjectMapperFactory.newObjectMapper(true));
+		expected = List.of(Signin.builder().username("foo").password("bar").build(),
+			Signin.builder().username("bla").password("fasel").build());
+		assertEquals(expected, actual);
+	}
+
 	/**
 	 * Test method for {@link JSONObjectToObjectExtensions}
 	 */
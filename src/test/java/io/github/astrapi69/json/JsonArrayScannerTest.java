@@ -0,0 +1,122 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link JsonArrayScanner}
+ */
+public class JsonArrayScannerTest
+{
+
+	/**
+	 * Test method for {@link JsonArrayScanner#scan(FileChannel, long)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testScan() throws IOException
+	{
+		List<String> actual;
+		List<String> expected;
+		String json;
+
+		json = " [ {\"a\":\"],[\"}, \"say \\\"}\\\"\", [1,[2]],\n\"\\\\\", 3 ] ";
+		// a batch size of one puts every element in its own batch
+		actual = scan(json, 1);
+		expected = List.of(" {\"a\":\"],[\"}", " \"say \\\"}\\\"\"", " [1,[2]]", "\n\"\\\\\"",
+			" 3 ");
+		assertEquals(expected, actual);
+		// new scenario: one batch for all elements
+		actual = scan(json, 1024);
+		expected = List.of(" {\"a\":\"],[\"}, \"say \\\"}\\\"\", [1,[2]],\n\"\\\\\", 3 ");
+		assertEquals(expected, actual);
+		// new scenario: an empty array has no batches
+		actual = scan("[ ]", 1);
+		expected = List.of();
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonArrayScanner#scan(FileChannel, long)} with content that is not a
+	 * top level array
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IOException.class)
+	public void testScanWithoutArray() throws IOException
+	{
+		scan("{\"a\":[1]}", 1);
+	}
+
+	/**
+	 * Test method for {@link JsonArrayScanner#scan(FileChannel, long)} with an array that is not
+	 * closed
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IOException.class)
+	public void testScanWithUnclosedArray() throws IOException
+	{
+		scan("[1, \"]\"", 1);
+	}
+
+	private static List<String> scan(final String json, final long batchSize) throws IOException
+	{
+		final byte[] content = json.getBytes(StandardCharsets.UTF_8);
+		final Path path = Files.createTempFile("scan", ".json");
+		try
+		{
+			Files.write(path, content);
+			try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ))
+			{
+				return JsonArrayScanner.scan(fileChannel, batchSize).stream()
+					.map(range -> new String(content, (int)range[0],
+						(int)(range[1] - range[0]), StandardCharsets.UTF_8))
+					.collect(Collectors.toList());
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
@@ -0,0 +1,171 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link JsonChunkFeeder}
+ */
+public class JsonChunkFeederTest
+{
+
+	/**
+	 * Test method for {@link JsonChunkFeeder#feed(byte[], int, int)} and
+	 * {@link JsonChunkFeeder#endOfInput()}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testFeedByteArray() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+		byte[] content;
+
+		content = ("[{\"username\":\"foo\",\"password\":\"bar\"},"
+			+ "{\"username\":\"bla\",\"password\":\"fa}sel\"}]").getBytes(StandardCharsets.UTF_8);
+		actual = new ArrayList<>();
+		try (JsonChunkFeeder<Signin> feeder = JsonChunkFeeder.newByteArrayFeeder(Signin.class,
+			true))
+		{
+			// feed chunks of three bytes and check that the first value comes out before the end
+			for (int offset = 0; offset < content.length; offset += 3)
+			{
+				actual.addAll(
+					feeder.feed(content, offset, Math.min(3, content.length - offset)));
+				if (offset == 45)
+				{
+					assertEquals(1, actual.size());
+				}
+			}
+			actual.addAll(feeder.endOfInput());
+		}
+		expected = List.of(Signin.builder().username("foo").password("bar").build(),
+			Signin.builder().username("bla").password("fa}sel").build());
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonChunkFeeder#feed(byte[])} and
+	 * {@link JsonChunkFeeder#feed(ByteBuffer)} with the parser features of the object reader
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testFeedWithReaderFeatures() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+		ObjectReader objectReader;
+		byte[] content;
+
+		content = "[{/* comment */\"username\":\"foo\"}]".getBytes(StandardCharsets.UTF_8);
+		objectReader = ObjectMapperFactory.newObjectMapper().readerFor(Signin.class)
+			.with(JsonReadFeature.ALLOW_JAVA_COMMENTS);
+		expected = List.of(Signin.builder().username("foo").build());
+		// new scenario: the byte array parser
+		try (JsonChunkFeeder<Signin> feeder = JsonChunkFeeder.newByteArrayFeeder(objectReader,
+			true))
+		{
+			actual = new ArrayList<>(feeder.feed(content));
+			actual.addAll(feeder.endOfInput());
+		}
+		assertEquals(expected, actual);
+		// new scenario: the byte buffer parser
+		try (JsonChunkFeeder<Signin> feeder = JsonChunkFeeder.newByteBufferFeeder(objectReader,
+			true))
+		{
+			actual = new ArrayList<>(feeder.feed(ByteBuffer.wrap(content)));
+			actual.addAll(feeder.endOfInput());
+		}
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonChunkFeeder#feed(ByteBuffer)} with root level values that are
+	 * not unwrapped
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testFeedByteBuffer() throws IOException
+	{
+		List<List<Integer>> actual;
+		List<List<Integer>> expected;
+		ByteBuffer chunk;
+
+		actual = new ArrayList<>();
+		try (JsonChunkFeeder<List<Integer>> feeder = JsonChunkFeeder.newByteBufferFeeder(
+			ObjectMapperFactory.newObjectMapper().readerFor(List.class), false))
+		{
+			chunk = ByteBuffer.allocateDirect(16);
+			chunk.put("[1,2] [3".getBytes(StandardCharsets.UTF_8)).flip();
+			actual.addAll(feeder.feed(chunk));
+			assertEquals(0, chunk.remaining());
+			chunk.clear();
+			chunk.put(",4]\n[]".getBytes(StandardCharsets.UTF_8)).flip();
+			actual.addAll(feeder.feed(chunk));
+			actual.addAll(feeder.endOfInput());
+		}
+		expected = List.of(List.of(1, 2), List.of(3, 4), List.of());
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonChunkFeeder#endOfInput()} with content that ends inside of a
+	 * value
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IOException.class)
+	public void testEndOfInputInsideOfValue() throws IOException
+	{
+		try (JsonChunkFeeder<Signin> feeder = JsonChunkFeeder.newByteArrayFeeder(Signin.class,
+			false))
+		{
+			feeder.feed("{\"username\":".getBytes(StandardCharsets.UTF_8));
+			feeder.endOfInput();
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.file.search.PathFinder;
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link JsonCodec}
+ */
+public class JsonCodecTest
+{
+
+	JsonCodec<Signin> codec;
+	Signin signin;
+	File jsonFile;
+
+	@BeforeMethod
+	protected void setUp()
+	{
+		codec = ObjectMapperFactory.getJsonCodec(Signin.class);
+		signin = Signin.builder().username("foo").password("bar").build();
+		jsonFile = new File(new File(PathFinder.getSrcTestResourcesDir(), "json"), "signin.json");
+	}
+
+	/**
+	 * Test method for {@link JsonCodec#read(String)} and {@link JsonCodec#writeAsString(Object)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadAndWriteString() throws IOException
+	{
+		Signin actual;
+		String jsonString;
+
+		jsonString = codec.writeAsString(signin);
+		actual = codec.read(jsonString);
+		assertEquals(signin, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonCodec#read(byte[])} and {@link JsonCodec#writeAsBytes(Object)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadAndWriteBytes() throws IOException
+	{
+		Signin actual;
+		byte[] bytes;
+
+		bytes = codec.writeAsBytes(signin);
+		actual = codec.read(bytes);
+		assertEquals(signin, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonCodec#read(java.io.InputStream)} and
+	 * {@link JsonCodec#write(Object, java.io.OutputStream)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadAndWriteStream() throws IOException
+	{
+		Signin actual;
+		AtomicBoolean inputClosed;
+		AtomicBoolean outputClosed;
+		ByteArrayOutputStream outputStream;
+
+		outputClosed = new AtomicBoolean();
+		outputStream = new ByteArrayOutputStream()
+		{
+			@Override
+			public void close() throws IOException
+			{
+				outputClosed.set(true);
+				super.close();
+			}
+		};
+		codec.write(signin, outputStream);
+		// the output stream is closed after writing
+		assertTrue(outputClosed.get());
+		inputClosed = new AtomicBoolean();
+		actual = codec.read(new ByteArrayInputStream(outputStream.toByteArray())
+		{
+			@Override
+			public void close() throws IOException
+			{
+				inputClosed.set(true);
+				super.close();
+			}
+		});
+		assertEquals(signin, actual);
+		// the input stream is closed after reading
+		assertTrue(inputClosed.get());
+		assertEquals(codec.writeAsString(signin),
+			new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Test method for {@link JsonCodec#read(File)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadFile() throws IOException
+	{
+		Signin actual;
+
+		actual = codec.read(jsonFile);
+		assertEquals(signin, actual);
+		actual = codec.read(jsonFile.toPath());
+		assertEquals(signin, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonCodec#write(Object, Path)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testWritePath() throws IOException
+	{
+		Signin actual;
+		Path path;
+
+		path = Files.createTempFile("signin", ".json");
+		try
+		{
+			codec.write(signin, path);
+			actual = codec.read(path);
+			assertEquals(signin, actual);
+		}
+		finally
+		{
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
@@ -0,0 +1,250 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * The unit test class for the class {@link JsonColumnarReader}
+ */
+public class JsonColumnarReaderTest
+{
+
+	/**
+	 * Test method for {@link JsonColumnarReader#read(String)} with a column spec
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadWithColumnSpec() throws IOException
+	{
+		JsonColumns actual;
+		JsonColumns.DictionaryColumn symbols;
+		Map<String, JsonColumnType> columnTypes;
+
+		columnTypes = new LinkedHashMap<>();
+		columnTypes.put("timestamp", JsonColumnType.LONG);
+		columnTypes.put("symbol", JsonColumnType.STRING);
+		columnTypes.put("bid", JsonColumnType.DOUBLE);
+		columnTypes.put("size", JsonColumnType.INT);
+		columnTypes.put("open", JsonColumnType.BOOLEAN);
+		actual = JsonColumnarReader.newJsonColumnarReader(columnTypes)
+			.read("[{\"timestamp\":1,\"symbol\":\"FOO\",\"bid\":1.5,\"size\":10,\"open\":true},"
+				+ "{\"symbol\":\"BAR\",\"bid\":2,\"extra\":{\"size\":99},\"timestamp\":2},"
+				+ "{\"timestamp\":3,\"symbol\":\"FOO\",\"bid\":null,\"size\":30,\"open\":false}]");
+		assertEquals(3, actual.getRowCount());
+		assertEquals(Set.of("timestamp", "symbol", "bid", "size", "open"),
+			actual.getColumnNames());
+		assertEquals(JsonColumnType.LONG, actual.getColumnType("timestamp"));
+		assertTrue(Arrays.equals(new long[] { 1L, 2L, 3L }, actual.getLongColumn("timestamp")));
+		assertTrue(Arrays.equals(new double[] { 1.5d, 2.0d, 0.0d }, actual.getDoubleColumn("bid")));
+		assertTrue(Arrays.equals(new int[] { 10, 0, 30 }, actual.getIntColumn("size")));
+		assertTrue(Arrays.equals(new boolean[] { true, false, false },
+			actual.getBooleanColumn("open")));
+		// missing and null values are marked
+		assertFalse(actual.isNull("size", 0));
+		assertTrue(actual.isNull("size", 1));
+		assertTrue(actual.isNull("open", 1));
+		assertTrue(actual.isNull("bid", 2));
+		// the texts are dictionary encoded
+		symbols = actual.getStringColumn("symbol");
+		assertEquals(List.of("FOO", "BAR"), symbols.getDictionary());
+		assertTrue(Arrays.equals(new int[] { 0, 1, 0 }, symbols.getCodes()));
+		assertEquals("BAR", symbols.get(1));
+	}
+
+	/**
+	 * Test method for {@link JsonColumnarReader#read(InputStream)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadInputStream() throws IOException
+	{
+		JsonColumns actual;
+		AtomicBoolean closed;
+		InputStream inputStream;
+		JsonColumnarReader reader;
+
+		reader = JsonColumnarReader
+			.newJsonColumnarReader(Map.of("symbol", JsonColumnType.STRING));
+		closed = new AtomicBoolean();
+		inputStream = new ByteArrayInputStream(
+			"[{\"symbol\":\"FOO\"},{\"symbol\":\"BAR\"}]".getBytes(StandardCharsets.UTF_8))
+		{
+			@Override
+			public void close() throws IOException
+			{
+				closed.set(true);
+				super.close();
+			}
+		};
+		actual = reader.read(inputStream);
+		assertEquals(2, actual.getRowCount());
+		// the input stream is closed after reading
+		assertTrue(closed.get());
+	}
+
+	/**
+	 * Test method for {@link JsonColumns.DictionaryColumn#getDictionary()} that the dictionary
+	 * can not be modified
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void testGetDictionaryUnmodifiable() throws IOException
+	{
+		final JsonColumns columns = JsonColumnarReader
+			.newJsonColumnarReader(Map.of("symbol", JsonColumnType.STRING))
+			.read("[{\"symbol\":\"FOO\"}]");
+		columns.getStringColumn("symbol").getDictionary().set(0, "BAR");
+	}
+
+	/**
+	 * Test method for {@link JsonColumnarReader#newJsonColumnarReader(Class)} and
+	 * {@link JsonColumnarReader#read(byte[])}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadWithClass() throws IOException
+	{
+		JsonColumns actual;
+		JsonColumnarReader reader;
+		StringBuilder jsonArray;
+
+		reader = JsonColumnarReader.newJsonColumnarReader(Tick.class);
+		assertEquals(JsonColumnType.LONG, reader.getColumnTypes().get("ts"));
+		assertEquals(JsonColumnType.STRING, reader.getColumnTypes().get("symbol"));
+		assertEquals(JsonColumnType.DOUBLE, reader.getColumnTypes().get("ask"));
+		assertEquals(JsonColumnType.FLOAT, reader.getColumnTypes().get("spread"));
+		assertFalse(reader.getColumnTypes().containsKey("comment"));
+		// more rows than the initial column buffers hold
+		jsonArray = new StringBuilder("[");
+		for (int row = 0; row < 1000; row++)
+		{
+			jsonArray.append(0 < row ? "," : "").append("{\"ts\":").append(row)
+				.append(",\"symbol\":\"S").append(row % 3).append("\",\"ask\":").append(row)
+				.append(".5,\"comment\":\"skipped\"}");
+		}
+		actual = reader.read(jsonArray.append(']').toString().getBytes(StandardCharsets.UTF_8));
+		assertEquals(1000, actual.getRowCount());
+		assertEquals(1000, actual.getLongColumn("ts").length);
+		assertEquals(999L, actual.getLongColumn("ts")[999]);
+		assertEquals(999.5d, actual.getDoubleColumn("ask")[999]);
+		assertEquals(3, actual.getStringColumn("symbol").getDictionary().size());
+		assertEquals("S0", actual.getStringColumn("symbol").get(999));
+		assertEquals(1000, actual.getFloatColumn("spread").length);
+		assertTrue(actual.isNull("spread", 999));
+	}
+
+	/**
+	 * Test method for {@link JsonColumnarReader#read(String)} with a value that does not fit the
+	 * column type
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = JsonParseException.class)
+	public void testReadWithWrongType() throws IOException
+	{
+		JsonColumnarReader.newJsonColumnarReader(Map.of("size", JsonColumnType.INT))
+			.read("[{\"size\":1.5}]");
+	}
+
+	/**
+	 * Test method for {@link JsonColumnarReader#read(String)} with a json object instead of an
+	 * array
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = JsonParseException.class)
+	public void testReadWithObject() throws IOException
+	{
+		JsonColumnarReader.newJsonColumnarReader(Map.of("size", JsonColumnType.INT))
+			.read("{\"size\":1}");
+	}
+
+	/**
+	 * Test method for {@link JsonColumns#getIntColumn(String)} with a column of another type
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testGetColumnWithOtherType() throws IOException
+	{
+		JsonColumnarReader.newJsonColumnarReader(Map.of("size", JsonColumnType.LONG))
+			.read("[{\"size\":1}]").getIntColumn("size");
+	}
+
+	/**
+	 * The class {@link Tick} is a flat record for the tests
+	 */
+	public static class Tick
+	{
+		/** The timestamp */
+		@JsonProperty("ts")
+		public long timestamp;
+
+		/** The symbol */
+		public String symbol;
+
+		/** The ask */
+		public double ask;
+
+		/** The spread */
+		public Float spread;
+
+		/** The comment that is not read */
+		@JsonIgnore
+		public String comment;
+	}
+
+}
@@ -25,14 +25,22 @@
 package io.github.astrapi69.json;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.BeforeMethod;
@@ -279,4 +287,155 @@ public class JsonFileToObjectExtensionsTest
 		beanTester.testBean(JsonFileToObjectExtensions.class);
 	}
 
+	/**
+	 * Test method for {@link JsonFileToObjectExtensions#streamObjects(File, Class)},
+	 * {@link JsonFileToObjectExtensions#streamObjects(java.nio.file.Path, Class)} and
+	 * {@link JsonFileToObjectExtensions#streamObjects(java.io.InputStream, Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testStreamObjects() throws IOException
+	{
+		List<Employee> actual;
+		List<Employee> expected;
+
+		expected = JsonFileToObjectExtensions.toObjectList(jsonCollectionFile, Employee.class);
+		try (Stream<Employee> stream = JsonFileToObjectExtensions
+			.streamObjects(jsonCollectionFile, Employee.class))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		assertEquals(expected, actual);
+		// new scenario: stream from a path
+		try (Stream<Employee> stream = JsonFileToObjectExtensions
+			.streamObjects(jsonCollectionFile.toPath(), Employee.class))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		assertEquals(expected, actual);
+		// new scenario: stream from an input stream and stop after the first element
+		try (Stream<Employee> stream = JsonFileToObjectExtensions
+			.streamObjects(new FileInputStream(jsonCollectionFile), Employee.class))
+		{
+			actual = stream.limit(1).collect(Collectors.toList());
+		}
+		assertEquals(expected.subList(0, 1), actual);
+	}
+
+	/**
+	 * Test method for {@link JsonFileToObjectExtensions#toObjectMemoryMapped(File, Class)},
+	 * {@link JsonFileToObjectExtensions#toObjectMemoryMapped(File, Class, ObjectMapper)},
+	 * {@link JsonFileToObjectExtensions#toObjectListMemoryMapped(File, Class)} and
+	 * {@link JsonFileToObjectExtensions#streamObjectsMemoryMapped(java.nio.file.Path, Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToObjectMemoryMapped() throws IOException
+	{
+		Employee actual;
+		Employee expected;
+		List<Employee> actualList;
+		List<Employee> expectedList;
+
+		actual = JsonFileToObjectExtensions.toObjectMemoryMapped(jsonFile, Employee.class);
+		expected = JsonFileToObjectExtensions.toObject(jsonFile, Employee.class);
+		assertEquals(expected, actual);
+		// new scenario: read with a given mapper
+		actual = JsonFileToObjectExtensions.toObjectMemoryMapped(jsonFile, Employee.class,
+			ObjectMapperFactory.newObjectMapper());
+		assertEquals(expected, actual);
+		// new scenario: read a top level array into a list
+		actualList = JsonFileToObjectExtensions.toObjectListMemoryMapped(jsonCollectionFile,
+			Employee.class);
+		expectedList = JsonFileToObjectExtensions.toObjectList(jsonCollectionFile,
+			Employee.class);
+		assertEquals(expectedList, actualList);
+		// new scenario: stream the elements of a top level array
+		try (Stream<Employee> stream = JsonFileToObjectExtensions
+			.streamObjectsMemoryMapped(jsonCollectionFile.toPath(), Employee.class))
+		{
+			actualList = stream.collect(Collectors.toList());
+		}
+		assertEquals(expectedList, actualList);
+	}
+
+	/**
+	 * Test method for {@link JsonFileToObjectExtensions#toObjectListParallel(File, Class)} and
+	 * {@link JsonFileToObjectExtensions#toObjectListParallel(File, Class, ForkJoinPool)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToObjectListParallel() throws IOException
+	{
+		List<Employee> actual;
+		List<Employee> expected;
+		List<Signin> actualSignins;
+		List<Signin> expectedSignins;
+		File signinsFile;
+		ForkJoinPool forkJoinPool;
+
+		actual = JsonFileToObjectExtensions.toObjectListParallel(jsonCollectionFile,
+			Employee.class);
+		expected = JsonFileToObjectExtensions.toObjectList(jsonCollectionFile, Employee.class);
+		assertEquals(expected, actual);
+		// new scenario: more elements than fit in one batch with brackets and quotes in strings
+		expectedSignins = IntStream.range(0, 40_000)
+			.mapToObj(index -> Signin.builder().username("user [" + index + "] {\"")
+				.password("pass\\" + index + "},").build())
+			.collect(Collectors.toList());
+		signinsFile = Files.createTempFile("signins", ".json").toFile();
+		forkJoinPool = new ForkJoinPool(3);
+		try
+		{
+			ObjectMapperFactory.newObjectMapper().writeValue(signinsFile, expectedSignins);
+			actualSignins = JsonFileToObjectExtensions.toObjectListParallel(signinsFile,
+				Signin.class, forkJoinPool);
+			assertEquals(expectedSignins, actualSignins);
+		}
+		finally
+		{
+			forkJoinPool.shutdown();
+			Files.deleteIfExists(signinsFile.toPath());
+		}
+	}
+
+	/**
+	 * Test method for {@link JsonFileToObjectExtensions#toDoubleArray(File)} and
+	 * {@link JsonFileToObjectExtensions#toLongArrays(File)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToPrimitiveArray() throws IOException
+	{
+		double[] actual;
+		double[] expected;
+		File seriesFile;
+
+		expected = IntStream.range(0, 10_000).mapToDouble(index -> index * 0.25d).toArray();
+		seriesFile = Files.createTempFile("series", ".json").toFile();
+		try
+		{
+			ObjectMapperFactory.newObjectMapper().writeValue(seriesFile, expected);
+			actual = JsonFileToObjectExtensions.toDoubleArray(seriesFile);
+			assertTrue(Arrays.equals(expected, actual));
+			// new scenario: a time series with a timestamp and a value per row
+			Files.writeString(seriesFile.toPath(), "[[1700000000000, 5], [1700000001000, 7]]");
+			assertTrue(Arrays.deepEquals(
+				new long[][] { { 1700000000000L, 5L }, { 1700000001000L, 7L } },
+				JsonFileToObjectExtensions.toLongArrays(seriesFile)));
+		}
+		finally
+		{
+			Files.deleteIfExists(seriesFile.toPath());
+		}
+	}
+
 }
@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link JsonLinesExtensions}
+ */
+public class JsonLinesExtensionsTest
+{
+
+	/**
+	 * Test method for {@link JsonLinesExtensions#streamObjects(java.io.InputStream, Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testStreamObjects() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+		String jsonLines;
+
+		jsonLines = "{\"username\":\"foo\",\"password\":\"bar\"}\n\n"
+			+ "{\"username\":\"bla\",\"password\":\"fasel\"}\n";
+		try (Stream<Signin> stream = JsonLinesExtensions.streamObjects(
+			new ByteArrayInputStream(jsonLines.getBytes(StandardCharsets.UTF_8)), Signin.class))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		expected = List.of(Signin.builder().username("foo").password("bar").build(),
+			Signin.builder().username("bla").password("fasel").build());
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonLinesExtensions#streamObjects(Path, Class, boolean)} and
+	 * {@link JsonLinesExtensions#toObjectList(Path, Class, ForkJoinPool)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testStreamObjectsParallel() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+		Path jsonLinesPath;
+
+		// more values than fit in one chunk, so the file is split at line boundaries
+		expected = IntStream.range(0, 40_000)
+			.mapToObj(index -> Signin.builder().username("user" + index)
+				.password("password" + index).build())
+			.collect(Collectors.toList());
+		jsonLinesPath = Files.createTempFile("signins", ".jsonl");
+		try
+		{
+			JsonLinesExtensions.writeObjects(expected.stream(), jsonLinesPath);
+			try (Stream<Signin> stream = JsonLinesExtensions.streamObjects(jsonLinesPath,
+				Signin.class, true))
+			{
+				actual = stream.collect(Collectors.toList());
+			}
+			assertEquals(expected, actual);
+			// new scenario: decode on a custom fork join pool
+			ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+			try
+			{
+				actual = JsonLinesExtensions.toObjectList(jsonLinesPath, Signin.class,
+					forkJoinPool);
+			}
+			finally
+			{
+				forkJoinPool.shutdown();
+			}
+			assertEquals(expected, actual);
+		}
+		finally
+		{
+			Files.deleteIfExists(jsonLinesPath);
+		}
+	}
+
+	/**
+	 * Test method for {@link JsonLinesExtensions#writeObjects(Stream, java.io.OutputStream)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testWriteObjects() throws IOException
+	{
+		String actual;
+		String expected;
+		ByteArrayOutputStream outputStream;
+
+		outputStream = new ByteArrayOutputStream();
+		JsonLinesExtensions.writeObjects(Stream.of(List.of(1, 2), List.of(3)), outputStream);
+		actual = outputStream.toString(StandardCharsets.UTF_8);
+		expected = "[1,2]\n[3]\n";
+		assertEquals(expected, actual);
+		// new scenario: an empty stream writes nothing
+		outputStream = new ByteArrayOutputStream();
+		JsonLinesExtensions.writeObjects(Stream.empty(), outputStream);
+		actual = outputStream.toString(StandardCharsets.UTF_8);
+		expected = "";
+		assertEquals(expected, actual);
+	}
+
+}
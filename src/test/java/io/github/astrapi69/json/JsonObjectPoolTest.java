@@ -0,0 +1,264 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link JsonObjectPool}
+ */
+public class JsonObjectPoolTest
+{
+
+	/**
+	 * Test method for {@link JsonObjectPool#acquire()} and {@link JsonObjectPool#release(Object)}
+	 */
+	@Test
+	public void testAcquireAndRelease()
+	{
+		Quote actual;
+		Quote expected;
+		JsonObjectPool<Quote> pool;
+
+		pool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset, 1);
+		expected = pool.acquire();
+		pool.release(expected);
+		assertEquals(1, pool.getIdleCount());
+		actual = pool.acquire();
+		assertSame(expected, actual);
+		assertEquals(0, pool.getIdleCount());
+		// new scenario: released instances above the maximum number of idle instances are dropped
+		pool.release(actual);
+		pool.release(new Quote());
+		assertEquals(1, pool.getIdleCount());
+		assertSame(expected, pool.acquire());
+	}
+
+	/**
+	 * Test method for {@link JsonObjectPool#readValue(String)} and
+	 * {@link JsonObjectPool#readValue(byte[])}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadValue() throws IOException
+	{
+		Quote actual;
+		Quote expected;
+		List<Double> levels;
+		JsonObjectPool<Quote> pool;
+		ObjectMapper mapper;
+
+		pool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset);
+		expected = pool.readValue("{\"symbol\":\"FOO\",\"bid\":1.5,\"levels\":[1.0,2.0]}");
+		levels = expected.levels;
+		pool.release(expected);
+		actual = pool.readValue("{\"symbol\":\"BAR\",\"levels\":[3.0]}".getBytes());
+		assertSame(expected, actual);
+		assertEquals("BAR", actual.symbol);
+		// properties that are not in the content are reset on release
+		assertEquals(0.0d, actual.bid);
+		// the nested list is replaced with the shared mapper
+		assertEquals(List.of(3.0d), actual.levels);
+		assertNotSame(levels, actual.levels);
+		// new scenario: the nested list is updated in place with a merging mapper
+		mapper = ObjectMapperFactory.newObjectMapper(true);
+		mapper.setDefaultMergeable(true);
+		pool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset,
+			JsonObjectPool.DEFAULT_MAX_IDLE, mapper);
+		expected = pool.readValue("{\"symbol\":\"FOO\",\"bid\":1.5,\"levels\":[1.0,2.0]}");
+		levels = expected.levels;
+		pool.release(expected);
+		actual = pool.readValue("{\"symbol\":\"BAR\",\"levels\":[3.0]}");
+		assertSame(expected, actual);
+		assertEquals(0.0d, actual.bid);
+		assertEquals(List.of(3.0d), actual.levels);
+		assertSame(levels, actual.levels);
+	}
+
+	/**
+	 * Test method for {@link JsonObjectPool#readValue(String)} with malformed json content
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = JsonProcessingException.class)
+	public void testReadValueMalformed() throws IOException
+	{
+		final JsonObjectPool<Quote> pool = JsonObjectPool.newJsonObjectPool(Quote.class,
+			Quote::new, Quote::reset);
+		try
+		{
+			pool.readValue("{\"symbol\":");
+		}
+		finally
+		{
+			// the drawn instance goes back to the pool
+			assertEquals(1, pool.getIdleCount());
+		}
+	}
+
+	/**
+	 * Test method for {@link JsonObjectPool#readValue(String)} and
+	 * {@link JsonObjectPool#readValue(byte[])} with content that is read as null
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadValueNull() throws IOException
+	{
+		Quote actual;
+		Quote expected;
+		JsonObjectPool<Quote> pool;
+		SimpleModule module;
+
+		// new scenario: the json literal null keeps the drawn instance
+		pool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset);
+		expected = pool.acquire();
+		pool.release(expected);
+		actual = pool.readValue("null");
+		assertSame(expected, actual);
+		assertEquals(0, pool.getIdleCount());
+		// new scenario: a deserializer that returns null
+		module = new SimpleModule();
+		module.addDeserializer(Quote.class, new StdDeserializer<Quote>(Quote.class)
+		{
+			@Override
+			public Quote deserialize(final JsonParser parser, final DeserializationContext ctxt)
+				throws IOException
+			{
+				parser.skipChildren();
+				return null;
+			}
+		});
+		pool = JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset,
+			JsonObjectPool.DEFAULT_MAX_IDLE,
+			ObjectMapperFactory.newObjectMapper(true).registerModule(module));
+		assertNull(pool.readValue("{\"symbol\":\"FOO\"}"));
+		// the drawn instance goes back to the pool
+		assertEquals(1, pool.getIdleCount());
+		assertNull(pool.readValue("{\"symbol\":\"FOO\"}".getBytes()));
+		assertEquals(1, pool.getIdleCount());
+	}
+
+	/**
+	 * Test method for {@link JsonObjectPool#readValue(String)} with a deserializer that throws a
+	 * runtime exception
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testReadValueRuntimeException() throws IOException
+	{
+		final SimpleModule module = new SimpleModule();
+		module.addDeserializer(Quote.class, new StdDeserializer<Quote>(Quote.class)
+		{
+			@Override
+			public Quote deserialize(final JsonParser parser, final DeserializationContext ctxt)
+			{
+				throw new IllegalArgumentException("No quote");
+			}
+		});
+		final JsonObjectPool<Quote> pool = JsonObjectPool.newJsonObjectPool(Quote.class,
+			Quote::new, Quote::reset, JsonObjectPool.DEFAULT_MAX_IDLE,
+			ObjectMapperFactory.newObjectMapper(true).registerModule(module));
+		try
+		{
+			pool.readValue("{\"symbol\":\"FOO\"}");
+		}
+		finally
+		{
+			// the drawn instance goes back to the pool
+			assertEquals(1, pool.getIdleCount());
+		}
+	}
+
+	/**
+	 * Test method for {@link JsonObjectPool#newJsonObjectPool(Class, java.util.function.Supplier,
+	 * java.util.function.Consumer, int)} with an invalid maximum number of idle instances
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewJsonObjectPoolInvalidMaxIdle()
+	{
+		JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, Quote::reset, 0);
+	}
+
+	/**
+	 * Test method for {@link JsonObjectPool#newJsonObjectPool(Class, java.util.function.Supplier,
+	 * java.util.function.Consumer)} without a reset action
+	 */
+	@Test(expectedExceptions = NullPointerException.class)
+	public void testNewJsonObjectPoolWithoutReset()
+	{
+		JsonObjectPool.newJsonObjectPool(Quote.class, Quote::new, null);
+	}
+
+	/**
+	 * The class {@link Quote} is a small message with a nested list for the tests
+	 */
+	public static class Quote
+	{
+		/** The symbol */
+		public String symbol;
+
+		/** The bid */
+		public double bid;
+
+		/** The price levels */
+		public List<Double> levels = new ArrayList<>();
+
+		/**
+		 * Resets all properties of this quote
+		 */
+		public void reset()
+		{
+			symbol = null;
+			bid = 0.0d;
+			levels.clear();
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.meanbean.test.BeanTester;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * The unit test class for the class {@link JsonProjectionExtensions}
+ */
+public class JsonProjectionExtensionsTest
+{
+
+	/** The json document for the tests */
+	private static final String JSON = "{\"skipped\":{\"text\":\"}]{[\\\"\",\"list\":[1,[2]]},"
+		+ "\"signin\":{\"username\":\"foo\",\"password\":\"bar\"},\"tags\":[\"a\",\"b\"],"
+		+ "\"a/b\":7,\"empty\":null}";
+
+	/**
+	 * Test method for {@link JsonProjectionExtensions#project(byte[], Map)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testProject() throws IOException
+	{
+		Map<String, Object> actual;
+		Map<String, Object> expected;
+		Map<String, Class<?>> pointerTypes;
+
+		pointerTypes = new LinkedHashMap<>();
+		pointerTypes.put("/signin", Signin.class);
+		pointerTypes.put("/signin/username", String.class);
+		pointerTypes.put("/tags/1", String.class);
+		pointerTypes.put("/a~1b", Integer.class);
+		pointerTypes.put("/empty", String.class);
+		pointerTypes.put("/missing/value", String.class);
+		actual = JsonProjectionExtensions.project(JSON.getBytes(StandardCharsets.UTF_8),
+			pointerTypes);
+		expected = new LinkedHashMap<>();
+		expected.put("/signin", Signin.builder().username("foo").password("bar").build());
+		expected.put("/signin/username", "foo");
+		expected.put("/tags/1", "b");
+		expected.put("/a~1b", 7);
+		expected.put("/empty", null);
+		assertEquals(expected, actual);
+		// new scenario: read the values as json nodes
+		actual = JsonProjectionExtensions.project(JSON.getBytes(StandardCharsets.UTF_8),
+			List.of("/tags/0", "/skipped/list/1/0"));
+		expected = Map.of("/tags/0", new TextNode("a"), "/skipped/list/1/0", new IntNode(2));
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonProjectionExtensions#project(java.io.InputStream, Map)} with a
+	 * document that is broken behind the requested values, the read stops before the broken part
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testProjectStopsEarly() throws IOException
+	{
+		Map<String, Object> actual;
+		Map<String, Object> expected;
+		String json;
+
+		json = "{\"id\":42,\"name\":\"foo\",\"rest\":[1,2,@@@ broken";
+		actual = JsonProjectionExtensions.project(
+			new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+			Map.of("/id", Long.class, "/name", String.class));
+		expected = Map.of("/id", 42L, "/name", "foo");
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link JsonProjectionExtensions}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(JsonProjectionExtensions.class);
+	}
+
+}
@@ -25,9 +25,23 @@
 package io.github.astrapi69.json;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,9 +52,16 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsonorg.JsonOrgModule;
 
 import io.github.astrapi69.collection.CollectionExtensions;
@@ -122,6 +143,78 @@ public class JsonStringToObjectExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toCompactMapObject(String, Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToCompactMapObject() throws IOException
+	{
+		Map<String, String> actual;
+		Map<String, String> expected;
+		String jsonString;
+
+		jsonString = "{\"name\":\"foo\",\"city\":\"bar\"}";
+
+		// new scenario: try to convert json to a compact string map
+		actual = JsonStringToObjectExtensions.toCompactMapObject(jsonString, String.class);
+		expected = new LinkedHashMap<>();
+		expected.put("name", "foo");
+		expected.put("city", "bar");
+		assertEquals(expected, actual);
+		assertEquals(Arrays.asList("name", "city"), new ArrayList<>(actual.keySet()));
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toCompactLongMapObject(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToCompactLongMapObject() throws IOException
+	{
+		CompactStringLongMap actual;
+		Map<String, Long> expected;
+		String jsonString;
+
+		jsonString = "{\"1\":0,\"2\":5}";
+
+		// new scenario: try to convert json to a compact long map
+		actual = JsonStringToObjectExtensions.toCompactLongMapObject(jsonString);
+		expected = new LinkedHashMap<>();
+		expected.put("1", 0L);
+		expected.put("2", 5L);
+		assertEquals(expected, actual);
+		assertEquals(5L, actual.getLong("2", -1L));
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toCompactDoubleMapObject(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToCompactDoubleMapObject() throws IOException
+	{
+		CompactStringDoubleMap actual;
+		Map<String, Double> expected;
+		String jsonString;
+
+		jsonString = "{\"x\":1.5,\"y\":2}";
+
+		// new scenario: try to convert json to a compact double map
+		actual = JsonStringToObjectExtensions.toCompactDoubleMapObject(jsonString);
+		expected = new LinkedHashMap<>();
+		expected.put("x", 1.5d);
+		expected.put("y", 2.0d);
+		assertEquals(expected, actual);
+		assertEquals(1.5d, actual.getDouble("x", Double.NaN), 0.0d);
+	}
+
 	/**
 	 * Test method for {@link JsonStringToObjectExtensions#toObject(String, Class)}
 	 *
@@ -306,6 +399,291 @@ public class JsonStringToObjectExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for the byte oriented overloads of {@link JsonStringToObjectExtensions} that take a byte array, a
+	 * {@link ByteBuffer}, an {@link InputStream} or a {@link Path}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToObjectFromBytes() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		List<Signin> actualList;
+		Map<String, String> actualMap;
+		ByteBuffer jsonBuffer;
+		byte[] jsonBytes;
+		Path jsonPath;
+
+		jsonBytes = "{\"username\":\"foo\",\"password\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+		expected = Signin.builder().username("foo").password("bar").build();
+		actual = JsonStringToObjectExtensions.toObject(jsonBytes, Signin.class);
+		assertEquals(expected, actual);
+		actual = JsonStringToObjectExtensions.toObject(jsonBytes, Signin.class,
+			ObjectMapperFactory.newObjectMapper());
+		assertEquals(expected, actual);
+		actual = JsonStringToObjectExtensions.toObject(jsonBytes, new TypeReference<Signin>()
+		{
+		});
+		assertEquals(expected, actual);
+		// new scenario: read from a heap and from a direct byte buffer with a position
+		jsonBuffer = ByteBuffer.allocate(jsonBytes.length + 2);
+		jsonBuffer.put((byte)' ').put(jsonBytes).put((byte)' ').flip().position(1);
+		actual = JsonStringToObjectExtensions.toObject(jsonBuffer, Signin.class);
+		assertEquals(expected, actual);
+		assertEquals(1, jsonBuffer.position());
+		jsonBuffer = ByteBuffer.allocateDirect(jsonBytes.length);
+		jsonBuffer.put(jsonBytes).flip();
+		actual = JsonStringToObjectExtensions.toObject(jsonBuffer, Signin.class);
+		assertEquals(expected, actual);
+		// new scenario: read from an input stream
+		actual = JsonStringToObjectExtensions.toObject(new ByteArrayInputStream(jsonBytes),
+			new TypeReference<Signin>()
+			{
+			}, ObjectMapperFactory.newObjectMapper());
+		assertEquals(expected, actual);
+		// new scenario: read a map and a list from a path
+		jsonPath = Files.createTempFile("signin", ".json");
+		try
+		{
+			Files.write(jsonPath, jsonBytes);
+			actualMap = JsonStringToObjectExtensions.toMapObject(jsonPath,
+				new TypeReference<Map<String, String>>()
+				{
+				});
+			assertEquals(Map.of("username", "foo", "password", "bar"), actualMap);
+			Files.write(jsonPath, "[{\"username\":\"foo\",\"password\":\"bar\"}]".getBytes(StandardCharsets.UTF_8));
+			actualList = JsonStringToObjectExtensions.toObjectList(jsonPath, Signin.class);
+			assertEquals(List.of(expected), actualList);
+		}
+		finally
+		{
+			Files.deleteIfExists(jsonPath);
+		}
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toObjects(java.util.Collection, Class)}
+	 * and {@link JsonStringToObjectExtensions#toObjectsFromBytes(java.util.Collection, Class)}
+	 */
+	@Test
+	public void testToObjects()
+	{
+		BatchResult<Signin> actual;
+		List<Signin> expected;
+		List<String> jsonStrings;
+
+		jsonStrings = new ArrayList<>();
+		expected = new ArrayList<>();
+		for (int index = 0; index < 100; index++)
+		{
+			jsonStrings.add(index % 10 == 3
+				? "{\"username\":\"broken" + index
+				: "{\"username\":\"foo" + index + "\",\"password\":\"bar\"}");
+			expected.add(index % 10 == 3
+				? null
+				: Signin.builder().username("foo" + index).password("bar").build());
+		}
+		jsonStrings.set(5, null);
+		expected.set(5, null);
+		actual = JsonStringToObjectExtensions.toObjects(jsonStrings, Signin.class);
+		assertEquals(expected, actual.getValues());
+		assertTrue(actual.hasFailures());
+		assertEquals(11, actual.getFailures().size());
+		assertEquals(3, actual.getFailures().get(0).getIndex());
+		assertTrue(actual.getFailures().get(0).getCause() instanceof JsonProcessingException);
+		assertEquals(5, actual.getFailures().get(1).getIndex());
+		assertTrue(actual.getFailures().get(1).getCause() instanceof NullPointerException);
+		// new scenario: deserialize in parallel
+		actual = JsonStringToObjectExtensions.toObjects(jsonStrings, Signin.class, true);
+		assertEquals(expected, actual.getValues());
+		assertEquals(11, actual.getFailures().size());
+		assertEquals(93, actual.getFailures().get(10).getIndex());
+		// new scenario: deserialize bytes without failures
+		actual = JsonStringToObjectExtensions.toObjectsFromBytes(
+			List.of("{\"username\":\"foo\",\"password\":\"bar\"}".getBytes(StandardCharsets.UTF_8)),
+			Signin.class, true);
+		assertEquals(List.of(Signin.builder().username("foo").password("bar").build()),
+			actual.getValues());
+		assertFalse(actual.hasFailures());
+	}
+
+	/**
+	 * Test method for
+	 * {@link JsonStringToObjectExtensions#toObjects(Collection, ObjectReader, boolean)} with
+	 * elements that fail with a runtime exception
+	 */
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testToObjectsWithRuntimeException()
+	{
+		BatchResult<Signin> actual;
+		List<Signin> expected;
+		List<String> jsonStrings;
+		ObjectReader objectReader;
+		SimpleModule module;
+		List rawList;
+
+		module = new SimpleModule();
+		module.addDeserializer(Signin.class, new StdDeserializer<Signin>(Signin.class)
+		{
+			@Override
+			public Signin deserialize(final JsonParser parser, final DeserializationContext ctxt)
+				throws IOException
+			{
+				final JsonNode node = parser.readValueAsTree();
+				final String username = node.get("username").asText();
+				if (username.isEmpty())
+				{
+					throw new IllegalArgumentException("The username is empty");
+				}
+				return Signin.builder().username(username).build();
+			}
+		});
+		objectReader = ObjectMapperFactory.newObjectMapper(true).registerModule(module)
+			.readerFor(Signin.class);
+		jsonStrings = List.of("{\"username\":\"foo\"}", "{\"username\":\"\"}",
+			"{\"username\":\"bar\"}");
+		expected = Arrays.asList(Signin.builder().username("foo").build(), null,
+			Signin.builder().username("bar").build());
+		// new scenario: a deserializer that throws is recorded as a failure
+		actual = JsonStringToObjectExtensions.toObjects(jsonStrings, objectReader, false);
+		assertEquals(expected, actual.getValues());
+		assertEquals(1, actual.getFailures().size());
+		assertEquals(1, actual.getFailures().get(0).getIndex());
+		assertTrue(actual.getFailures().get(0).getCause() instanceof IllegalArgumentException);
+		// new scenario: the same in parallel
+		actual = JsonStringToObjectExtensions.toObjects(jsonStrings, objectReader, true);
+		assertEquals(expected, actual.getValues());
+		assertEquals(1, actual.getFailures().size());
+		// new scenario: an element of a raw collection that is no string
+		rawList = new ArrayList<>(jsonStrings);
+		rawList.set(1, Integer.valueOf(42));
+		actual = JsonStringToObjectExtensions.toObjects(rawList, objectReader, false);
+		assertEquals(expected, actual.getValues());
+		assertTrue(actual.getFailures().get(0).getCause() instanceof ClassCastException);
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toIntArray(String)},
+	 * {@link JsonStringToObjectExtensions#toLongArray(String)},
+	 * {@link JsonStringToObjectExtensions#toDoubleArray(String)} and
+	 * {@link JsonStringToObjectExtensions#toFloatArray(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToPrimitiveArray() throws IOException
+	{
+		int[] expected;
+		StringBuilder jsonArray;
+
+		// more elements than the initial buffer holds
+		expected = new int[1000];
+		jsonArray = new StringBuilder("[");
+		for (int index = 0; index < expected.length; index++)
+		{
+			expected[index] = index - 500;
+			jsonArray.append(0 < index ? "," : "").append(expected[index]);
+		}
+		jsonArray.append(']');
+		assertTrue(Arrays.equals(expected,
+			JsonStringToObjectExtensions.toIntArray(jsonArray.toString())));
+		assertTrue(Arrays.equals(new long[] { 1L, 9007199254740993L },
+			JsonStringToObjectExtensions.toLongArray("[1, 9007199254740993]")));
+		assertTrue(Arrays.equals(new double[] { 1.0d, -2.5d, 3e10d },
+			JsonStringToObjectExtensions.toDoubleArray("[1, -2.5, 3e10]")));
+		assertTrue(Arrays.equals(new float[] { 0.5f, 2.0f },
+			JsonStringToObjectExtensions.toFloatArray("[0.5, 2]")));
+		assertTrue(Arrays.equals(new int[0], JsonStringToObjectExtensions.toIntArray("[]")));
+		assertNull(JsonStringToObjectExtensions.toDoubleArray("null"));
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toIntArrays(String)},
+	 * {@link JsonStringToObjectExtensions#toLongArrays(String)},
+	 * {@link JsonStringToObjectExtensions#toDoubleArrays(String)} and
+	 * {@link JsonStringToObjectExtensions#toFloatArrays(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToPrimitiveArrays() throws IOException
+	{
+		double[][] actual;
+
+		actual = JsonStringToObjectExtensions.toDoubleArrays("[[1.5, 2], [], null, [3]]");
+		assertEquals(4, actual.length);
+		assertTrue(Arrays.equals(new double[] { 1.5d, 2.0d }, actual[0]));
+		assertEquals(0, actual[1].length);
+		assertNull(actual[2]);
+		assertTrue(Arrays.equals(new double[] { 3.0d }, actual[3]));
+		assertTrue(Arrays.deepEquals(new int[][] { { 1, 2 }, { 3 } },
+			JsonStringToObjectExtensions.toIntArrays("[[1,2],[3]]")));
+		assertTrue(Arrays.deepEquals(new long[][] { { 4L } },
+			JsonStringToObjectExtensions.toLongArrays("[[4]]")));
+		assertTrue(Arrays.deepEquals(new float[][] { { 0.25f } },
+			JsonStringToObjectExtensions.toFloatArrays("[[0.25]]")));
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toIntArray(String)} with an element that
+	 * is no integer number
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test(expectedExceptions = JsonParseException.class)
+	public void testToIntArrayWithFloatingPointNumber() throws IOException
+	{
+		JsonStringToObjectExtensions.toIntArray("[1, 2.5]");
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#toDoubleArray(String)} with a json
+	 * object
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test(expectedExceptions = JsonParseException.class)
+	public void testToDoubleArrayWithObject() throws IOException
+	{
+		JsonStringToObjectExtensions.toDoubleArray("{\"value\":1}");
+	}
+
+	/**
+	 * Test method for {@link JsonStringToObjectExtensions#updateObject(String, Object)} and
+	 * {@link JsonStringToObjectExtensions#updateObject(byte[], Object, ObjectMapper)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testUpdateObject() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		Signin target;
+
+		target = Signin.builder().username("foo").password("bar").build();
+		actual = JsonStringToObjectExtensions.updateObject("{\"username\":\"bla\"}", target);
+		expected = Signin.builder().username("bla").password("bar").build();
+		assertSame(target, actual);
+		assertEquals(expected, actual);
+		// new scenario: update from bytes with a given mapper
+		actual = JsonStringToObjectExtensions.updateObject(
+			"{\"password\":\"fasel\"}".getBytes(StandardCharsets.UTF_8), target,
+			ObjectMapperFactory.newObjectMapper());
+		expected = Signin.builder().username("bla").password("fasel").build();
+		assertSame(target, actual);
+		assertEquals(expected, actual);
+	}
+
 	/**
 	 * Test method for {@link JsonStringToObjectExtensions}
 	 */
@@ -0,0 +1,132 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link LazyJsonDocument}
+ */
+public class LazyJsonDocumentTest
+{
+
+	/** The json document for the tests */
+	private static final String JSON = "{\"name\":\"Anna\",\"age\":42,\"score\":1.5,"
+		+ "\"tags\":[\"a\",{\"b\":[true,null]},[]],\"esc\\\"aped\":\"}]\",\"empty\":{}}";
+
+	/**
+	 * Test method for {@link LazyJsonDocument#getRoot()} and {@link LazyJsonDocument#at(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testGetRoot() throws IOException
+	{
+		JsonNode actual;
+		JsonNode expected;
+		List<String> fieldNames;
+		LazyJsonDocument document;
+
+		document = LazyJsonDocument.of(JSON.getBytes(StandardCharsets.UTF_8));
+		expected = ObjectMapperFactory.newObjectMapper().readTree(JSON);
+		actual = document.getRoot();
+		// the lazy view is equal to the eagerly read tree and serializes to the same json
+		assertEquals(expected, actual);
+		assertEquals(expected.toString(), actual.toString());
+		assertEquals(13, document.getValueCount());
+		// new scenario: random access with json pointers
+		assertEquals(new TextNode("}]"), document.at("/esc\"aped"));
+		assertEquals(true, document.at("/tags/1/b/0").booleanValue());
+		assertTrue(document.at("/tags/1/b/1").isNull());
+		assertTrue(document.at("/tags/5").isMissingNode());
+		fieldNames = new ArrayList<>();
+		actual.fieldNames().forEachRemaining(fieldNames::add);
+		assertEquals(List.of("name", "age", "score", "tags", "esc\"aped", "empty"), fieldNames);
+		// new scenario: navigated nodes are cached
+		assertSame(document.at("/tags/1"), document.at("/tags/1"));
+	}
+
+	/**
+	 * Test method for {@link LazyJsonDocument#open(Path, boolean)} with a memory mapped file and
+	 * without cached nodes
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testOpen() throws IOException
+	{
+		LazyJsonDocument document;
+		Path jsonPath;
+
+		jsonPath = Files.createTempFile("lazy", ".json");
+		try
+		{
+			Files.write(jsonPath, JSON.getBytes(StandardCharsets.UTF_8));
+			document = LazyJsonDocument.open(jsonPath, false);
+			assertEquals(42, document.at("/age").intValue());
+			assertEquals(1.5d, document.at("/score").doubleValue());
+			assertEquals(3, document.at("/tags").size());
+			assertEquals(document.at("/tags/1"), document.at("/tags/1"));
+			assertTrue(document.at("/tags/1") != document.at("/tags/1"));
+		}
+		finally
+		{
+			Files.deleteIfExists(jsonPath);
+		}
+	}
+
+	/**
+	 * Test method for {@link LazyJsonDocument#getRoot()} with a change of a node
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void testGetRootIsReadOnly() throws IOException
+	{
+		((ObjectNode)LazyJsonDocument.of(JSON.getBytes(StandardCharsets.UTF_8)).getRoot())
+			.put("name", "Andreas");
+	}
+
+}
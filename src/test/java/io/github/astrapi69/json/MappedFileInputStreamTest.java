@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link MappedFileInputStream}
+ */
+public class MappedFileInputStreamTest
+{
+
+	byte[] content;
+	Path path;
+
+	@BeforeMethod
+	protected void setUp() throws IOException
+	{
+		content = new byte[1000];
+		for (int i = 0; i < content.length; i++)
+		{
+			content[i] = (byte)i;
+		}
+		path = Files.createTempFile("mapped", ".bin");
+		Files.write(path, content);
+	}
+
+	@AfterMethod
+	protected void tearDown() throws IOException
+	{
+		Files.deleteIfExists(path);
+	}
+
+	/**
+	 * Test method for {@link MappedFileInputStream#read(byte[], int, int)} and
+	 * {@link MappedFileInputStream#read()}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testRead() throws IOException
+	{
+		byte[] actual;
+		byte[] expected;
+		ByteArrayOutputStream outputStream;
+
+		expected = content;
+		// the region size is smaller than the file, so the file is mapped region by region
+		try (InputStream inputStream = new MappedFileInputStream(path, 64))
+		{
+			actual = inputStream.readAllBytes();
+		}
+		assertTrue(Arrays.equals(expected, actual));
+		// new scenario: read byte by byte
+		outputStream = new ByteArrayOutputStream();
+		try (InputStream inputStream = new MappedFileInputStream(path, 100))
+		{
+			int value;
+			while ((value = inputStream.read()) != -1)
+			{
+				outputStream.write(value);
+			}
+		}
+		actual = outputStream.toByteArray();
+		assertTrue(Arrays.equals(expected, actual));
+	}
+
+	/**
+	 * Test method for {@link MappedFileInputStream#skip(long)} and
+	 * {@link MappedFileInputStream#available()}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testSkip() throws IOException
+	{
+		try (InputStream inputStream = new MappedFileInputStream(path, 64))
+		{
+			assertEquals(1000, inputStream.available());
+			assertEquals(10L, inputStream.skip(10));
+			assertEquals(content[10] & 0xFF, inputStream.read());
+			// skip across the region boundary
+			assertEquals(100L, inputStream.skip(100));
+			assertEquals(content[111] & 0xFF, inputStream.read());
+			assertEquals(888L, inputStream.skip(5000));
+			assertEquals(0, inputStream.available());
+			assertEquals(-1, inputStream.read());
+		}
+	}
+
+}
@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link MappingIteratorExtensions}
+ */
+public class MappingIteratorExtensionsTest
+{
+
+	/**
+	 * Test method for {@link MappingIteratorExtensions#toStream(MappingIterator)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testToStream() throws IOException
+	{
+		List<Integer> actual;
+		List<Integer> expected;
+		MappingIterator<Integer> mappingIterator;
+
+		mappingIterator = ObjectMapperFactory.newObjectMapper().readerFor(Integer.class)
+			.readValues("[1,2,3]");
+		try (Stream<Integer> stream = MappingIteratorExtensions.toStream(mappingIterator))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		expected = List.of(1, 2, 3);
+		assertEquals(expected, actual);
+		// new scenario: closing the stream closes the iterator
+		mappingIterator = ObjectMapperFactory.newObjectMapper().readerFor(Integer.class)
+			.readValues("[1,2,3]");
+		try (Stream<Integer> stream = MappingIteratorExtensions.toStream(mappingIterator))
+		{
+			assertEquals(Integer.valueOf(1), stream.findFirst().get());
+		}
+		assertFalse(mappingIterator.hasNext());
+	}
+
+	/**
+	 * Test method for
+	 * {@link MappingIteratorExtensions#newRootValueIterator(ObjectReader, java.io.InputStream)}
+	 * and {@link MappingIteratorExtensions#newRootValueIterator(ObjectReader, byte[], int, int)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testNewRootValueIterator() throws IOException
+	{
+		List<List<Integer>> actual;
+		List<List<Integer>> expected;
+		ObjectReader objectReader;
+		byte[] content;
+
+		objectReader = ObjectMapperFactory.newObjectMapper().readerFor(List.class);
+		content = "[1,2]\n[3]\n".getBytes(StandardCharsets.UTF_8);
+		// the top level arrays are not unwrapped
+		try (Stream<List<Integer>> stream = MappingIteratorExtensions.toStream(
+			MappingIteratorExtensions.newRootValueIterator(objectReader,
+				new ByteArrayInputStream(content))))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		expected = List.of(List.of(1, 2), List.of(3));
+		assertEquals(expected, actual);
+		// new scenario: only the given range of the byte array is read
+		try (Stream<List<Integer>> stream = MappingIteratorExtensions.toStream(
+			MappingIteratorExtensions.newRootValueIterator(objectReader, content, 6, 4)))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		expected = List.of(List.of(3));
+		assertEquals(expected, actual);
+	}
+
+}
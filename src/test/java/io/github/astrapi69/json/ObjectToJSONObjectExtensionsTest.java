@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.meanbean.test.BeanTester;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
+
+/**
+ * The unit test class for the class {@link ObjectToJSONObjectExtensions}
+ */
+public class ObjectToJSONObjectExtensionsTest
+{
+
+	/**
+	 * Test method for {@link ObjectToJSONObjectExtensions#toJSONObject(Object)} and
+	 * {@link ObjectToJSONObjectExtensions#toJSONObject(Object, ObjectMapper)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testToJSONObject() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		JSONObject jsonObject;
+
+		expected = Signin.builder().username("foo").password("bar").build();
+		jsonObject = ObjectToJSONObjectExtensions.toJSONObject(expected);
+		assertEquals("foo", jsonObject.get("username"));
+		assertEquals("bar", jsonObject.get("password"));
+		// new scenario: the round trip returns an equal object
+		actual = JSONObjectToObjectExtensions.toObject(
+			ObjectToJSONObjectExtensions.toJSONObject(expected,
+				ObjectMapperFactory.newObjectMapper(true)),
+			Signin.class);
+		assertEquals(expected, actual);
+		// new scenario: null values become JSONObject.NULL
+		jsonObject = ObjectToJSONObjectExtensions
+			.toJSONObject(Signin.builder().username("foo").build());
+		assertEquals(JSONObject.NULL, jsonObject.get("password"));
+	}
+
+	/**
+	 * Test method for {@link ObjectToJSONObjectExtensions#toJSONArray(Object)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testToJSONArray() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+		JSONArray jsonArray;
+
+		expected = List.of(Signin.builder().username("foo").password("bar").build(),
+			Signin.builder().username("bla").password("fasel").build());
+		jsonArray = ObjectToJSONObjectExtensions.toJSONArray(expected);
+		assertEquals(2, jsonArray.length());
+		actual = JSONObjectToObjectExtensions.toObjectList(jsonArray, Signin.class);
+		assertEquals(expected, actual);
+		// new scenario: numbers keep their type
+		jsonArray = ObjectToJSONObjectExtensions.toJSONArray(new long[] { 1L, 4_000_000_000L });
+		assertEquals(1L, jsonArray.get(0));
+		assertEquals(4_000_000_000L, jsonArray.get(1));
+	}
+
+	/**
+	 * Test method for {@link ObjectToJSONObjectExtensions#toJSONObject(Object)} with an object
+	 * that is serialized as a json array
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testToJSONObjectWithArray() throws IOException
+	{
+		ObjectToJSONObjectExtensions.toJSONObject(List.of(1, 2));
+	}
+
+	/**
+	 * Test method for {@link ObjectToJSONObjectExtensions}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(ObjectToJSONObjectExtensions.class);
+	}
+
+}
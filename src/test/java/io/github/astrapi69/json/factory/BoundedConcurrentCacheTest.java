@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link BoundedConcurrentCache}
+ */
+public class BoundedConcurrentCacheTest
+{
+
+	/**
+	 * Test method for {@link BoundedConcurrentCache#get(Object, java.util.function.Function)}
+	 */
+	@Test
+	public void testGet()
+	{
+		String actual;
+		String expected;
+		BoundedConcurrentCache<Integer, String> cache;
+		AtomicInteger loaderCalls;
+
+		cache = new BoundedConcurrentCache<>();
+		loaderCalls = new AtomicInteger();
+		expected = cache.get(1, key -> {
+			loaderCalls.incrementAndGet();
+			return "value-" + key;
+		});
+		actual = cache.get(1, key -> {
+			loaderCalls.incrementAndGet();
+			return "other-" + key;
+		});
+		assertSame(expected, actual);
+		assertEquals(1, loaderCalls.get());
+		assertEquals(1L, cache.getStatistics().getHitCount());
+		assertEquals(1L, cache.getStatistics().getMissCount());
+		assertEquals(0.5d, cache.getStatistics().getHitRate());
+	}
+
+	/**
+	 * Test method for {@link BoundedConcurrentCache#getMaxSize()}
+	 */
+	@Test
+	public void testMaxSize()
+	{
+		BoundedConcurrentCache<Integer, Integer> cache;
+		CacheStatistics statistics;
+
+		cache = new BoundedConcurrentCache<>(4);
+		for (int i = 0; i < 10; i++)
+		{
+			cache.get(i, key -> key * 2);
+		}
+		statistics = cache.getStatistics();
+		assertEquals(4, statistics.getSize());
+		assertEquals(4, statistics.getMaxSize());
+		assertEquals(6L, statistics.getEvictionCount());
+		assertEquals(Integer.valueOf(18), cache.getIfPresent(9));
+	}
+
+	/**
+	 * Test method for {@link BoundedConcurrentCache#clear()}
+	 */
+	@Test
+	public void testClear()
+	{
+		BoundedConcurrentCache<Integer, Integer> cache;
+
+		cache = new BoundedConcurrentCache<>();
+		cache.get(1, key -> key);
+		cache.clear();
+		assertNull(cache.getIfPresent(1));
+		assertEquals(0, cache.size());
+		assertEquals(0L, cache.getStatistics().getRequestCount());
+	}
+
+	/**
+	 * Test method for {@link BoundedConcurrentCache#BoundedConcurrentCache(int)}
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewWithInvalidMaxSize()
+	{
+		new BoundedConcurrentCache<Integer, Integer>(0);
+	}
+
+}
@@ -26,7 +26,10 @@ package io.github.astrapi69.json.factory;
 
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -174,4 +177,39 @@ public class JavaTypeFactoryTest
 		assertEquals(actual, expected);
 	}
 
+	/**
+	 * Test method for {@link JavaTypeFactory#newCollectionType(Class, Class)} that checks that the
+	 * resolved {@link JavaType} is cached
+	 */
+	@Test
+	public void testNewCollectionTypeIsCached()
+	{
+		JavaType actual;
+		JavaType expected;
+		expected = JavaTypeFactory.newCollectionType(ArrayList.class, Person.class);
+		actual = JavaTypeFactory.newCollectionType(ArrayList.class, Person.class);
+		assertSame(expected, actual);
+		actual = JavaTypeFactory.newCollectionType(new ObjectMapper(), ArrayList.class,
+			Person.class);
+		assertSame(expected, actual);
+		assertEquals(ArrayList.class, actual.getRawClass());
+		assertEquals(Person.class, actual.getContentType().getRawClass());
+		assertTrue(JavaTypeFactory.getJavaTypeCacheStatistics().getHitCount() > 0);
+	}
+
+	/**
+	 * Test method for {@link JavaTypeFactory#newTypeReference(Class)} that checks that the
+	 * {@link TypeReference} is cached
+	 */
+	@Test
+	public void testNewTypeReferenceIsCached()
+	{
+		TypeReference<Person> actual;
+		TypeReference<Person> expected;
+		expected = JavaTypeFactory.newTypeReference(Person.class);
+		actual = JavaTypeFactory.newTypeReference(Person.class);
+		assertSame(expected, actual);
+		assertEquals(Person.class, actual.getType());
+	}
+
 }
@@ -0,0 +1,107 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.Signin;
+
+/**
+ * The unit test class for the class {@link MapperWarmUp}
+ */
+public class MapperWarmUpTest
+{
+
+	/**
+	 * Test method for {@link MapperWarmUp#warmUp(ObjectMapper, java.util.Collection, boolean)}
+	 */
+	@Test
+	public void testWarmUp()
+	{
+		WarmUpReport actual;
+		ObjectMapper objectMapper;
+		List<JavaType> javaTypes;
+
+		objectMapper = new ObjectMapper();
+		javaTypes = List.of(objectMapper.constructType(Signin.class),
+			objectMapper.constructType(String.class));
+		actual = MapperWarmUp.warmUp(objectMapper, javaTypes, false);
+		assertEquals(javaTypes, List.copyOf(actual.getDurations().keySet()));
+		assertTrue(actual.getSkippedTypes().isEmpty());
+		// new scenario: parallel warm-up keeps the order of the given types
+		actual = MapperWarmUp.warmUp(objectMapper, javaTypes, true);
+		assertEquals(javaTypes, List.copyOf(actual.getDurations().keySet()));
+	}
+
+	/**
+	 * Test method for {@link MapperWarmUp#replay(ObjectMapper, Path, boolean)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReplay() throws IOException
+	{
+		WarmUpReport actual;
+		ObjectMapper objectMapper;
+		TypeRecorder typeRecorder;
+		Path typesFile;
+
+		typeRecorder = new TypeRecorder();
+		objectMapper = new ObjectMapper().registerModule(typeRecorder.newModule());
+		objectMapper.readValue("{\"username\":\"foo\",\"password\":\"bar\"}", Signin.class);
+		assertEquals(List.of(objectMapper.constructType(Signin.class)), typeRecorder.getTypes());
+
+		typesFile = Files.createTempFile("types", ".txt");
+		try
+		{
+			typeRecorder.write(typesFile);
+			Files.write(typesFile, List.of("# comment", "io.github.astrapi69.json.Unknown"),
+				StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+			actual = MapperWarmUp.replay(new ObjectMapper(), typesFile, false);
+			assertEquals(List.of(objectMapper.constructType(Signin.class)),
+				List.copyOf(actual.getDurations().keySet()));
+			assertEquals(List.of("io.github.astrapi69.json.Unknown"), actual.getSkippedTypes());
+		}
+		finally
+		{
+			Files.deleteIfExists(typesFile);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * The unit test class for the class {@link ModulesKey}
+ */
+public class ModulesKeyTest
+{
+
+	/**
+	 * Test method for {@link ModulesKey#equals(Object)} and {@link ModulesKey#hashCode()}
+	 */
+	@Test
+	public void testEqualsAndHashCode()
+	{
+		SimpleModule first;
+		SimpleModule second;
+
+		first = new SimpleModule("module");
+		second = new SimpleModule("module");
+		// new scenario: the same module instances in the same order are equal
+		assertEquals(new ModulesKey(first, second), new ModulesKey(first, second));
+		assertEquals(new ModulesKey(first, second).hashCode(),
+			new ModulesKey(first, second).hashCode());
+		assertTrue(new ModulesKey().equals(new ModulesKey()));
+		// new scenario: modules with the same name are not equal
+		assertFalse(new ModulesKey(first).equals(new ModulesKey(second)));
+		// new scenario: the order of registration is part of the key
+		assertFalse(new ModulesKey(first, second).equals(new ModulesKey(second, first)));
+		assertFalse(new ModulesKey(first).equals(new ModulesKey(first, first)));
+	}
+
+	/**
+	 * Test method for {@link ModulesKey#ModulesKey(com.fasterxml.jackson.databind.Module...)} with
+	 * a null module
+	 */
+	@Test(expectedExceptions = NullPointerException.class)
+	public void testNewModulesKeyWithNullModule()
+	{
+		new ModulesKey(new SimpleModule(), null);
+	}
+
+}
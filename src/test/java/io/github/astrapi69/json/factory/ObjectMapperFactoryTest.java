@@ -27,7 +27,11 @@ package io.github.astrapi69.json.factory;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.meanbean.test.BeanTester;
@@ -35,8 +39,14 @@ import org.testng.annotations.Test;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import io.github.astrapi69.collection.map.MapFactory;
+import io.github.astrapi69.json.JsonCodec;
+import io.github.astrapi69.json.Signin;
 
 /**
  * The unit test class for the class {@link ObjectMapperFactory}
@@ -97,6 +107,131 @@ public class ObjectMapperFactoryTest
 		assertThat(actual, not(expected));
 	}
 
+	/**
+	 * Test method for {@link ObjectMapperFactory#getObjectReader(Map)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testGetObjectReaderMapOfFeatureBoolean() throws IOException
+	{
+		ObjectReader actual;
+		ObjectReader expected;
+		Map<JsonParser.Feature, Boolean> features;
+		CacheStatistics before;
+		CacheStatistics after;
+
+		features = MapFactory.newHashMap();
+		features.put(JsonParser.Feature.ALLOW_COMMENTS, true);
+		expected = ObjectMapperFactory.getObjectReader(features);
+		assertTrue(expected.isEnabled(JsonParser.Feature.ALLOW_COMMENTS));
+		assertEquals(Signin.builder().username("foo").build(), expected.forType(Signin.class)
+			.readValue("{/* comment */\"username\":\"foo\"}"));
+		// new scenario: an equal feature set returns the same shared reader
+		before = ObjectMapperFactory.getObjectMapperCacheStatistics();
+		features = MapFactory.newHashMap();
+		features.put(JsonParser.Feature.ALLOW_COMMENTS, true);
+		actual = ObjectMapperFactory.getObjectReader(features);
+		after = ObjectMapperFactory.getObjectMapperCacheStatistics();
+		assertSame(expected, actual);
+		assertEquals(before.getHitCount() + 1, after.getHitCount());
+		assertEquals(before.getMissCount(), after.getMissCount());
+		// new scenario: a different feature set returns another reader
+		features.put(JsonParser.Feature.ALLOW_COMMENTS, false);
+		actual = ObjectMapperFactory.getObjectReader(features);
+		assertThat(actual, not(expected));
+		assertFalse(actual.isEnabled(JsonParser.Feature.ALLOW_COMMENTS));
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperFactory#getObjectWriter(Map, Map, Map, Map, Map)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testGetObjectWriter() throws IOException
+	{
+		String actual;
+		String expected;
+		ObjectWriter objectWriter;
+		Map<SerializationFeature, Boolean> features;
+
+		features = MapFactory.newHashMap();
+		features.put(SerializationFeature.INDENT_OUTPUT, true);
+		objectWriter = ObjectMapperFactory.getObjectWriter(null, null, null, features, null);
+		assertTrue(objectWriter.isEnabled(SerializationFeature.INDENT_OUTPUT));
+		assertSame(objectWriter,
+			ObjectMapperFactory.getObjectWriter(null, null, null, features, null));
+		// new scenario: the writer writes the runtime type of the value
+		actual = objectWriter.without(SerializationFeature.INDENT_OUTPUT)
+			.writeValueAsString(Map.of("key", "value"));
+		expected = "{\"key\":\"value\"}";
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperFactory#getObjectMapper(com.fasterxml.jackson.databind.Module...)}
+	 */
+	@Test
+	public void testGetObjectMapperWithModules()
+	{
+		ObjectMapper actual;
+		ObjectMapper expected;
+		CacheStatistics before;
+		CacheStatistics after;
+		SimpleModule firstModule;
+
+		firstModule = new SimpleModule("first-module");
+		expected = ObjectMapperFactory.getObjectMapper(firstModule);
+		assertTrue(expected.getRegisteredModuleIds().contains("first-module"));
+		// new scenario: the same module instance returns the same shared mapper
+		before = ObjectMapperFactory.getModuleMapperCacheStatistics();
+		actual = ObjectMapperFactory.getObjectMapper(firstModule);
+		after = ObjectMapperFactory.getModuleMapperCacheStatistics();
+		assertSame(expected, actual);
+		assertEquals(before.getHitCount() + 1, after.getHitCount());
+		// new scenario: another module with the same name returns another mapper
+		actual = ObjectMapperFactory.getObjectMapper(new SimpleModule("first-module"));
+		assertThat(actual, not(expected));
+		// new scenario: other modules return another mapper
+		actual = ObjectMapperFactory.getObjectMapper(firstModule,
+			new SimpleModule("second-module"));
+		assertThat(actual, not(expected));
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperFactory#getJsonCodec(Class)}
+	 */
+	@Test
+	public void testGetJsonCodec()
+	{
+		JsonCodec<Signin> actual;
+		JsonCodec<Signin> expected;
+
+		expected = ObjectMapperFactory.getJsonCodec(Signin.class);
+		assertEquals(Signin.class, expected.getJavaType().getRawClass());
+		actual = ObjectMapperFactory.getJsonCodec(Signin.class);
+		assertSame(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperFactory#warmUp(Class...)}
+	 */
+	@Test
+	public void testWarmUp()
+	{
+		WarmUpReport actual;
+
+		actual = ObjectMapperFactory.warmUp(Signin.class);
+		assertEquals(1, actual.getDurations().size());
+		assertTrue(actual.getSkippedTypes().isEmpty());
+		// new scenario: the shared type recorder is disabled by default
+		assertFalse(ObjectMapperFactory.getTypeRecorder().isEnabled());
+		assertTrue(ObjectMapperFactory.getTypeRecorder().getTypes().isEmpty());
+	}
+
 	/**
 	 * Test method for {@link ObjectMapperFactory}
 	 */
@@ -0,0 +1,132 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.Signin;
+
+/**
+ * The unit test class for the class {@link ObjectMapperProfile}
+ */
+public class ObjectMapperProfileTest
+{
+
+	/** The json string with an unknown property */
+	private static final String UNKNOWN_PROPERTY_JSON = "{\"username\":\"foo\","
+		+ "\"password\":\"bar\",\"unknown\":1}";
+
+	/**
+	 * Test method for {@link ObjectMapperFactory#getObjectMapper(ObjectMapperProfile)}
+	 */
+	@Test
+	public void testGetObjectMapper()
+	{
+		ObjectMapper actual;
+		ObjectMapper expected;
+
+		for (ObjectMapperProfile profile : ObjectMapperProfile.values())
+		{
+			expected = ObjectMapperFactory.getObjectMapper(profile);
+			actual = ObjectMapperFactory.getObjectMapper(profile);
+			assertSame(expected, actual);
+		}
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperProfile#THROUGHPUT}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testThroughput() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		ObjectMapper objectMapper;
+
+		objectMapper = ObjectMapperFactory.getObjectMapper(ObjectMapperProfile.THROUGHPUT);
+		actual = objectMapper.readValue(UNKNOWN_PROPERTY_JSON, Signin.class);
+		expected = Signin.builder().username("foo").password("bar").build();
+		assertEquals(expected, actual);
+		assertEquals(Double.valueOf(1.25), objectMapper.readValue("1.25", Double.class));
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperProfile#LOW_MEMORY}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testLowMemory() throws IOException
+	{
+		Map<?, ?> actual;
+		ObjectMapper objectMapper;
+
+		objectMapper = ObjectMapperFactory.getObjectMapper(ObjectMapperProfile.LOW_MEMORY);
+		actual = objectMapper.readValue("{\"a\":1,\"b\":[1,2]}", Map.class);
+		assertEquals(2, actual.size());
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperProfile#STRICT} with an unknown property
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = JsonMappingException.class)
+	public void testStrictWithUnknownProperty() throws IOException
+	{
+		ObjectMapperFactory.getObjectMapper(ObjectMapperProfile.STRICT)
+			.readValue(UNKNOWN_PROPERTY_JSON, Signin.class);
+	}
+
+	/**
+	 * Test method for {@link ObjectMapperProfile#STRICT} with a nesting depth over the limit
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test(expectedExceptions = StreamConstraintsException.class)
+	public void testStrictWithDeepNesting() throws IOException
+	{
+		final String jsonString = "[".repeat(ObjectMapperProfile.STRICT_MAX_NESTING_DEPTH + 1)
+			+ "]".repeat(ObjectMapperProfile.STRICT_MAX_NESTING_DEPTH + 1);
+		ObjectMapperFactory.getObjectMapper(ObjectMapperProfile.STRICT).readTree(jsonString);
+	}
+
+}
@@ -0,0 +1,91 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The unit test class for the class {@link RecyclerPoolStrategy}
+ */
+public class RecyclerPoolStrategyTest
+{
+
+	/**
+	 * Test method for {@link RecyclerPoolStrategy#newRecyclerPool()}
+	 *
+	 * @throws Exception
+	 *             is thrown if the read of the json string fails
+	 */
+	@Test
+	public void testNewRecyclerPool() throws Exception
+	{
+		RecyclerPool<BufferRecycler> actual;
+		ObjectMapper objectMapper;
+		Map<String, Integer> map;
+
+		for (RecyclerPoolStrategy strategy : RecyclerPoolStrategy.values())
+		{
+			actual = strategy.newRecyclerPool();
+			assertNotNull(actual);
+			objectMapper = ObjectMapperFactory.getObjectMapper(strategy);
+			assertSame(actual, objectMapper.getFactory()._getRecyclerPool());
+			assertSame(objectMapper, ObjectMapperFactory.getObjectMapper(strategy));
+			// new scenario: the mapper reads with the pool of the strategy
+			map = objectMapper.readValue("{\"a\":1,\"b\":2}",
+				new TypeReference<Map<String, Integer>>()
+				{
+				});
+			assertEquals(Integer.valueOf(2), map.get("b"));
+		}
+	}
+
+	/**
+	 * Test method for {@link RecyclerPoolStrategy#forCurrentThread()}
+	 */
+	@Test
+	public void testForCurrentThread()
+	{
+		RecyclerPoolStrategy actual;
+		RecyclerPoolStrategy expected;
+
+		assertFalse(RecyclerPoolStrategy.isVirtual(Thread.currentThread()));
+		actual = RecyclerPoolStrategy.forCurrentThread();
+		expected = RecyclerPoolStrategy.THREAD_LOCAL;
+		assertEquals(expected, actual);
+	}
+
+}
@@ -0,0 +1,173 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.JsonStringToObjectExtensions;
+import io.github.astrapi69.json.Signin;
+
+/**
+ * The unit test class for the class {@link StringInternTable}
+ */
+public class StringInternTableTest
+{
+
+	/**
+	 * Test method for {@link StringInternTable#intern(String)}
+	 */
+	@Test
+	public void testIntern()
+	{
+		String actual;
+		String expected;
+		StringInternTable internTable;
+
+		internTable = new StringInternTable(2, 3);
+		expected = internTable.intern(new String("EUR"));
+		actual = internTable.intern(new String("EUR"));
+		assertSame(expected, actual);
+		assertEquals(1L, internTable.getStatistics().getHitCount());
+		assertEquals(0.5d, internTable.getStatistics().getHitRate());
+		assertNull(internTable.intern(null));
+		// new scenario: strings longer than the maximum length are not interned
+		expected = internTable.intern(new String("EURO"));
+		actual = internTable.intern(new String("EURO"));
+		assertNotSame(expected, actual);
+		assertEquals(1, internTable.getStatistics().getSize());
+		// new scenario: a full table evicts an entry
+		internTable.intern("USD");
+		internTable.intern("GBP");
+		assertEquals(2, internTable.getStatistics().getSize());
+		assertEquals(1L, internTable.getStatistics().getEvictionCount());
+		// new scenario: clear removes the entries and resets the counters
+		internTable.clear();
+		assertEquals(0, internTable.getStatistics().getSize());
+		assertEquals(0L, internTable.getStatistics().getRequestCount());
+	}
+
+	/**
+	 * Test method for {@link StringInternTable#newModule()} and
+	 * {@link StringInternTable#newJsonNodeFactory()} with
+	 * {@link ObjectMapperFactory#newObjectMapper(StringInternTable)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testNewModule() throws IOException
+	{
+		List<Signin> actualList;
+		Map<String, String> actualMap;
+		List<Map<String, Object>> actualUntyped;
+		JsonNode actualNode;
+		ObjectMapper mapper;
+		StringInternTable internTable;
+
+		internTable = new StringInternTable();
+		mapper = ObjectMapperFactory.newObjectMapper(internTable);
+		// bean properties
+		actualList = mapper.readValue("[{\"username\":\"foo\",\"password\":\"EUR\"},"
+			+ "{\"username\":\"bar\",\"password\":\"EUR\"}]", new TypeReference<List<Signin>>()
+			{
+			});
+		assertEquals("EUR", actualList.get(0).getPassword());
+		assertSame(actualList.get(0).getPassword(), actualList.get(1).getPassword());
+		// map keys and values
+		actualMap = mapper.readValue("{\"DE\":\"EUR\",\"FR\":\"EUR\"}",
+			new TypeReference<Map<String, String>>()
+			{
+			});
+		assertSame(actualMap.get("DE"), actualMap.get("FR"));
+		assertSame(actualList.get(0).getPassword(), actualMap.get("DE"));
+		// values of untyped maps
+		actualUntyped = mapper.readValue("[{\"currency\":\"USD\"},{\"currency\":\"USD\"}]",
+			new TypeReference<List<Map<String, Object>>>()
+			{
+			});
+		assertSame(actualUntyped.get(0).get("currency"), actualUntyped.get(1).get("currency"));
+		// text nodes
+		actualNode = mapper.readTree("[{\"currency\":\"GBP\"},{\"currency\":\"GBP\"}]");
+		assertSame(actualNode.get(0).get("currency").textValue(),
+			actualNode.get(1).get("currency").textValue());
+		assertSame(actualUntyped.get(0).get("currency"),
+			internTable.intern(new String("USD")));
+		assertEquals(0L, internTable.getStatistics().getEvictionCount());
+	}
+
+	/**
+	 * Test method for {@link StringInternTable#newModule()} with the shared mappers of
+	 * {@link JsonStringToObjectExtensions#toObject(String, Class, Module...)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testNewModuleWithSharedMapper() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		StringInternTable firstTable;
+		StringInternTable secondTable;
+		String jsonString;
+
+		jsonString = "{\"username\":\"foo\",\"password\":\"EUR\"}";
+		firstTable = new StringInternTable();
+		secondTable = new StringInternTable();
+		// new scenario: modules with the same name intern into their own table
+		expected = JsonStringToObjectExtensions.toObject(jsonString, Signin.class,
+			firstTable.newModule());
+		actual = JsonStringToObjectExtensions.toObject(jsonString, Signin.class,
+			secondTable.newModule());
+		assertSame(expected.getPassword(), firstTable.intern(new String("EUR")));
+		assertSame(actual.getPassword(), secondTable.intern(new String("EUR")));
+		assertNotSame(expected.getPassword(), actual.getPassword());
+	}
+
+	/**
+	 * Test method for {@link StringInternTable#StringInternTable(int, int)} with an invalid maximum
+	 * length
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewStringInternTableInvalidMaxLength()
+	{
+		new StringInternTable(16, -1);
+	}
+
+}
@@ -0,0 +1,95 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.json.factory;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.astrapi69.json.Signin;
+
+/**
+ * The unit test class for the class {@link TypeRecorder}
+ */
+public class TypeRecorderTest
+{
+
+	/**
+	 * Test method for {@link TypeRecorder#setEnabled(boolean)}
+	 *
+	 * @throws JsonProcessingException
+	 *             If an error occurs when reading the json string
+	 */
+	@Test
+	public void testSetEnabled() throws JsonProcessingException
+	{
+		TypeRecorder typeRecorder;
+		ObjectMapper objectMapper;
+		String json;
+
+		json = "{\"username\":\"foo\",\"password\":\"bar\"}";
+		typeRecorder = new TypeRecorder(false, TypeRecorder.DEFAULT_MAX_SIZE);
+		objectMapper = new ObjectMapper().registerModule(typeRecorder.newModule());
+		objectMapper.readValue(json, Signin.class);
+		assertTrue(typeRecorder.getTypes().isEmpty());
+		// new scenario: an enabled recorder records the types built after enabling it
+		typeRecorder.setEnabled(true);
+		objectMapper = new ObjectMapper().registerModule(typeRecorder.newModule());
+		objectMapper.readValue(json, Signin.class);
+		assertEquals(List.of(objectMapper.constructType(Signin.class)), typeRecorder.getTypes());
+	}
+
+	/**
+	 * Test method for {@link TypeRecorder#record(com.fasterxml.jackson.databind.JavaType)}
+	 */
+	@Test
+	public void testRecord()
+	{
+		TypeRecorder typeRecorder;
+		ObjectMapper objectMapper;
+
+		objectMapper = new ObjectMapper();
+		typeRecorder = new TypeRecorder(true, 1);
+		typeRecorder.record(objectMapper.constructType(Signin.class));
+		typeRecorder.record(objectMapper.constructType(TypeRecorderTest.class));
+		assertEquals(List.of(objectMapper.constructType(Signin.class)), typeRecorder.getTypes());
+	}
+
+	/**
+	 * Test method for {@link TypeRecorder#TypeRecorder(boolean, int)}
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewTypeRecorderWithInvalidMaxSize()
+	{
+		new TypeRecorder(true, 0);
+	}
+
+}
@@ -169,6 +169,10 @@ public class ObjectToYamlExtensionsTest
 			+ "    gender: \"FEMALE\"\n" + "    married: false\n" + "    name: \"Tatjana\"\n"
 			+ "    nickname: \"beautiful\"\n" + "  subOrdinates: []\n";
 		assertEquals(actual, expected);
+		// new scenario: non ascii characters do not depend on the platform charset
+		actual = ObjectToYamlExtensions.toYaml(List.of("Zo\u00eb"));
+		expected = "---\n" + "- \"Zo\u00eb\"\n";
+		assertEquals(actual, expected);
 	}
 
 	/**
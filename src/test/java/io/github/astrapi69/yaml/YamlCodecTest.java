@@ -0,0 +1,91 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.yaml;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.file.search.PathFinder;
+import io.github.astrapi69.json.Signin;
+import io.github.astrapi69.yaml.factory.YAMLMapperFactory;
+
+/**
+ * The unit test class for the class {@link YamlCodec}
+ */
+public class YamlCodecTest
+{
+
+	YamlCodec<Signin> codec;
+	Signin signin;
+	File yamlFile;
+
+	@BeforeMethod
+	protected void setUp()
+	{
+		codec = YAMLMapperFactory.getYamlCodec(Signin.class);
+		signin = Signin.builder().username("foo").password("bar").build();
+		yamlFile = new File(new File(PathFinder.getSrcTestResourcesDir(), "yaml"), "signin.yaml");
+	}
+
+	/**
+	 * Test method for {@link YamlCodec#read(String)} and {@link YamlCodec#writeAsString(Object)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadAndWriteString() throws IOException
+	{
+		Signin actual;
+		String yamlString;
+
+		yamlString = codec.writeAsString(signin);
+		actual = codec.read(yamlString);
+		assertEquals(signin, actual);
+	}
+
+	/**
+	 * Test method for {@link YamlCodec#read(File)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testReadFile() throws IOException
+	{
+		Signin actual;
+
+		actual = codec.read(yamlFile);
+		assertEquals(signin, actual);
+		actual = codec.read(yamlFile.toPath());
+		assertEquals(signin, actual);
+	}
+
+}
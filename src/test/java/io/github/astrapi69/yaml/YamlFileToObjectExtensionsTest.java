@@ -27,12 +27,15 @@ package io.github.astrapi69.yaml;
 import static org.testng.AssertJUnit.assertEquals;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.BeforeMethod;
@@ -46,6 +49,7 @@ import io.github.astrapi69.collection.list.ListFactory;
 import io.github.astrapi69.collection.map.MapFactory;
 import io.github.astrapi69.collection.set.SetFactory;
 import io.github.astrapi69.file.search.PathFinder;
+import io.github.astrapi69.json.Signin;
 import io.github.astrapi69.test.object.Employee;
 import io.github.astrapi69.test.object.Person;
 import io.github.astrapi69.test.object.enumeration.Gender;
@@ -63,6 +67,7 @@ public class YamlFileToObjectExtensionsTest
 
 	File yamlMapFile;
 	File yamlListFile;
+	File yamlDocumentsFile;
 
 	@BeforeMethod
 	protected void setUp()
@@ -72,6 +77,7 @@ public class YamlFileToObjectExtensionsTest
 		yamlListFile = new File(yamlDir, "employees.yaml");
 		yamlMapFile = new File(yamlDir, "map.yaml");
 		yamlCollectionFile = new File(yamlDir, "collection.yaml");
+		yamlDocumentsFile = new File(yamlDir, "signins.yaml");
 	}
 
 	/**
@@ -278,4 +284,66 @@ public class YamlFileToObjectExtensionsTest
 		beanTester.testBean(YamlFileToObjectExtensions.class);
 	}
 
+	/**
+	 * Test method for {@link YamlFileToObjectExtensions#streamObjects(File, Class)},
+	 * {@link YamlFileToObjectExtensions#streamObjects(java.nio.file.Path, Class)} and
+	 * {@link YamlFileToObjectExtensions#streamObjects(java.io.InputStream, Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testStreamObjects() throws IOException
+	{
+		List<Signin> actual;
+		List<Signin> expected;
+
+		expected = ListFactory.newArrayList(
+			Signin.builder().username("foo").password("bar").build(),
+			Signin.builder().username("bla").password("fasel").build(),
+			Signin.builder().username("john").password("doe").build());
+		try (Stream<Signin> stream = YamlFileToObjectExtensions.streamObjects(yamlDocumentsFile,
+			Signin.class))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		assertEquals(expected, actual);
+		// new scenario: stream from a path
+		try (Stream<Signin> stream = YamlFileToObjectExtensions
+			.streamObjects(yamlDocumentsFile.toPath(), Signin.class))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		assertEquals(expected, actual);
+		// new scenario: stream from an input stream and stop after the second document
+		try (Stream<Signin> stream = YamlFileToObjectExtensions
+			.streamObjects(new FileInputStream(yamlDocumentsFile), Signin.class))
+		{
+			actual = stream.limit(2).collect(Collectors.toList());
+		}
+		assertEquals(expected.subList(0, 2), actual);
+	}
+
+	/**
+	 * Test method for {@link YamlFileToObjectExtensions#streamObjects(File, Class)} with a single
+	 * document that is a sequence
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testStreamObjectsWithSequenceDocument() throws IOException
+	{
+		List<List> actual;
+
+		try (Stream<List> stream = YamlFileToObjectExtensions.streamObjects(yamlListFile,
+			List.class))
+		{
+			actual = stream.collect(Collectors.toList());
+		}
+		assertEquals(1, actual.size());
+		assertEquals(3, actual.get(0).size());
+	}
+
 }
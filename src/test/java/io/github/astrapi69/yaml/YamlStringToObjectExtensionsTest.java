@@ -25,9 +25,20 @@
 package io.github.astrapi69.yaml;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +49,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,6 +60,9 @@ import io.github.astrapi69.collection.list.ListFactory;
 import io.github.astrapi69.collection.map.MapFactory;
 import io.github.astrapi69.collection.set.SetFactory;
 import io.github.astrapi69.file.search.PathFinder;
+import io.github.astrapi69.json.BatchResult;
+import io.github.astrapi69.json.CompactStringDoubleMap;
+import io.github.astrapi69.json.CompactStringLongMap;
 import io.github.astrapi69.json.Signin;
 import io.github.astrapi69.test.object.Employee;
 import io.github.astrapi69.test.object.Person;
@@ -123,6 +138,78 @@ public class YamlStringToObjectExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link YamlStringToObjectExtensions#toCompactMapObject(String, Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToCompactMapObject() throws IOException
+	{
+		Map<String, String> actual;
+		Map<String, String> expected;
+		String yamlString;
+
+		yamlString = "name: foo\ncity: bar\n";
+
+		// new scenario: try to convert yaml to a compact string map
+		actual = YamlStringToObjectExtensions.toCompactMapObject(yamlString, String.class);
+		expected = new LinkedHashMap<>();
+		expected.put("name", "foo");
+		expected.put("city", "bar");
+		assertEquals(expected, actual);
+		assertEquals(Arrays.asList("name", "city"), new ArrayList<>(actual.keySet()));
+	}
+
+	/**
+	 * Test method for {@link YamlStringToObjectExtensions#toCompactLongMapObject(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToCompactLongMapObject() throws IOException
+	{
+		CompactStringLongMap actual;
+		Map<String, Long> expected;
+		String yamlString;
+
+		yamlString = "\"1\": 0\n\"2\": 5\n";
+
+		// new scenario: try to convert yaml to a compact long map
+		actual = YamlStringToObjectExtensions.toCompactLongMapObject(yamlString);
+		expected = new LinkedHashMap<>();
+		expected.put("1", 0L);
+		expected.put("2", 5L);
+		assertEquals(expected, actual);
+		assertEquals(5L, actual.getLong("2", -1L));
+	}
+
+	/**
+	 * Test method for {@link YamlStringToObjectExtensions#toCompactDoubleMapObject(String)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToCompactDoubleMapObject() throws IOException
+	{
+		CompactStringDoubleMap actual;
+		Map<String, Double> expected;
+		String yamlString;
+
+		yamlString = "x: 1.5\ny: 2\n";
+
+		// new scenario: try to convert yaml to a compact double map
+		actual = YamlStringToObjectExtensions.toCompactDoubleMapObject(yamlString);
+		expected = new LinkedHashMap<>();
+		expected.put("x", 1.5d);
+		expected.put("y", 2.0d);
+		assertEquals(expected, actual);
+		assertEquals(1.5d, actual.getDouble("x", Double.NaN), 0.0d);
+	}
+
 	/**
 	 * Test method for {@link YamlStringToObjectExtensions#toObject(String, Class)}
 	 *
@@ -278,6 +365,29 @@ public class YamlStringToObjectExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link YamlStringToObjectExtensions#toObject(String, Class, boolean)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToObjectWithNewMapperFlag() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		String yamlString;
+
+		yamlString = "username: foo\npassword: bar\n";
+		expected = Signin.builder().username("foo").password("bar").build();
+		// new scenario: with the cached reader of the default mapper
+		actual = YamlStringToObjectExtensions.toObject(yamlString, Signin.class, false);
+		assertEquals(expected, actual);
+		// new scenario: with a new mapper
+		actual = YamlStringToObjectExtensions.toObject(yamlString, Signin.class, true);
+		assertEquals(expected, actual);
+	}
+
 	/**
 	 * Test method for {@link YamlStringToObjectExtensions#toObject(String, Class)}
 	 *
@@ -307,6 +417,117 @@ public class YamlStringToObjectExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for the byte oriented overloads of {@link YamlStringToObjectExtensions} that take a byte array, a
+	 * {@link ByteBuffer}, an {@link InputStream} or a {@link Path}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testToObjectFromBytes() throws IOException
+	{
+		Signin actual;
+		Signin expected;
+		List<Signin> actualList;
+		Map<String, String> actualMap;
+		ByteBuffer yamlBuffer;
+		byte[] yamlBytes;
+		Path yamlPath;
+
+		yamlBytes = "username: foo\npassword: bar\n".getBytes(StandardCharsets.UTF_8);
+		expected = Signin.builder().username("foo").password("bar").build();
+		actual = YamlStringToObjectExtensions.toObject(yamlBytes, Signin.class);
+		assertEquals(expected, actual);
+		actual = YamlStringToObjectExtensions.toObject(yamlBytes, Signin.class,
+			YAMLMapperFactory.newYAMLMapper(true));
+		assertEquals(expected, actual);
+		actual = YamlStringToObjectExtensions.toObject(yamlBytes, new TypeReference<Signin>()
+		{
+		});
+		assertEquals(expected, actual);
+		// new scenario: read from a heap and from a direct byte buffer with a position
+		yamlBuffer = ByteBuffer.allocate(yamlBytes.length + 2);
+		yamlBuffer.put((byte)' ').put(yamlBytes).put((byte)' ').flip().position(1);
+		actual = YamlStringToObjectExtensions.toObject(yamlBuffer, Signin.class);
+		assertEquals(expected, actual);
+		assertEquals(1, yamlBuffer.position());
+		yamlBuffer = ByteBuffer.allocateDirect(yamlBytes.length);
+		yamlBuffer.put(yamlBytes).flip();
+		actual = YamlStringToObjectExtensions.toObject(yamlBuffer, Signin.class);
+		assertEquals(expected, actual);
+		// new scenario: read from an input stream
+		actual = YamlStringToObjectExtensions.toObject(new ByteArrayInputStream(yamlBytes),
+			new TypeReference<Signin>()
+			{
+			}, YAMLMapperFactory.newYAMLMapper(true));
+		assertEquals(expected, actual);
+		// new scenario: read a map and a list from a path
+		yamlPath = Files.createTempFile("signin", ".yaml");
+		try
+		{
+			Files.write(yamlPath, yamlBytes);
+			actualMap = YamlStringToObjectExtensions.toMapObject(yamlPath,
+				new TypeReference<Map<String, String>>()
+				{
+				});
+			assertEquals(Map.of("username", "foo", "password", "bar"), actualMap);
+			Files.write(yamlPath, "- username: foo\n  password: bar\n".getBytes(StandardCharsets.UTF_8));
+			actualList = YamlStringToObjectExtensions.toObjectList(yamlPath, Signin.class);
+			assertEquals(List.of(expected), actualList);
+		}
+		finally
+		{
+			Files.deleteIfExists(yamlPath);
+		}
+	}
+
+	/**
+	 * Test method for {@link YamlStringToObjectExtensions#toObjects(java.util.Collection, Class)}
+	 * and {@link YamlStringToObjectExtensions#toObjectsFromBytes(java.util.Collection, Class)}
+	 */
+	@Test
+	public void testToObjects()
+	{
+		BatchResult<Signin> actual;
+		List<Signin> expected;
+		List<String> jsonStrings;
+
+		jsonStrings = new ArrayList<>();
+		expected = new ArrayList<>();
+		for (int index = 0; index < 100; index++)
+		{
+			jsonStrings.add(index % 10 == 3
+				? "username: [broken" + index
+				: "username: foo" + index + "\npassword: bar");
+			expected.add(index % 10 == 3
+				? null
+				: Signin.builder().username("foo" + index).password("bar").build());
+		}
+		jsonStrings.set(5, null);
+		expected.set(5, null);
+		actual = YamlStringToObjectExtensions.toObjects(jsonStrings, Signin.class);
+		assertEquals(expected, actual.getValues());
+		assertTrue(actual.hasFailures());
+		assertEquals(11, actual.getFailures().size());
+		assertEquals(3, actual.getFailures().get(0).getIndex());
+		assertTrue(actual.getFailures().get(0).getCause() instanceof JsonProcessingException);
+		assertEquals(5, actual.getFailures().get(1).getIndex());
+		assertTrue(actual.getFailures().get(1).getCause() instanceof NullPointerException);
+		// new scenario: deserialize in parallel
+		actual = YamlStringToObjectExtensions.toObjects(jsonStrings, Signin.class, true);
+		assertEquals(expected, actual.getValues());
+		assertEquals(11, actual.getFailures().size());
+		assertEquals(93, actual.getFailures().get(10).getIndex());
+		// new scenario: deserialize bytes without failures
+		actual = YamlStringToObjectExtensions.toObjectsFromBytes(
+			List.of("username: foo\npassword: bar".getBytes(StandardCharsets.UTF_8)),
+			Signin.class, true);
+		assertEquals(List.of(Signin.builder().username("foo").password("bar").build()),
+			actual.getValues());
+		assertFalse(actual.hasFailures());
+	}
+
 	/**
 	 * Test method for {@link YamlStringToObjectExtensions}
 	 */
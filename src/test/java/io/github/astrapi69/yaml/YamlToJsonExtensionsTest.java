@@ -25,18 +25,29 @@
 package io.github.astrapi69.yaml;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import io.github.astrapi69.file.delete.DeleteFileExtensions;
 import io.github.astrapi69.file.read.ReadFileExtensions;
 import io.github.astrapi69.file.search.PathFinder;
+import io.github.astrapi69.json.factory.ObjectMapperFactory;
 
 /**
  * The unit test class for the class {@link YamlToJsonExtensions}
@@ -455,4 +466,52 @@ public class YamlToJsonExtensionsTest
 		final BeanTester beanTester = new BeanTester();
 		beanTester.testBean(YamlToJsonExtensions.class);
 	}
+
+	/**
+	 * Test method for {@link YamlToJsonExtensions#toJson(String, boolean)} with concurrent callers
+	 * that mix pretty and compact output
+	 *
+	 * @throws InterruptedException
+	 *             if a thread was interrupted while waiting
+	 * @throws ExecutionException
+	 *             if a caller has thrown an exception
+	 */
+	@Test
+	public void testToJsonWithConcurrentMixedPrettyPrint()
+		throws InterruptedException, ExecutionException
+	{
+		final String yamlString = "username: \"foo\"\npassword: \"bar\"\n";
+		final String compactExpected = "{\"username\":\"foo\",\"password\":\"bar\"}";
+		final String prettyExpected = "{\n" + "  \"username\" : \"foo\",\n"
+			+ "  \"password\" : \"bar\"\n" + "}";
+		final int threads = Runtime.getRuntime().availableProcessors() * 2;
+		final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try
+		{
+			final List<Callable<Boolean>> callers = new ArrayList<>();
+			for (int i = 0; i < threads * 100; i++)
+			{
+				final boolean prettyPrint = i % 2 == 0;
+				callers.add(() -> {
+					String actual = YamlToJsonExtensions.toJson(yamlString, prettyPrint)
+						.replace("\r", "");
+					return prettyPrint
+						? prettyExpected.equals(actual)
+						: compactExpected.equals(actual);
+				});
+			}
+			for (Future<Boolean> future : executorService.invokeAll(callers))
+			{
+				assertEquals(Boolean.TRUE, future.get());
+			}
+		}
+		finally
+		{
+			executorService.shutdownNow();
+		}
+		// the shared mapper is not changed from the pretty print calls
+		assertFalse(ObjectMapperFactory.newObjectMapper()
+			.isEnabled(SerializationFeature.INDENT_OUTPUT));
+	}
+
 }
@@ -24,15 +24,29 @@
  */
 package io.github.astrapi69.yaml.factory;
 
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.io.IOException;
+import java.util.Map;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.Test;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
+import io.github.astrapi69.json.Signin;
+import io.github.astrapi69.json.factory.CacheStatistics;
 import io.github.astrapi69.json.factory.ObjectMapperFactory;
+import io.github.astrapi69.json.factory.StringInternTable;
+import io.github.astrapi69.yaml.YamlCodec;
 
 
 /**
@@ -78,6 +92,103 @@ public class YAMLMapperFactoryTest
 		assertNotNull(actual);
 	}
 
+	/**
+	 * Test method for {@link YAMLMapperFactory#newYAMLMapper(StringInternTable)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testNewYAMLMapperWithStringInternTable() throws IOException
+	{
+		Map<String, Map<String, String>> actual;
+		StringInternTable internTable;
+
+		internTable = new StringInternTable();
+		actual = YAMLMapperFactory.newYAMLMapper(internTable).readValue(
+			"first:\n  currency: EUR\nsecond:\n  currency: EUR\n",
+			new TypeReference<Map<String, Map<String, String>>>()
+			{
+			});
+		assertEquals("EUR", actual.get("first").get("currency"));
+		assertSame(actual.get("first").get("currency"), actual.get("second").get("currency"));
+		assertSame(actual.get("first").keySet().iterator().next(),
+			actual.get("second").keySet().iterator().next());
+	}
+
+	/**
+	 * Test method for {@link YAMLMapperFactory#getObjectReader(Class)}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testGetObjectReader() throws IOException
+	{
+		ObjectReader actual;
+		ObjectReader expected;
+		CacheStatistics before;
+		CacheStatistics after;
+
+		expected = YAMLMapperFactory.getObjectReader(Signin.class);
+		before = YAMLMapperFactory.getObjectReaderCacheStatistics();
+		actual = YAMLMapperFactory.getObjectReader(Signin.class);
+		after = YAMLMapperFactory.getObjectReaderCacheStatistics();
+		assertSame(expected, actual);
+		assertEquals(before.getHitCount() + 1, after.getHitCount());
+		assertEquals(Signin.builder().username("foo").password("bar").build(),
+			actual.readValue("username: foo\npassword: bar\n"));
+	}
+
+	/**
+	 * Test method for {@link YAMLMapperFactory#getObjectWriter(Class)}
+	 */
+	@Test
+	public void testGetObjectWriter()
+	{
+		ObjectWriter actual;
+		ObjectWriter expected;
+
+		expected = YAMLMapperFactory.getObjectWriter(Signin.class);
+		actual = YAMLMapperFactory.getObjectWriter(Signin.class);
+		assertSame(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link YAMLMapperFactory#getYamlCodec(Class)}
+	 */
+	@Test
+	public void testGetYamlCodec()
+	{
+		YamlCodec<Signin> actual;
+		YamlCodec<Signin> expected;
+
+		expected = YAMLMapperFactory.getYamlCodec(Signin.class);
+		assertSame(YAMLMapperFactory.getObjectReader(Signin.class), expected.getObjectReader());
+		actual = YAMLMapperFactory.getYamlCodec(Signin.class);
+		assertSame(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link YAMLMapperFactory#getYAMLMapper(com.fasterxml.jackson.databind.Module...)}
+	 */
+	@Test
+	public void testGetYAMLMapperWithModules()
+	{
+		YAMLMapper actual;
+		YAMLMapper expected;
+		SimpleModule module;
+
+		module = new SimpleModule("yaml-module");
+		expected = YAMLMapperFactory.getYAMLMapper(module);
+		// new scenario: the same module instance returns the same shared mapper
+		actual = YAMLMapperFactory.getYAMLMapper(module);
+		assertSame(expected, actual);
+		// new scenario: another module with the same name returns another mapper
+		actual = YAMLMapperFactory.getYAMLMapper(new SimpleModule("yaml-module"));
+		assertNotSame(expected, actual);
+	}
+
 	/**
 	 * Test method for {@link YAMLMapperFactory}
 	 */